@@ -1,5 +1,6 @@
 package com.reptilemanagement.config;
 
+import com.reptilemanagement.shared.storage.BlobStore;
 import org.flywaydb.core.Flyway;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
@@ -13,10 +14,11 @@ import java.util.Arrays;
 public class FlywayConfig {
 
     @Bean
-    public Flyway flyway(DataSource dataSource) {
+    public Flyway flyway(DataSource dataSource, BlobStore blobStore) {
         Flyway flyway = Flyway.configure()
                 .dataSource(dataSource)
                 .locations("classpath:db/migration")
+                .javaMigrations(new ImageDataBlobStoreMigration(blobStore))
                 .load();
         flyway.migrate();
         return flyway;
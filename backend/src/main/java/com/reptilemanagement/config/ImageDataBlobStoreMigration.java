@@ -0,0 +1,87 @@
+package com.reptilemanagement.config;
+
+import com.reptilemanagement.shared.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * V5: Moves image bytes out of the {@code reptile_image_data} table into the {@link BlobStore}
+ * and keeps only the content hash on {@code reptile_images}.
+ * <p>
+ * Implemented in Java because the bytes have to be written to the blob store, which SQL
+ * migrations cannot reach. Rows are streamed one at a time so the migration never holds
+ * more than one image in memory.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ImageDataBlobStoreMigration implements JavaMigration {
+
+    private final BlobStore blobStore;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("5");
+    }
+
+    @Override
+    public String getDescription() {
+        return "move image data to blob store";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE reptile_images ADD COLUMN content_hash VARCHAR(64)");
+        }
+
+        int moved = 0;
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE reptile_images SET content_hash = ?, size = ? WHERE id = ?")) {
+            // A fetch size only takes effect with auto-commit off, which holds inside the migration transaction
+            select.setFetchSize(1);
+            try (ResultSet rows = select.executeQuery("SELECT image_id, data FROM reptile_image_data")) {
+                while (rows.next()) {
+                    BlobStore.StoredBlob blob;
+                    try (InputStream data = rows.getBinaryStream("data")) {
+                        blob = blobStore.store(data);
+                    }
+                    update.setString(1, blob.hash());
+                    update.setLong(2, blob.size());
+                    update.setLong(3, rows.getLong("image_id"));
+                    update.executeUpdate();
+                    moved++;
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE reptile_images ALTER COLUMN content_hash SET NOT NULL");
+            statement.execute("CREATE INDEX idx_reptile_images_content_hash ON reptile_images (content_hash)");
+            statement.execute("DROP TABLE reptile_image_data");
+        }
+
+        log.info("Moved {} images into the blob store", moved);
+    }
+}
@@ -0,0 +1,12 @@
+package com.reptilemanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs such as the nightly care summary reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
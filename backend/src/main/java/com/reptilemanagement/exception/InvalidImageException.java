@@ -0,0 +1,14 @@
+package com.reptilemanagement.exception;
+
+/**
+ * Thrown when an uploaded file is not a supported, intact image.
+ */
+public class InvalidImageException extends InvalidRequestException {
+    public InvalidImageException(String message) {
+        super(message);
+    }
+
+    public InvalidImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
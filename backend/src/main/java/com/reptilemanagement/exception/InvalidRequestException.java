@@ -0,0 +1,14 @@
+package com.reptilemanagement.exception;
+
+/**
+ * Thrown when a request is malformed or violates a validation rule, answered with 400 Bad Request.
+ */
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -22,7 +22,8 @@ import lombok.NoArgsConstructor;
 public class Enclosure extends BaseEntity<Long> implements EntityUpdatable<EnclosureDto> {
     /** Unique identifier for the enclosure */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enclosures_id_seq")
+    @SequenceGenerator(name = "enclosures_id_seq", sequenceName = "enclosures_id_seq", allocationSize = 50)
     private Long id;
 
     /** Name of the enclosure */
@@ -60,6 +61,10 @@ public class Enclosure extends BaseEntity<Long> implements EntityUpdatable<Enclo
     @Column(length = 1000)
     private String notes;
 
+    /** Days between cleanings; learned from the cleaning history when null */
+    @Column(name = "cleaning_interval_days")
+    private Integer cleaningIntervalDays;
+
     /** Enumeration of possible enclosure types */
     public enum EnclosureType {
         TERRARIUM, VIVARIUM, PALUDARIUM, AQUATERRAIUM, CUSTOM
@@ -80,5 +85,6 @@ public class Enclosure extends BaseEntity<Long> implements EntityUpdatable<Enclo
         this.humidity = dto.getHumidity();
         this.temperature = dto.getTemperature();
         this.notes = dto.getNotes();
+        this.cleaningIntervalDays = dto.getCleaningIntervalDays();
     }
 }
\ No newline at end of file
@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class EnclosureCleaning extends BaseEntity<Long> implements EntityUpdatable<EnclosureCleaningDto> {
     /** Unique identifier for the enclosure cleaning entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enclosure_cleanings_id_seq")
+    @SequenceGenerator(name = "enclosure_cleanings_id_seq", sequenceName = "enclosure_cleanings_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the enclosure this cleaning log belongs to */
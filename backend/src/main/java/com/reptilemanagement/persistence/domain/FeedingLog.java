@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class FeedingLog extends BaseEntity<Long> implements EntityUpdatable<FeedingLogDto> {
     /** Unique identifier for the feeding log entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feeding_logs_id_seq")
+    @SequenceGenerator(name = "feeding_logs_id_seq", sequenceName = "feeding_logs_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the reptile this feeding log belongs to */
@@ -0,0 +1,46 @@
+package com.reptilemanagement.persistence.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Fixed sizes in which derivatives of every reptile image are generated.
+ */
+public enum ImageVariant {
+    /** Avatars and small previews */
+    THUMB("thumb", 256),
+    /** List cards and gallery tiles */
+    CARD("card", 640),
+    /** Full-width views */
+    FULL("full", 1600);
+
+    /** Value of the {@code size} request parameter */
+    private final String param;
+
+    /** Maximum width or height in pixels */
+    private final int maxEdge;
+
+    ImageVariant(String param, int maxEdge) {
+        this.param = param;
+        this.maxEdge = maxEdge;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    /**
+     * Resolves a variant from its request parameter value.
+     * @param param the parameter value, case-insensitive
+     * @return the variant, or empty if unknown
+     */
+    public static Optional<ImageVariant> fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.param.equalsIgnoreCase(param))
+                .findFirst();
+    }
+}
@@ -29,7 +29,8 @@ public class PoopLog extends BaseEntity<Long> implements EntityUpdatable<PoopLog
 
     /** Unique identifier for the poop log entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "poop_logs_id_seq")
+    @SequenceGenerator(name = "poop_logs_id_seq", sequenceName = "poop_logs_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the reptile this poop log belongs to */
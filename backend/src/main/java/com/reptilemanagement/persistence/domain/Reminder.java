@@ -0,0 +1,73 @@
+package com.reptilemanagement.persistence.domain;
+
+import com.reptilemanagement.persistence.domain.base.BaseEntity;
+import com.reptilemanagement.persistence.domain.base.EntityUpdatable;
+import com.reptilemanagement.persistence.dto.ReminderDto;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a care reminder for a reptile, an enclosure or the whole collection.
+ * Maps to the 'reminders' table in the database.
+ */
+@Entity
+@Table(name = "reminders")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reminder extends BaseEntity<Long> implements EntityUpdatable<ReminderDto> {
+    /** Unique identifier for the reminder */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminders_id_seq")
+    @SequenceGenerator(name = "reminders_id_seq", sequenceName = "reminders_id_seq", allocationSize = 50)
+    private Long id;
+
+    /** ID of the user who owns this reminder */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** ID of the reptile the reminder is about, if any */
+    private Long reptileId;
+
+    /** ID of the enclosure the reminder is about, if any */
+    private Long enclosureId;
+
+    /** Short description of what is due */
+    @Column(nullable = false)
+    private String title;
+
+    /** Additional details delivered with the reminder */
+    @Column(length = 1000)
+    private String message;
+
+    /** When the reminder fires next; null once a one-off reminder has fired */
+    private LocalDateTime nextFireAt;
+
+    /** Days between firings; null for a one-off reminder */
+    private Integer repeatIntervalDays;
+
+    /** Whether the reminder fires at all */
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    @Override
+    public void update(ReminderDto dto) {
+        this.reptileId = dto.getReptileId();
+        this.enclosureId = dto.getEnclosureId();
+        if (dto.getTitle() != null) {
+            this.title = dto.getTitle();
+        }
+        this.message = dto.getMessage();
+        this.nextFireAt = dto.getNextFireAt();
+        this.repeatIntervalDays = dto.getRepeatIntervalDays();
+        if (dto.getActive() != null) {
+            this.active = dto.getActive();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.reptilemanagement.persistence.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A fired reminder in the in-app inbox of its owner.
+ * Maps to the 'reminder_notifications' table in the database. Written by the scheduler,
+ * which runs without a user, so it has no audit fields.
+ */
+@Entity
+@Table(name = "reminder_notifications")
+@Data
+@NoArgsConstructor
+public class ReminderNotification {
+    /** Unique identifier for the notification */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_notifications_id_seq")
+    @SequenceGenerator(name = "reminder_notifications_id_seq", sequenceName = "reminder_notifications_id_seq", allocationSize = 50)
+    private Long id;
+
+    /** ID of the user the notification is for */
+    @Column(nullable = false)
+    private Long userId;
+
+    /** ID of the reminder that fired; null once the reminder is deleted */
+    private Long reminderId;
+
+    /** ID of the reptile the reminder is about, if any */
+    private Long reptileId;
+
+    /** ID of the enclosure the reminder is about, if any */
+    private Long enclosureId;
+
+    /** Title of the reminder when it fired */
+    @Column(nullable = false)
+    private String title;
+
+    /** Message of the reminder when it fired */
+    @Column(length = 1000)
+    private String message;
+
+    /** When the reminder was due */
+    @Column(nullable = false)
+    private LocalDateTime scheduledFor;
+
+    /** When the notification was delivered */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** When the user read the notification; null while unread */
+    private LocalDateTime readAt;
+}
@@ -24,7 +24,8 @@ import java.time.LocalDate;
 public class Reptile extends BaseEntity<Long> implements EntityUpdatable<ReptileDto> {
     /** Unique identifier for the reptile */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reptiles_id_seq")
+    @SequenceGenerator(name = "reptiles_id_seq", sequenceName = "reptiles_id_seq", allocationSize = 50)
     private Long id;
 
     /** Name of the reptile */
@@ -70,6 +71,10 @@ public class Reptile extends BaseEntity<Long> implements EntityUpdatable<Reptile
     @Column(name = "highlight_image_id")
     private Long highlightImageId;
 
+    /** Days between feedings; learned from the feeding history when null */
+    @Column(name = "feeding_interval_days")
+    private Integer feedingIntervalDays;
+
     /** Enumeration of possible reptile gender values */
     public enum ReptileGender {
         MALE, FEMALE, UNKNOWN
@@ -108,5 +113,6 @@ public class Reptile extends BaseEntity<Long> implements EntityUpdatable<Reptile
         }
         this.notes = dto.getNotes();
         this.highlightImageId = dto.getHighlightImageId();
+        this.feedingIntervalDays = dto.getFeedingIntervalDays();
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.reptilemanagement.persistence.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model with the latest care facts of a reptile.
+ * Maps to the 'reptile_care_summary' table, which is only written by the refresh queries
+ * of {@link com.reptilemanagement.persistence.repository.ReptileCareSummaryRepository}.
+ */
+@Entity
+@Immutable
+@Table(name = "reptile_care_summary")
+@Data
+@NoArgsConstructor
+public class ReptileCareSummary {
+    /** ID of the summarized reptile */
+    @Id
+    private Long reptileId;
+
+    /** ID of the user who owns the reptile */
+    private Long userId;
+
+    /** Name of the reptile */
+    private String name;
+
+    /** Species of the reptile */
+    private String species;
+
+    /** Current status of the reptile */
+    @Enumerated(EnumType.STRING)
+    private Reptile.ReptileStatus status;
+
+    /** ID of the enclosure the reptile is in */
+    private Long enclosureId;
+
+    /** ID of the highlight image of the reptile */
+    private Long highlightImageId;
+
+    /** Date of the latest feeding, accepted or refused */
+    private LocalDateTime lastFeedingDate;
+
+    /** Number of refused feedings since the last accepted one */
+    private int refusalStreak;
+
+    /** Date of the latest shed */
+    private LocalDateTime lastSheddingDate;
+
+    /** Date of the latest poop log */
+    private LocalDateTime lastPoopDate;
+
+    /** Date of the latest weight measurement */
+    private LocalDateTime lastWeightDate;
+
+    /** Latest weight in grams */
+    @Column(precision = 8, scale = 2)
+    private BigDecimal currentWeightGrams;
+
+    /** Latest weight minus the latest weight measured at least 30 days earlier */
+    @Column(name = "weight_change_30d_grams", precision = 8, scale = 2)
+    private BigDecimal weightChange30dGrams;
+
+    /** Date of the latest cleaning of the reptile's enclosure */
+    private LocalDateTime lastCleaningDate;
+
+    /** When the row was last recomputed */
+    private LocalDateTime refreshedAt;
+}
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * Entity representing an image of a reptile.
- * Images are stored as BLOBs in the database.
+ * Holds metadata only; the binary data lives in the blob store, addressed by its content hash.
  */
 @Entity
 @Table(name = "reptile_images")
@@ -22,7 +22,8 @@ import lombok.NoArgsConstructor;
 public class ReptileImage extends BaseEntity<Long> implements EntityUpdatable<ReptileImageDto> {
     /** Unique identifier for the image */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reptile_images_id_seq")
+    @SequenceGenerator(name = "reptile_images_id_seq", sequenceName = "reptile_images_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the reptile this image belongs to */
@@ -37,10 +38,32 @@ public class ReptileImage extends BaseEntity<Long> implements EntityUpdatable<Re
     @Column(nullable = false)
     private String contentType;
 
-    /** Binary data of the image stored as a byte array */
-    @Basic(fetch = FetchType.LAZY)
+    /** SHA-256 hash of the image content, used as its key in the blob store */
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    /** Content hash of the thumbnail derivative, null until generated */
+    @Column(length = 64)
+    private String thumbHash;
+
+    /** Content hash of the card-sized derivative, null until generated */
+    @Column(length = 64)
+    private String cardHash;
+
+    /** Content hash of the full-width derivative, null until generated */
+    @Column(length = 64)
+    private String fullHash;
+
+    /** MIME type shared by all derivatives of the image */
+    private String variantContentType;
+
+    /** Tiny blurred preview as a data URI, shown while the image loads */
+    @Column(columnDefinition = "TEXT")
+    private String placeholder;
+
+    /** True if the original cannot be decoded, so no derivatives will ever be generated */
     @Column(nullable = false)
-    private byte[] imageData;
+    private boolean variantsUnavailable;
 
     /** Optional description of the image */
     @Column(length = 500)
@@ -50,6 +73,25 @@ public class ReptileImage extends BaseEntity<Long> implements EntityUpdatable<Re
     @Column(nullable = false)
     private Long size;
 
+    /** Width of the stored image in pixels */
+    private Integer width;
+
+    /** Height of the stored image in pixels */
+    private Integer height;
+
+    /**
+     * Returns the content hash of a derivative.
+     * @param variant the derivative size
+     * @return the content hash, or null if not generated yet
+     */
+    public String getVariantHash(ImageVariant variant) {
+        return switch (variant) {
+            case THUMB -> thumbHash;
+            case CARD -> cardHash;
+            case FULL -> fullHash;
+        };
+    }
+
     @Override
     public void update(ReptileImageDto dto) {
         if (dto.getReptileId() != null) {
@@ -65,6 +107,5 @@ public class ReptileImage extends BaseEntity<Long> implements EntityUpdatable<Re
         if (dto.getSize() != null) {
             this.size = dto.getSize();
         }
-        // Note: imageData is not updated from DTO as it's excluded from the DTO
     }
 }
@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class SheddingLog extends BaseEntity<Long> implements EntityUpdatable<SheddingLogDto> {
     /** Unique identifier for the shedding log entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shedding_logs_id_seq")
+    @SequenceGenerator(name = "shedding_logs_id_seq", sequenceName = "shedding_logs_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the reptile this shedding log belongs to */
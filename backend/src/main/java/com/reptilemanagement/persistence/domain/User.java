@@ -20,7 +20,8 @@ import java.util.Set;
 public class User {
     /** Unique identifier for the user */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     /** Unique username for authentication */
@@ -41,6 +42,10 @@ public class User {
     @Column(name = "role")
     private Set<String> roles;
 
+    /** Version embedded in issued tokens; incrementing it revokes all tokens of the user */
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     /** User who created this account */
     @Column(name = "created_by", updatable = false)
     private String createdBy;
@@ -25,7 +25,8 @@ import java.time.LocalDateTime;
 public class WeightLog extends BaseEntity<Long> implements EntityUpdatable<WeightLogDto> {
     /** Unique identifier for the weight log entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weight_logs_id_seq")
+    @SequenceGenerator(name = "weight_logs_id_seq", sequenceName = "weight_logs_id_seq", allocationSize = 50)
     private Long id;
 
     /** ID of the reptile this weight log belongs to */
@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -22,6 +23,9 @@ import java.util.Objects;
  *   <li>{@code updatedBy} - User who last modified the entity</li>
  * </ul>
  * <p>
+ * The {@code version} column provides optimistic locking: every update increments it and only
+ * succeeds while the row still has the version that was read.
+ * <p>
  * Subclasses must implement {@link #getId()} and {@link #setId(Object)} for the primary key.
  *
  * @param <T> The type of the entity's primary key (e.g., Long, Integer, UUID)
@@ -43,6 +47,10 @@ public abstract class BaseEntity<T> implements Identifiable<T> {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
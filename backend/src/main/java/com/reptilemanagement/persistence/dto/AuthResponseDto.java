@@ -9,6 +9,7 @@ import lombok.Data;
 @AllArgsConstructor
 public class AuthResponseDto {
     private String token;
+    private String refreshToken;
     private String username;
     private Set<String> roles;
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.reptilemanagement.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one due or upcoming care task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareTaskDto {
+    /** Kind of care that is due */
+    private TaskType type;
+
+    /** ID of the reptile to feed, null for cleanings */
+    private Long reptileId;
+
+    /** ID of the enclosure to clean, or the enclosure the reptile lives in */
+    private Long enclosureId;
+
+    /** Name of the reptile or enclosure */
+    private String name;
+
+    /** When the task was last done, null if never */
+    private LocalDateTime lastDoneAt;
+
+    /** Days between two occurrences of the task */
+    private double intervalDays;
+
+    /** Where the interval comes from */
+    private IntervalSource intervalSource;
+
+    /** When the task is due */
+    private LocalDateTime dueAt;
+
+    /** Whether the due time has passed */
+    private boolean overdue;
+
+    /** Time past due in units of the interval, negative if upcoming; higher is more urgent */
+    private double urgency;
+
+    /**
+     * Kinds of recurring care.
+     */
+    public enum TaskType {
+        FEEDING, CLEANING
+    }
+
+    /**
+     * Origins of a task interval.
+     */
+    public enum IntervalSource {
+        /** Set on the reptile or enclosure */
+        CONFIGURED,
+        /** Median gap between the most recent log entries */
+        LEARNED,
+        /** Not enough history; the application default */
+        DEFAULT
+    }
+}
@@ -50,6 +50,9 @@ public class EnclosureDto extends BaseDto<Long> implements Updatable<EnclosureDt
     /** Additional notes about the enclosure */
     private String notes;
 
+    /** Days between cleanings; learned from the cleaning history when null */
+    private Integer cleaningIntervalDays;
+
     @Override
     public Long getId() {
         return id;
@@ -74,6 +77,7 @@ public class EnclosureDto extends BaseDto<Long> implements Updatable<EnclosureDt
         this.humidity = dto.getHumidity();
         this.temperature = dto.getTemperature();
         this.notes = dto.getNotes();
+        this.cleaningIntervalDays = dto.getCleaningIntervalDays();
         this.setUpdatedBy(dto.getUpdatedBy());
         this.setUpdatedAt(dto.getUpdatedAt());
     }
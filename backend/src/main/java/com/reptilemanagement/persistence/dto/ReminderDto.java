@@ -0,0 +1,73 @@
+package com.reptilemanagement.persistence.dto;
+
+import com.reptilemanagement.persistence.dto.base.BaseDto;
+import com.reptilemanagement.persistence.dto.base.Updatable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for Reminder entity.
+ * Used for API communication to decouple the domain model from the API.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDto extends BaseDto<Long> implements Updatable<ReminderDto> {
+    /** Unique identifier for the reminder */
+    private Long id;
+
+    /** ID of the user who owns this reminder */
+    private Long userId;
+
+    /** ID of the reptile the reminder is about, if any */
+    private Long reptileId;
+
+    /** ID of the enclosure the reminder is about, if any */
+    private Long enclosureId;
+
+    /** Short description of what is due */
+    private String title;
+
+    /** Additional details delivered with the reminder */
+    private String message;
+
+    /** When the reminder fires next; null once a one-off reminder has fired */
+    private LocalDateTime nextFireAt;
+
+    /** Days between firings; null for a one-off reminder */
+    private Integer repeatIntervalDays;
+
+    /** Whether the reminder fires at all */
+    private Boolean active;
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public void update(ReminderDto dto) {
+        if (dto == null) {
+            return;
+        }
+        this.reptileId = dto.getReptileId();
+        this.enclosureId = dto.getEnclosureId();
+        this.title = dto.getTitle();
+        this.message = dto.getMessage();
+        this.nextFireAt = dto.getNextFireAt();
+        this.repeatIntervalDays = dto.getRepeatIntervalDays();
+        this.active = dto.getActive();
+        this.setUpdatedBy(dto.getUpdatedBy());
+        this.setUpdatedAt(dto.getUpdatedAt());
+    }
+}
@@ -0,0 +1,42 @@
+package com.reptilemanagement.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one notification in the reminder inbox.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderNotificationDto {
+    /** Unique identifier for the notification */
+    private Long id;
+
+    /** ID of the reminder that fired; null once the reminder is deleted */
+    private Long reminderId;
+
+    /** ID of the reptile the reminder is about, if any */
+    private Long reptileId;
+
+    /** ID of the enclosure the reminder is about, if any */
+    private Long enclosureId;
+
+    /** Title of the reminder when it fired */
+    private String title;
+
+    /** Message of the reminder when it fired */
+    private String message;
+
+    /** When the reminder was due */
+    private LocalDateTime scheduledFor;
+
+    /** When the notification was delivered */
+    private LocalDateTime createdAt;
+
+    /** When the notification was read; null while unread */
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,61 @@
+package com.reptilemanagement.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a reptile's care summary as listed in the sortable collection view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReptileCareSummaryDto {
+    /** ID of the reptile */
+    private Long reptileId;
+
+    /** Name of the reptile */
+    private String name;
+
+    /** Species of the reptile */
+    private String species;
+
+    /** Current status of the reptile */
+    private String status;
+
+    /** ID of the enclosure, null if not housed */
+    private Long enclosureId;
+
+    /** ID of the highlight image, null if none is set */
+    private Long highlightImageId;
+
+    /** Date of the last feeding, null if never fed */
+    private LocalDateTime lastFeedingDate;
+
+    /** Whole days since the last feeding, null if never fed */
+    private Long daysSinceFeeding;
+
+    /** Refused feedings since the last accepted one */
+    private int refusalStreak;
+
+    /** Date of the last shed, null if none logged */
+    private LocalDateTime lastSheddingDate;
+
+    /** Date of the last poop log, null if none logged */
+    private LocalDateTime lastPoopDate;
+
+    /** Date of the latest weight measurement */
+    private LocalDateTime lastWeightDate;
+
+    /** Latest weight in grams */
+    private BigDecimal currentWeightGrams;
+
+    /** Change against the latest weight at least 30 days older, null without such a measurement */
+    private BigDecimal weightChange30dGrams;
+
+    /** Date the reptile's enclosure was last cleaned */
+    private LocalDateTime lastCleaningDate;
+}
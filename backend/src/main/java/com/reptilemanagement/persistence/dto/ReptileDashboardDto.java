@@ -0,0 +1,64 @@
+package com.reptilemanagement.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one dashboard entry: a reptile with its latest care facts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReptileDashboardDto {
+    /** ID of the reptile */
+    private Long reptileId;
+
+    /** Name of the reptile */
+    private String name;
+
+    /** Species of the reptile */
+    private String species;
+
+    /** Current status of the reptile */
+    private String status;
+
+    /** ID of the highlight image, null if none is set */
+    private Long highlightImageId;
+
+    /** Date of the last feeding, null if never fed */
+    private LocalDateTime lastFeedingDate;
+
+    /** Food offered at the last feeding */
+    private String lastFoodType;
+
+    /** Whether the last feeding was eaten (false means refused) */
+    private Boolean lastFeedingAte;
+
+    /** Whole days since the last feeding */
+    private Integer daysSinceFeeding;
+
+    /** Most recently measured weight in grams */
+    private BigDecimal currentWeightGrams;
+
+    /** Change from the previous measurement in grams, null with fewer than two measurements */
+    private BigDecimal weightDeltaGrams;
+
+    /** Date of the most recent weight measurement */
+    private LocalDateTime lastWeightDate;
+
+    /** Date of the last shed */
+    private LocalDateTime lastSheddingDate;
+
+    /** Quality of the last shed */
+    private String lastShedQuality;
+
+    /** Date of the last poop */
+    private LocalDateTime lastPoopDate;
+
+    /** Consistency of the last poop */
+    private String lastPoopConsistency;
+}
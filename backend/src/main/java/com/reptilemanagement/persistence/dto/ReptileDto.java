@@ -55,6 +55,9 @@ public class ReptileDto extends BaseDto<Long> implements Updatable<ReptileDto> {
     /** ID of the highlight image for this reptile */
     private Long highlightImageId;
 
+    /** Days between feedings; learned from the feeding history when null */
+    private Integer feedingIntervalDays;
+
     @Override
     public Long getId() {
         return id;
@@ -80,6 +83,7 @@ public class ReptileDto extends BaseDto<Long> implements Updatable<ReptileDto> {
         this.status = dto.getStatus();
         this.notes = dto.getNotes();
         this.highlightImageId = dto.getHighlightImageId();
+        this.feedingIntervalDays = dto.getFeedingIntervalDays();
         this.setUpdatedBy(dto.getUpdatedBy());
         this.setUpdatedAt(dto.getUpdatedAt());
     }
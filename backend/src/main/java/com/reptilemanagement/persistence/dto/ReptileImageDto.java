@@ -34,6 +34,15 @@ public class ReptileImageDto extends BaseDto<Long> implements Updatable<ReptileI
     /** Size of the image in bytes */
     private Long size;
 
+    /** Width of the stored image in pixels */
+    private Integer width;
+
+    /** Height of the stored image in pixels */
+    private Integer height;
+
+    /** Tiny blurred preview as a data URI, null until derivatives are generated */
+    private String placeholder;
+
     @Override
     public Long getId() {
         return id;
@@ -0,0 +1,46 @@
+package com.reptilemanagement.persistence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one search hit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+    /** Kind of record that matched */
+    private HitType type;
+
+    /** ID of the matched record */
+    private Long id;
+
+    /** ID of the reptile the hit belongs to, null for enclosures and cleanings */
+    private Long reptileId;
+
+    /** ID of the enclosure the hit belongs to, if any */
+    private Long enclosureId;
+
+    /** Display title: the reptile or enclosure name */
+    private String title;
+
+    /** Short excerpt of the matched record */
+    private String snippet;
+
+    /** Date of the log entry, null for reptiles and enclosures */
+    private LocalDateTime occurredAt;
+
+    /** Relevance score; higher is better */
+    private double score;
+
+    /**
+     * Kinds of records that can be found by search.
+     */
+    public enum HitType {
+        REPTILE, ENCLOSURE, FEEDING_LOG, WEIGHT_LOG, SHEDDING_LOG, POOP_LOG, ENCLOSURE_CLEANING
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
  *   <li>{@code createdBy} - User who created the entity</li>
  *   <li>{@code updatedAt} - Timestamp when entity was last modified</li>
  *   <li>{@code updatedBy} - User who last modified the entity</li>
+ *   <li>{@code version} - Version the entity had when read; send it back on update to detect concurrent changes</li>
  * </ul>
  * <p>
  * Subclasses must implement {@link #getId()} and {@link #setId(Serializable)} for the primary key.
@@ -34,6 +35,7 @@ public abstract class BaseDto<T> implements Serializable {
     private String updatedBy;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Returns the identifier of this DTO.
@@ -0,0 +1,15 @@
+package com.reptilemanagement.persistence.mapper;
+
+import com.reptilemanagement.persistence.domain.Reminder;
+import com.reptilemanagement.persistence.dto.ReminderDto;
+import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper interface for converting between Reminder entities and DTOs.
+ * Extends BaseMapper to inherit common mapping operations.
+ */
+@Mapper(componentModel = "spring")
+public interface ReminderMapper extends BaseMapper<Reminder, ReminderDto> {
+    // All standard CRUD mapping methods inherited from BaseMapper
+}
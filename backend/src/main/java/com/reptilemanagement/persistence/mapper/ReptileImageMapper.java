@@ -8,17 +8,22 @@ import org.mapstruct.Mapping;
 
 /**
  * Mapper interface for converting between ReptileImage entities and DTOs.
- * Extends BaseMapper and overrides toEntity to exclude binary imageData field.
+ * Extends BaseMapper and overrides toEntity to ignore the content hashes and audit fields.
  */
 @Mapper(componentModel = "spring")
 public interface ReptileImageMapper extends BaseMapper<ReptileImage, ReptileImageDto> {
     
     /**
-     * Overrides toEntity to exclude the binary imageData field.
-     * The imageData must be set separately when handling file uploads.
+     * Overrides toEntity to ignore the content hashes, which are only set when storing an upload
+     * or its derivatives, and audit fields, which are maintained by the entity.
      */
     @Override
-    @Mapping(target = "imageData", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "thumbHash", ignore = true)
+    @Mapping(target = "cardHash", ignore = true)
+    @Mapping(target = "fullHash", ignore = true)
+    @Mapping(target = "variantContentType", ignore = true)
+    @Mapping(target = "variantsUnavailable", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -15,7 +15,7 @@ import java.util.Map;
  * following the DRY (Don't Repeat Yourself) principle.
  * <p>
  * The toEntity mapping automatically ignores audit fields (createdAt, createdBy, updatedAt, updatedBy)
- * as these are managed by JPA lifecycle callbacks.
+ * as these are managed by JPA lifecycle callbacks, and the version, which only Hibernate may set.
  *
  * @param <E> the entity type that extends BaseEntity
  * @param <D> the DTO type that extends BaseDto
@@ -78,6 +78,7 @@ public interface BaseMapper<E extends BaseEntity<?>, D extends BaseDto<?>> {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     E toEntity(D dto);
 
     /**
@@ -95,6 +96,7 @@ public interface BaseMapper<E extends BaseEntity<?>, D extends BaseDto<?>> {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     default E toEntity(D dto, Map<String, Boolean> conditions) {
         return toEntity(dto);
     }
@@ -132,6 +134,7 @@ public interface BaseMapper<E extends BaseEntity<?>, D extends BaseDto<?>> {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(D dto, @MappingTarget E entity);
 }
 
@@ -0,0 +1,28 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one due care task.
+ * Getter names match the column aliases of {@code CareDueRepository.findDueByUserId}.
+ */
+public interface CareTaskView {
+
+    String getType();
+
+    Long getReptileId();
+
+    Long getEnclosureId();
+
+    String getName();
+
+    LocalDateTime getLastDoneAt();
+
+    Double getIntervalDays();
+
+    String getIntervalSource();
+
+    LocalDateTime getDueAt();
+
+    Double getUrgency();
+}
@@ -0,0 +1,19 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the cleaning aggregates of one enclosure.
+ */
+public interface CleaningStatisticsView {
+
+    Long getTotalCleanings();
+
+    Long getDisinfections();
+
+    Long getSubstrateChanges();
+
+    LocalDateTime getLastCleaningDate();
+
+    Double getMeanCleaningIntervalDays();
+}
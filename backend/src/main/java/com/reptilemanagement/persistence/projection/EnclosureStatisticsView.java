@@ -0,0 +1,15 @@
+package com.reptilemanagement.persistence.projection;
+
+/**
+ * Projection of the enclosure counts of one user.
+ */
+public interface EnclosureStatisticsView {
+
+    Long getTotal();
+
+    Long getTerrariums();
+
+    Long getVivariums();
+
+    Long getOccupied();
+}
@@ -0,0 +1,19 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the feeding aggregates of one reptile.
+ */
+public interface FeedingStatisticsView {
+
+    Long getTotalFeedings();
+
+    Long getMissedFeedings();
+
+    LocalDateTime getLastFeedingDate();
+
+    Double getMeanFeedingIntervalDays();
+
+    Long getLongestRefusalStreak();
+}
@@ -0,0 +1,17 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the poop aggregates of one reptile.
+ */
+public interface PoopStatisticsView {
+
+    Long getTotalLogs();
+
+    Long getParasiteCount();
+
+    LocalDateTime getLastPoopDate();
+
+    Double getMeanIntervalDays();
+}
@@ -0,0 +1,43 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one dashboard row: a reptile with the newest entry of each of its logs.
+ * Getter names match the column aliases of {@code ReptileRepository.findDashboardByUserId}.
+ */
+public interface ReptileDashboardView {
+
+    Long getReptileId();
+
+    String getName();
+
+    String getSpecies();
+
+    String getStatus();
+
+    Long getHighlightImageId();
+
+    LocalDateTime getLastFeedingDate();
+
+    String getLastFoodType();
+
+    Boolean getLastFeedingAte();
+
+    Integer getDaysSinceFeeding();
+
+    BigDecimal getCurrentWeightGrams();
+
+    BigDecimal getPreviousWeightGrams();
+
+    LocalDateTime getLastWeightDate();
+
+    LocalDateTime getLastSheddingDate();
+
+    String getLastShedQuality();
+
+    LocalDateTime getLastPoopDate();
+
+    String getLastPoopConsistency();
+}
@@ -0,0 +1,11 @@
+package com.reptilemanagement.persistence.projection;
+
+/**
+ * Projection of a reptile's ID and name, for resolving names to IDs.
+ */
+public interface ReptileNameView {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,15 @@
+package com.reptilemanagement.persistence.projection;
+
+/**
+ * Projection of the reptile counts of one user.
+ */
+public interface ReptileStatisticsView {
+
+    Long getTotal();
+
+    Long getActive();
+
+    Long getQuarantine();
+
+    Long getDeceased();
+}
@@ -0,0 +1,25 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one search hit. Getter names match the column aliases of {@code SearchRepository.search}.
+ */
+public interface SearchHitView {
+
+    String getType();
+
+    Long getId();
+
+    Long getReptileId();
+
+    Long getEnclosureId();
+
+    String getTitle();
+
+    String getSnippet();
+
+    LocalDateTime getOccurredAt();
+
+    Double getScore();
+}
@@ -0,0 +1,17 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the shedding aggregates of one reptile.
+ */
+public interface SheddingStatisticsView {
+
+    Long getTotalSheddings();
+
+    Long getAteShedCount();
+
+    LocalDateTime getLastSheddingDate();
+
+    Double getMeanShedCycleDays();
+}
@@ -0,0 +1,11 @@
+package com.reptilemanagement.persistence.projection;
+
+/**
+ * Projection of a distinct free-text value and how often it occurs.
+ */
+public interface TermCountView {
+
+    String getTerm();
+
+    Long getCount();
+}
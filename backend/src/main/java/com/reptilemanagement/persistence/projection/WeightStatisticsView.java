@@ -0,0 +1,19 @@
+package com.reptilemanagement.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of the weight aggregates of one reptile.
+ */
+public interface WeightStatisticsView {
+
+    Long getMeasurementCount();
+
+    BigDecimal getInitialWeight();
+
+    BigDecimal getCurrentWeight();
+
+    BigDecimal getMinWeight();
+
+    BigDecimal getMaxWeight();
+}
@@ -0,0 +1,101 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.projection.CareTaskView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository computing which feedings and enclosure cleanings are due across a whole collection.
+ * Bound to {@link Reptile} only because Spring Data requires a domain type; the query spans all tables.
+ */
+public interface CareDueRepository extends Repository<Reptile, Long> {
+
+    /**
+     * Finds the feedings and cleanings of a user that are due before a given time, in one pass.
+     * <p>
+     * The interval of each reptile or enclosure is the configured one, else the median gap of its
+     * most recent log entries, else the default. Each lateral subquery reads at most {@code history}
+     * rows from the (owner, date DESC) index, so the cost grows with the number of reptiles and
+     * enclosures, not with the length of their history. Deceased and sold reptiles are skipped,
+     * as are enclosures without a living reptile. Tasks never done are due one interval after the
+     * reptile was acquired or the enclosure was created.
+     *
+     * @param userId                 the user ID
+     * @param now                    the reference time for urgency
+     * @param until                  only tasks due before this time
+     * @param history                number of recent log entries the interval is learned from
+     * @param defaultFeedingDays     feeding interval when neither configured nor learnable
+     * @param defaultCleaningDays    cleaning interval when neither configured nor learnable
+     * @param limit                  the maximum number of tasks
+     * @return the tasks, most urgent first: urgency is the time overdue in units of the interval,
+     *         negative for upcoming tasks
+     */
+    @Query(value = """
+            WITH tasks AS (
+                SELECT 'FEEDING' AS type, r.id AS reptile_id, r.enclosure_id, r.name,
+                       h.last_done, r.feeding_interval_days AS configured, h.learned,
+                       COALESCE(h.last_done, CAST(r.acquisition_date AS TIMESTAMP)) AS base,
+                       :defaultFeedingDays AS fallback
+                FROM reptiles r
+                LEFT JOIN LATERAL (
+                    SELECT MAX(d) AS last_done,
+                           PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY gap) FILTER (WHERE gap > 0) AS learned
+                    FROM (SELECT d,
+                                 CAST(EXTRACT(EPOCH FROM d - LAG(d) OVER (ORDER BY d)) / 86400 AS DOUBLE PRECISION) AS gap
+                          FROM (SELECT feeding_date AS d FROM feeding_logs WHERE reptile_id = r.id
+                                ORDER BY feeding_date DESC LIMIT :history) recent) gaps) h ON TRUE
+                WHERE r.user_id = :userId AND r.status IN ('ACTIVE', 'QUARANTINE')
+                UNION ALL
+                SELECT 'CLEANING', NULL, e.id, e.name,
+                       h.last_done, e.cleaning_interval_days, h.learned,
+                       COALESCE(h.last_done, e.created_at),
+                       :defaultCleaningDays
+                FROM enclosures e
+                LEFT JOIN LATERAL (
+                    SELECT MAX(d) AS last_done,
+                           PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY gap) FILTER (WHERE gap > 0) AS learned
+                    FROM (SELECT d,
+                                 CAST(EXTRACT(EPOCH FROM d - LAG(d) OVER (ORDER BY d)) / 86400 AS DOUBLE PRECISION) AS gap
+                          FROM (SELECT cleaning_date AS d FROM enclosure_cleanings WHERE enclosure_id = e.id
+                                ORDER BY cleaning_date DESC LIMIT :history) recent) gaps) h ON TRUE
+                WHERE e.user_id = :userId
+                  AND EXISTS (SELECT 1 FROM reptiles r
+                              WHERE r.user_id = :userId AND r.enclosure_id = e.id
+                                AND r.status IN ('ACTIVE', 'QUARANTINE'))
+            ),
+            scheduled AS (
+                SELECT t.*,
+                       CAST(COALESCE(t.configured, t.learned, t.fallback) AS DOUBLE PRECISION) AS interval_days,
+                       CASE WHEN t.configured IS NOT NULL THEN 'CONFIGURED'
+                            WHEN t.learned IS NOT NULL THEN 'LEARNED'
+                            ELSE 'DEFAULT' END AS interval_source
+                FROM tasks t
+            ),
+            due AS (
+                SELECT s.*, s.base + s.interval_days * INTERVAL '1 day' AS due_at
+                FROM scheduled s
+            )
+            SELECT d.type AS "type", d.reptile_id AS "reptileId", d.enclosure_id AS "enclosureId",
+                   d.name AS "name", d.last_done AS "lastDoneAt",
+                   d.interval_days AS "intervalDays", d.interval_source AS "intervalSource",
+                   d.due_at AS "dueAt",
+                   CAST(EXTRACT(EPOCH FROM CAST(:now AS TIMESTAMP) - d.due_at) / 86400 / d.interval_days
+                        AS DOUBLE PRECISION) AS "urgency"
+            FROM due d
+            WHERE d.due_at <= CAST(:until AS TIMESTAMP)
+            ORDER BY "urgency" DESC, d.due_at, d.name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CareTaskView> findDueByUserId(@Param("userId") Long userId,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("until") LocalDateTime until,
+                                       @Param("history") int history,
+                                       @Param("defaultFeedingDays") int defaultFeedingDays,
+                                       @Param("defaultCleaningDays") int defaultCleaningDays,
+                                       @Param("limit") int limit);
+}
@@ -1,13 +1,22 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.EnclosureCleaning;
+import com.reptilemanagement.persistence.projection.CleaningStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for EnclosureCleaning entity operations.
@@ -16,6 +25,28 @@ import java.util.List;
 @Repository
 public interface EnclosureCleaningRepository extends JpaRepository<EnclosureCleaning, Long> {
 
+    /**
+     * Finds an enclosure cleaning log if its enclosure belongs to the given user.
+     * @param id the enclosure cleaning log ID
+     * @param userId the ID of the user
+     * @return the enclosure cleaning log, or empty if it does not exist or belongs to another user
+     */
+    @Query("SELECT c FROM EnclosureCleaning c WHERE c.id = :id "
+            + "AND EXISTS (SELECT 1 FROM Enclosure e WHERE e.id = c.enclosureId AND e.userId = :userId)")
+    Optional<EnclosureCleaning> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes the enclosure cleaning logs with the given IDs whose enclosure belongs to the given user,
+     * in one statement.
+     * @param ids the enclosure cleaning log IDs
+     * @param userId the ID of the user
+     * @return the number of deleted enclosure cleaning logs
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EnclosureCleaning c WHERE c.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Enclosure e WHERE e.id = c.enclosureId AND e.userId = :userId)")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Finds all enclosure cleaning logs for a specific enclosure.
      * @param enclosureId the ID of the enclosure
@@ -23,6 +54,23 @@ public interface EnclosureCleaningRepository extends JpaRepository<EnclosureClea
      */
     List<EnclosureCleaning> findByEnclosureIdOrderByCleaningDateDesc(Long enclosureId);
 
+    /**
+     * Finds the next page of enclosure cleaning logs for a specific enclosure, seeking past the given position.
+     * Rows are ordered by (cleaningDate DESC, id DESC) so the position is unique even for equal dates.
+     * The redundant cleaningDate bound is the index range start; the OR only filters rows of equal date.
+     * @param enclosureId the ID of the enclosure
+     * @param date the cleaningDate of the last row of the previous page
+     * @param id the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next enclosure cleaning logs, newest first
+     */
+    @Query("SELECT c FROM EnclosureCleaning c WHERE c.enclosureId = :enclosureId "
+            + "AND c.cleaningDate <= :date "
+            + "AND (c.cleaningDate < :date OR (c.cleaningDate = :date AND c.id < :id)) "
+            + "ORDER BY c.cleaningDate DESC, c.id DESC")
+    List<EnclosureCleaning> findPageByEnclosureId(@Param("enclosureId") Long enclosureId, @Param("date") LocalDateTime date,
+            @Param("id") Long id, Limit limit);
+
     /**
      * Finds enclosure cleaning logs for a specific enclosure within a date range.
      * @param enclosureId the ID of the enclosure
@@ -69,4 +117,31 @@ public interface EnclosureCleaningRepository extends JpaRepository<EnclosureClea
      */
     @Query("SELECT c FROM EnclosureCleaning c WHERE c.enclosureId = :enclosureId AND c.substrateChanged = true ORDER BY c.cleaningDate DESC")
     List<EnclosureCleaning> findSubstrateChangesByEnclosureId(@Param("enclosureId") Long enclosureId);
-}
\ No newline at end of file
+
+    /**
+     * Computes the cleaning statistics of an enclosure in one pass without loading any entity.
+     * @param enclosureId the ID of the enclosure
+     * @return the aggregates; counts are 0 and the rest null if there are no cleanings
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "totalCleanings",
+                   COUNT(*) FILTER (WHERE disinfected) AS "disinfections",
+                   COUNT(*) FILTER (WHERE substrate_changed) AS "substrateChanges",
+                   MAX(cleaning_date) AS "lastCleaningDate",
+                   CAST(EXTRACT(EPOCH FROM MAX(cleaning_date) - MIN(cleaning_date)) / 86400 / NULLIF(COUNT(*) - 1, 0) AS DOUBLE PRECISION) AS "meanCleaningIntervalDays"
+            FROM enclosure_cleanings
+            WHERE enclosure_id = :enclosureId
+            """, nativeQuery = true)
+    CleaningStatisticsView getStatisticsByEnclosureId(@Param("enclosureId") Long enclosureId);
+
+    /**
+     * Streams all cleaning logs of an enclosure, for export. Must be consumed inside a transaction and closed.
+     * @param enclosureId the ID of the enclosure
+     * @return the cleaning logs, oldest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EnclosureCleaning> streamByEnclosureIdOrderByCleaningDateAscIdAsc(Long enclosureId);
+}
@@ -1,13 +1,20 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.Enclosure;
+import com.reptilemanagement.persistence.projection.EnclosureStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Enclosure entity operations.
@@ -33,6 +40,16 @@ public interface EnclosureRepository extends JpaRepository<Enclosure, Long> {
      */
     Optional<Enclosure> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * Deletes the enclosures with the given IDs that belong to the given user, in one statement.
+     * @param ids the enclosure IDs
+     * @param userId the ID of the user
+     * @return the number of deleted enclosures
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Enclosure e WHERE e.id IN :ids AND e.userId = :userId")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Checks if an enclosure exists and belongs to the given user.
      * @param id the enclosure ID
@@ -126,4 +143,39 @@ public interface EnclosureRepository extends JpaRepository<Enclosure, Long> {
      * @return count of enclosures of the specified type
      */
     long countByType(Enclosure.EnclosureType type);
-}
\ No newline at end of file
+
+    /**
+     * Counts a user's enclosures by type and occupancy in one query.
+     * @param userId the user ID
+     * @return the counts
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "total",
+                   COUNT(*) FILTER (WHERE e.type = 'TERRARIUM') AS "terrariums",
+                   COUNT(*) FILTER (WHERE e.type = 'VIVARIUM') AS "vivariums",
+                   COUNT(*) FILTER (WHERE EXISTS (
+                       SELECT 1 FROM reptiles r WHERE r.enclosure_id = e.id AND r.user_id = :userId)) AS "occupied"
+            FROM enclosures e
+            WHERE e.user_id = :userId
+            """, nativeQuery = true)
+    EnclosureStatisticsView getStatisticsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the IDs of all enclosures owned by a user.
+     * @param userId the user ID
+     * @return the enclosure IDs
+     */
+    @Query("SELECT e.id FROM Enclosure e WHERE e.userId = :userId ORDER BY e.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Streams all enclosures owned by a user, for export. Must be consumed inside a transaction and closed.
+     * @param userId the user ID
+     * @return the enclosures ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Enclosure> streamByUserIdOrderByIdAsc(Long userId);
+}
@@ -1,13 +1,23 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.FeedingLog;
+import com.reptilemanagement.persistence.projection.FeedingStatisticsView;
+import com.reptilemanagement.persistence.projection.TermCountView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for FeedingLog entity operations.
@@ -16,6 +26,27 @@ import java.util.List;
 @Repository
 public interface FeedingLogRepository extends JpaRepository<FeedingLog, Long> {
 
+    /**
+     * Finds a feeding log if its reptile belongs to the given user.
+     * @param id the feeding log ID
+     * @param userId the ID of the user
+     * @return the feeding log, or empty if it does not exist or belongs to another user
+     */
+    @Query("SELECT f FROM FeedingLog f WHERE f.id = :id "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = f.reptileId AND r.userId = :userId)")
+    Optional<FeedingLog> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes the feeding logs with the given IDs whose reptile belongs to the given user, in one statement.
+     * @param ids the feeding log IDs
+     * @param userId the ID of the user
+     * @return the number of deleted feeding logs
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FeedingLog f WHERE f.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = f.reptileId AND r.userId = :userId)")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Finds all feeding logs for a specific reptile.
      * @param reptileId the ID of the reptile
@@ -23,6 +54,23 @@ public interface FeedingLogRepository extends JpaRepository<FeedingLog, Long> {
      */
     List<FeedingLog> findByReptileIdOrderByFeedingDateDesc(Long reptileId);
 
+    /**
+     * Finds the next page of feeding logs for a specific reptile, seeking past the given position.
+     * Rows are ordered by (feedingDate DESC, id DESC) so the position is unique even for equal dates.
+     * The redundant feedingDate bound is the index range start; the OR only filters rows of equal date.
+     * @param reptileId the ID of the reptile
+     * @param date the feedingDate of the last row of the previous page
+     * @param id the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next feeding logs, newest first
+     */
+    @Query("SELECT f FROM FeedingLog f WHERE f.reptileId = :reptileId "
+            + "AND f.feedingDate <= :date "
+            + "AND (f.feedingDate < :date OR (f.feedingDate = :date AND f.id < :id)) "
+            + "ORDER BY f.feedingDate DESC, f.id DESC")
+    List<FeedingLog> findPageByReptileId(@Param("reptileId") Long reptileId, @Param("date") LocalDateTime date,
+            @Param("id") Long id, Limit limit);
+
     /**
      * Finds feeding logs for a specific reptile within a date range.
      * @param reptileId the ID of the reptile
@@ -40,6 +88,15 @@ public interface FeedingLogRepository extends JpaRepository<FeedingLog, Long> {
      */
     FeedingLog findTopByReptileIdOrderByFeedingDateDesc(Long reptileId);
 
+    /**
+     * Counts how often each food type was fed across all reptiles of a user.
+     * @param userId the ID of the user
+     * @return each distinct food type with its number of feedings
+     */
+    @Query("SELECT f.foodType AS term, COUNT(f) AS count FROM FeedingLog f, Reptile r "
+            + "WHERE r.id = f.reptileId AND r.userId = :userId GROUP BY f.foodType")
+    List<TermCountView> countFoodTypesByUserId(@Param("userId") Long userId);
+
     /**
      * Finds feeding logs by food type.
      * @param foodType the type of food
@@ -61,4 +118,41 @@ public interface FeedingLogRepository extends JpaRepository<FeedingLog, Long> {
      */
     @Query("SELECT f FROM FeedingLog f WHERE f.reptileId = :reptileId AND f.ate = false ORDER BY f.feedingDate DESC")
     List<FeedingLog> findMissedFeedingsByReptileId(@Param("reptileId") Long reptileId);
-}
\ No newline at end of file
+
+    /**
+     * Computes the feeding statistics of a reptile in one pass without loading any entity.
+     * The mean interval is measured between feedings that were eaten. Refusal streaks are
+     * runs of consecutive refused feedings, found by numbering rows overall and per outcome.
+     * @param reptileId the ID of the reptile
+     * @return the aggregates; counts are 0 and the rest null if there are no feedings
+     */
+    @Query(value = """
+            WITH ordered AS (
+                SELECT feeding_date, ate,
+                       ROW_NUMBER() OVER (ORDER BY feeding_date, id)
+                           - ROW_NUMBER() OVER (PARTITION BY ate ORDER BY feeding_date, id) AS run
+                FROM feeding_logs
+                WHERE reptile_id = :reptileId
+            )
+            SELECT COUNT(*) AS "totalFeedings",
+                   COUNT(*) FILTER (WHERE NOT ate) AS "missedFeedings",
+                   MAX(feeding_date) AS "lastFeedingDate",
+                   CAST(EXTRACT(EPOCH FROM MAX(feeding_date) FILTER (WHERE ate) - MIN(feeding_date) FILTER (WHERE ate))
+                        / 86400 / NULLIF(COUNT(*) FILTER (WHERE ate) - 1, 0) AS DOUBLE PRECISION) AS "meanFeedingIntervalDays",
+                   (SELECT COALESCE(MAX(refusals), 0) FROM (
+                        SELECT COUNT(*) AS refusals FROM ordered WHERE NOT ate GROUP BY run) streaks) AS "longestRefusalStreak"
+            FROM ordered
+            """, nativeQuery = true)
+    FeedingStatisticsView getStatisticsByReptileId(@Param("reptileId") Long reptileId);
+
+    /**
+     * Streams all feeding logs of a reptile, for export. Must be consumed inside a transaction and closed.
+     * @param reptileId the ID of the reptile
+     * @return the feeding logs, oldest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<FeedingLog> streamByReptileIdOrderByFeedingDateAscIdAsc(Long reptileId);
+}
@@ -1,13 +1,22 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.PoopLog;
+import com.reptilemanagement.persistence.projection.PoopStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for PoopLog entity operations.
@@ -16,6 +25,27 @@ import java.util.List;
 @Repository
 public interface PoopLogRepository extends JpaRepository<PoopLog, Long> {
 
+    /**
+     * Finds a poop log if its reptile belongs to the given user.
+     * @param id the poop log ID
+     * @param userId the ID of the user
+     * @return the poop log, or empty if it does not exist or belongs to another user
+     */
+    @Query("SELECT p FROM PoopLog p WHERE p.id = :id "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = p.reptileId AND r.userId = :userId)")
+    Optional<PoopLog> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes the poop logs with the given IDs whose reptile belongs to the given user, in one statement.
+     * @param ids the poop log IDs
+     * @param userId the ID of the user
+     * @return the number of deleted poop logs
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PoopLog p WHERE p.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = p.reptileId AND r.userId = :userId)")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Finds all poop logs for a specific reptile.
      * @param reptileId the ID of the reptile
@@ -23,6 +53,23 @@ public interface PoopLogRepository extends JpaRepository<PoopLog, Long> {
      */
     List<PoopLog> findByReptileIdOrderByPoopDateDesc(Long reptileId);
 
+    /**
+     * Finds the next page of poop logs for a specific reptile, seeking past the given position.
+     * Rows are ordered by (poopDate DESC, id DESC) so the position is unique even for equal dates.
+     * The redundant poopDate bound is the index range start; the OR only filters rows of equal date.
+     * @param reptileId the ID of the reptile
+     * @param date the poopDate of the last row of the previous page
+     * @param id the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next poop logs, newest first
+     */
+    @Query("SELECT p FROM PoopLog p WHERE p.reptileId = :reptileId "
+            + "AND p.poopDate <= :date "
+            + "AND (p.poopDate < :date OR (p.poopDate = :date AND p.id < :id)) "
+            + "ORDER BY p.poopDate DESC, p.id DESC")
+    List<PoopLog> findPageByReptileId(@Param("reptileId") Long reptileId, @Param("date") LocalDateTime date,
+            @Param("id") Long id, Limit limit);
+
     /**
      * Finds poop logs for a specific reptile within a date range.
      * @param reptileId the ID of the reptile
@@ -54,4 +101,30 @@ public interface PoopLogRepository extends JpaRepository<PoopLog, Long> {
      */
     @Query("SELECT p FROM PoopLog p WHERE p.reptileId = :reptileId AND p.parasitesPresent = true ORDER BY p.poopDate DESC")
     List<PoopLog> findWithParasitesByReptileId(@Param("reptileId") Long reptileId);
+
+    /**
+     * Computes the poop statistics of a reptile in one pass without loading any entity.
+     * @param reptileId the ID of the reptile
+     * @return the aggregates; counts are 0 and the rest null if there are no logs
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "totalLogs",
+                   COUNT(*) FILTER (WHERE parasites_present) AS "parasiteCount",
+                   MAX(poop_date) AS "lastPoopDate",
+                   CAST(EXTRACT(EPOCH FROM MAX(poop_date) - MIN(poop_date)) / 86400 / NULLIF(COUNT(*) - 1, 0) AS DOUBLE PRECISION) AS "meanIntervalDays"
+            FROM poop_logs
+            WHERE reptile_id = :reptileId
+            """, nativeQuery = true)
+    PoopStatisticsView getStatisticsByReptileId(@Param("reptileId") Long reptileId);
+
+    /**
+     * Streams all poop logs of a reptile, for export. Must be consumed inside a transaction and closed.
+     * @param reptileId the ID of the reptile
+     * @return the poop logs, oldest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PoopLog> streamByReptileIdOrderByPoopDateAscIdAsc(Long reptileId);
 }
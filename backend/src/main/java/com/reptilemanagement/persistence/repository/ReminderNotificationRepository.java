@@ -0,0 +1,54 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.persistence.domain.ReminderNotification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the reminder inbox.
+ */
+@Repository
+public interface ReminderNotificationRepository extends JpaRepository<ReminderNotification, Long> {
+
+    /**
+     * Finds the newest notifications of a user.
+     * @param userId the user ID
+     * @param limit the maximum number of notifications
+     * @return the notifications, newest first
+     */
+    List<ReminderNotification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    /**
+     * Finds the newest unread notifications of a user.
+     * @param userId the user ID
+     * @param limit the maximum number of notifications
+     * @return the unread notifications, newest first
+     */
+    List<ReminderNotification> findByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    /**
+     * Counts the unread notifications of a user.
+     * @param userId the user ID
+     * @return the number of unread notifications
+     */
+    long countByUserIdAndReadAtIsNull(Long userId);
+
+    /**
+     * Marks a notification of a user as read, keeping the first read time if it already is.
+     * @param id the notification ID
+     * @param userId the user ID
+     * @param readAt the time it was read
+     * @return 1 if marked, 0 if not found or not owned
+     */
+    @Modifying
+    @Query("UPDATE ReminderNotification n SET n.readAt = COALESCE(n.readAt, :readAt) "
+            + "WHERE n.id = :id AND n.userId = :userId")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+}
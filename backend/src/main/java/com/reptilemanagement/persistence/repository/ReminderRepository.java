@@ -0,0 +1,83 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.persistence.domain.Reminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Reminder entity operations.
+ * Extends JpaRepository to provide basic CRUD operations and custom query methods.
+ */
+@Repository
+public interface ReminderRepository extends JpaRepository<Reminder, Long> {
+
+    /**
+     * Finds all reminders of a user, next firing first.
+     * @param userId the user ID
+     * @return the user's reminders
+     */
+    List<Reminder> findByUserIdOrderByNextFireAtAsc(Long userId);
+
+    /**
+     * Finds a reminder by ID only if it belongs to the given user.
+     * @param id the reminder ID
+     * @param userId the user ID
+     * @return the reminder if found and owned by the user
+     */
+    Optional<Reminder> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Deletes the reminders with the given IDs that belong to the given user, in one statement.
+     * @param ids the reminder IDs
+     * @param userId the ID of the user
+     * @return the number of deleted reminders
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.id IN :ids AND r.userId = :userId")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * Finds the active reminders firing up to the given time, including overdue ones.
+     * Served by the partial index on pending firings, so the cost depends on the number
+     * of reminders due in the window, not on the total number of reminders.
+     * @param until the end of the window
+     * @return the pending reminders, earliest first
+     */
+    @Query("SELECT r FROM Reminder r WHERE r.active = true AND r.nextFireAt IS NOT NULL AND r.nextFireAt <= :until "
+            + "ORDER BY r.nextFireAt")
+    List<Reminder> findPendingUntil(@Param("until") LocalDateTime until);
+
+    /**
+     * Finds the active reminders firing within a window that starts after the previously loaded one.
+     * @param after the end of the previous window, exclusive
+     * @param until the end of the window, inclusive
+     * @return the pending reminders, earliest first
+     */
+    @Query("SELECT r FROM Reminder r WHERE r.active = true AND r.nextFireAt > :after AND r.nextFireAt <= :until "
+            + "ORDER BY r.nextFireAt")
+    List<Reminder> findPendingBetween(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    /**
+     * Claims a firing by moving the reminder to its next firing, only if the firing is still pending.
+     * A reminder that was changed, deactivated or claimed since the firing was scheduled is left alone.
+     * The version is incremented, so an edit based on the reminder as it was before fails instead of
+     * moving it back to the claimed firing.
+     * @param id the reminder ID
+     * @param firesAt the firing being claimed
+     * @param nextFireAt the following firing, or null for a one-off reminder
+     * @return 1 if the firing was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Reminder r SET r.nextFireAt = :nextFireAt, r.version = r.version + 1 "
+            + "WHERE r.id = :id AND r.active = true AND r.nextFireAt = :firesAt")
+    int claimFiring(@Param("id") Long id, @Param("firesAt") LocalDateTime firesAt,
+                    @Param("nextFireAt") LocalDateTime nextFireAt);
+}
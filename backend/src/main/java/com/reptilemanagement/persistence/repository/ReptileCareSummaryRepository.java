@@ -0,0 +1,150 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.domain.ReptileCareSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the per-reptile care summary read model.
+ * Rows are recomputed from the log tables with an upsert; each lookup in it is served by the
+ * (owner, date DESC, id DESC) indexes of the log tables (see V17).
+ */
+@Repository
+public interface ReptileCareSummaryRepository extends JpaRepository<ReptileCareSummary, Long> {
+
+    String REFRESH_SELECT = """
+            INSERT INTO reptile_care_summary (reptile_id, user_id, name, species, status, enclosure_id, highlight_image_id,
+                                              last_feeding_date, refusal_streak, last_shedding_date, last_poop_date,
+                                              last_weight_date, current_weight_grams, weight_change_30d_grams,
+                                              last_cleaning_date, refreshed_at)
+            SELECT r.id, r.user_id, r.name, r.species, r.status, r.enclosure_id, r.highlight_image_id,
+                   f.last_date, fr.streak, s.last_date, p.last_date,
+                   w.measurement_date, w.weight_grams, w.weight_grams - w30.weight_grams,
+                   c.last_date, CURRENT_TIMESTAMP
+            FROM reptiles r
+            LEFT JOIN LATERAL (SELECT MAX(feeding_date) AS last_date, MAX(feeding_date) FILTER (WHERE ate) AS last_accepted
+                               FROM feeding_logs WHERE reptile_id = r.id) f ON TRUE
+            LEFT JOIN LATERAL (SELECT COUNT(*) AS streak FROM feeding_logs
+                               WHERE reptile_id = r.id AND NOT ate
+                                 AND feeding_date > COALESCE(f.last_accepted, CAST('-infinity' AS TIMESTAMP))) fr ON TRUE
+            LEFT JOIN LATERAL (SELECT MAX(shedding_date) AS last_date FROM shedding_logs WHERE reptile_id = r.id) s ON TRUE
+            LEFT JOIN LATERAL (SELECT MAX(poop_date) AS last_date FROM poop_logs WHERE reptile_id = r.id) p ON TRUE
+            LEFT JOIN LATERAL (SELECT measurement_date, weight_grams FROM weight_logs WHERE reptile_id = r.id
+                               ORDER BY measurement_date DESC, id DESC LIMIT 1) w ON TRUE
+            LEFT JOIN LATERAL (SELECT weight_grams FROM weight_logs
+                               WHERE reptile_id = r.id AND measurement_date <= w.measurement_date - INTERVAL '30 days'
+                               ORDER BY measurement_date DESC, id DESC LIMIT 1) w30 ON TRUE
+            LEFT JOIN LATERAL (SELECT MAX(cleaning_date) AS last_date FROM enclosure_cleanings
+                               WHERE enclosure_id = r.enclosure_id) c ON TRUE
+            """;
+
+    /** Only rows whose content changed are written, so the update count of a full refresh is the drift */
+    String REFRESH_UPSERT = """
+            ON CONFLICT (reptile_id) DO UPDATE SET
+                user_id = EXCLUDED.user_id, name = EXCLUDED.name, species = EXCLUDED.species,
+                status = EXCLUDED.status, enclosure_id = EXCLUDED.enclosure_id,
+                highlight_image_id = EXCLUDED.highlight_image_id, last_feeding_date = EXCLUDED.last_feeding_date,
+                refusal_streak = EXCLUDED.refusal_streak, last_shedding_date = EXCLUDED.last_shedding_date,
+                last_poop_date = EXCLUDED.last_poop_date, last_weight_date = EXCLUDED.last_weight_date,
+                current_weight_grams = EXCLUDED.current_weight_grams,
+                weight_change_30d_grams = EXCLUDED.weight_change_30d_grams,
+                last_cleaning_date = EXCLUDED.last_cleaning_date, refreshed_at = EXCLUDED.refreshed_at
+            WHERE (reptile_care_summary.user_id, reptile_care_summary.name, reptile_care_summary.species,
+                   reptile_care_summary.status, reptile_care_summary.enclosure_id,
+                   reptile_care_summary.highlight_image_id, reptile_care_summary.last_feeding_date,
+                   reptile_care_summary.refusal_streak, reptile_care_summary.last_shedding_date,
+                   reptile_care_summary.last_poop_date, reptile_care_summary.last_weight_date,
+                   reptile_care_summary.current_weight_grams, reptile_care_summary.weight_change_30d_grams,
+                   reptile_care_summary.last_cleaning_date)
+                  IS DISTINCT FROM
+                  (EXCLUDED.user_id, EXCLUDED.name, EXCLUDED.species, EXCLUDED.status, EXCLUDED.enclosure_id,
+                   EXCLUDED.highlight_image_id, EXCLUDED.last_feeding_date, EXCLUDED.refusal_streak,
+                   EXCLUDED.last_shedding_date, EXCLUDED.last_poop_date, EXCLUDED.last_weight_date,
+                   EXCLUDED.current_weight_grams, EXCLUDED.weight_change_30d_grams, EXCLUDED.last_cleaning_date)
+            """;
+
+    /**
+     * Advisory lock class of the summary refreshes. Their locks use the two-key form, so they
+     * never collide with the single-key blob hash locks.
+     */
+    int REFRESH_LOCK_CLASS = 1;
+
+    /**
+     * Takes a transaction-scoped advisory lock on each given reptile's summary, in a fixed order
+     * so concurrent callers cannot deadlock. A refresh that takes it first waits for another
+     * writer of the same reptile to commit, and its statement then sees that writer's logs.
+     *
+     * @param reptileIds the reptile IDs
+     * @return the number of locks taken
+     */
+    @Query(value = "SELECT COUNT(CAST(pg_advisory_xact_lock(" + REFRESH_LOCK_CLASS + ", k) AS text)) FROM "
+            + "(SELECT DISTINCT CAST(id % 2147483648 AS INTEGER) AS k FROM unnest(ARRAY[:reptileIds]) AS id ORDER BY k) "
+            + "AS lock_keys", nativeQuery = true)
+    long lockReptiles(@Param("reptileIds") Collection<Long> reptileIds);
+
+    /**
+     * Takes the refresh lock of every reptile in an enclosure, as {@link #lockReptiles} does.
+     *
+     * @param enclosureId the enclosure ID
+     * @return the number of locks taken
+     */
+    @Query(value = "SELECT COUNT(CAST(pg_advisory_xact_lock(" + REFRESH_LOCK_CLASS + ", k) AS text)) FROM "
+            + "(SELECT DISTINCT CAST(id % 2147483648 AS INTEGER) AS k FROM reptiles WHERE enclosure_id = :enclosureId "
+            + "ORDER BY k) AS lock_keys", nativeQuery = true)
+    long lockEnclosureReptiles(@Param("enclosureId") Long enclosureId);
+
+    /**
+     * Recomputes the summaries of the given reptiles.
+     * @param reptileIds the reptile IDs
+     * @return the number of rows that changed
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SELECT + "WHERE r.id IN (:reptileIds)\n" + REFRESH_UPSERT, nativeQuery = true)
+    int refreshByReptileIds(@Param("reptileIds") Collection<Long> reptileIds);
+
+    /**
+     * Recomputes the summaries of all reptiles in an enclosure.
+     * @param enclosureId the enclosure ID
+     * @return the number of rows that changed
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SELECT + "WHERE r.enclosure_id = :enclosureId\n" + REFRESH_UPSERT, nativeQuery = true)
+    int refreshByEnclosureId(@Param("enclosureId") Long enclosureId);
+
+    /**
+     * Recomputes the summaries of all reptiles.
+     * @return the number of rows that changed
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_SELECT + REFRESH_UPSERT, nativeQuery = true)
+    int refreshAll();
+
+    /**
+     * Finds the care summaries of a user's reptiles, filtered by care state.
+     * Sorting and paging are taken from the pageable.
+     * @param userId the user ID
+     * @param status only reptiles with this status, or null for all
+     * @param minRefusalStreak only reptiles with at least this many refusals in a row, or null for all
+     * @param fedBefore only reptiles not fed since this date, or null for all
+     * @param pageable the page and sort order
+     * @return the matching summaries
+     */
+    @Query("SELECT s FROM ReptileCareSummary s WHERE s.userId = :userId "
+            + "AND (:status IS NULL OR s.status = :status) "
+            + "AND (:minRefusalStreak IS NULL OR s.refusalStreak >= :minRefusalStreak) "
+            + "AND (:fedBefore IS NULL OR s.lastFeedingDate IS NULL OR s.lastFeedingDate < :fedBefore)")
+    List<ReptileCareSummary> findByUserId(@Param("userId") Long userId,
+                                          @Param("status") Reptile.ReptileStatus status,
+                                          @Param("minRefusalStreak") Integer minRefusalStreak,
+                                          @Param("fedBefore") LocalDateTime fedBefore,
+                                          Pageable pageable);
+}
@@ -2,8 +2,13 @@ package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.ReptileImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +33,83 @@ public interface ReptileImageRepository extends JpaRepository<ReptileImage, Long
      */
     List<ReptileImage> findByReptileIdOrderByUpdatedAtDesc(Long reptileId);
 
+    /**
+     * Checks whether an image belongs to a specific reptile.
+     *
+     * @param id        the image ID
+     * @param reptileId the reptile ID
+     * @return true if the image exists and belongs to the reptile
+     */
+    boolean existsByIdAndReptileId(Long id, Long reptileId);
+
+    /**
+     * Finds which of the given blobs are referenced by any image as its original or one of its derivatives.
+     *
+     * @param hashes the SHA-256 content hashes to check
+     * @return the referenced hashes
+     */
+    @Query(value = "SELECT content_hash FROM reptile_images WHERE content_hash IN (:hashes) "
+            + "UNION SELECT thumb_hash FROM reptile_images WHERE thumb_hash IN (:hashes) "
+            + "UNION SELECT card_hash FROM reptile_images WHERE card_hash IN (:hashes) "
+            + "UNION SELECT full_hash FROM reptile_images WHERE full_hash IN (:hashes)",
+            nativeQuery = true)
+    List<String> findReferencedBlobs(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Takes a transaction-scoped advisory lock on each given blob hash, in a fixed order so
+     * concurrent callers cannot deadlock. Writers of rows referencing a blob and the blob sweep
+     * both take it, so a blob is never swept while a row referencing it is being committed.
+     *
+     * @param hashes the SHA-256 content hashes to lock
+     * @return the number of locks taken
+     */
+    @Query(value = "SELECT COUNT(CAST(pg_advisory_xact_lock(k) AS text)) FROM "
+            + "(SELECT DISTINCT hashtext(h) AS k FROM unnest(ARRAY[:hashes]) AS h ORDER BY k) AS lock_keys",
+            nativeQuery = true)
+    long lockBlobs(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Finds the IDs of all images whose derivatives have not been generated yet,
+     * skipping images whose original cannot be decoded.
+     *
+     * @return list of image IDs
+     */
+    @Query("SELECT i.id FROM ReptileImage i WHERE i.placeholder IS NULL AND i.variantsUnavailable = false ORDER BY i.id")
+    List<Long> findIdsWithoutVariants();
+
+    /**
+     * Stores the generated derivatives of an image without touching its other columns.
+     *
+     * @param id                 the image ID
+     * @param thumbHash          content hash of the thumbnail
+     * @param cardHash           content hash of the card-sized derivative
+     * @param fullHash           content hash of the full-width derivative
+     * @param variantContentType MIME type of the derivatives
+     * @param placeholder        tiny preview as a data URI
+     * @return number of updated rows, 0 if the image was deleted meanwhile
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReptileImage i SET i.thumbHash = :thumbHash, i.cardHash = :cardHash, i.fullHash = :fullHash, "
+            + "i.variantContentType = :variantContentType, i.placeholder = :placeholder WHERE i.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbHash") String thumbHash,
+                       @Param("cardHash") String cardHash,
+                       @Param("fullHash") String fullHash,
+                       @Param("variantContentType") String variantContentType,
+                       @Param("placeholder") String placeholder);
+
+    /**
+     * Records that no derivatives can be generated for an image because its original cannot be decoded.
+     *
+     * @param id the image ID
+     * @return number of updated rows, 0 if the image was deleted meanwhile
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReptileImage i SET i.variantsUnavailable = true WHERE i.id = :id")
+    int markVariantsUnavailable(@Param("id") Long id);
+
     /**
      * Counts all images for a specific reptile.
      * 
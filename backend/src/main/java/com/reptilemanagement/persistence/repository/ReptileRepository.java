@@ -1,13 +1,22 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.projection.ReptileDashboardView;
+import com.reptilemanagement.persistence.projection.ReptileNameView;
+import com.reptilemanagement.persistence.projection.ReptileStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Reptile entity operations.
@@ -33,6 +42,16 @@ public interface ReptileRepository extends JpaRepository<Reptile, Long> {
      */
     Optional<Reptile> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * Deletes the reptiles with the given IDs that belong to the given user, in one statement.
+     * @param ids the reptile IDs
+     * @param userId the ID of the user
+     * @return the number of deleted reptiles
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Reptile r WHERE r.id IN :ids AND r.userId = :userId")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Checks if a reptile exists and belongs to the given user.
      * @param id the reptile ID
@@ -90,6 +109,43 @@ public interface ReptileRepository extends JpaRepository<Reptile, Long> {
      */
     List<Reptile> findByUserIdAndEnclosureId(Long userId, Long enclosureId);
 
+    /**
+     * Finds every reptile of a user together with the newest entry of each of its logs.
+     * Each lateral subquery reads a single row from the (reptile_id, date DESC) index,
+     * so the cost grows with the number of reptiles, not with the length of their history.
+     * @param userId the user ID
+     * @return one dashboard row per reptile owned by the user, ordered by name
+     */
+    @Query(value = """
+            SELECT r.id AS "reptileId", r.name AS "name", r.species AS "species", r.status AS "status",
+                   r.highlight_image_id AS "highlightImageId",
+                   f.feeding_date AS "lastFeedingDate", f.food_type AS "lastFoodType", f.ate AS "lastFeedingAte",
+                   CURRENT_DATE - CAST(f.feeding_date AS DATE) AS "daysSinceFeeding",
+                   w.weight_grams AS "currentWeightGrams", w.measurement_date AS "lastWeightDate",
+                   wp.weight_grams AS "previousWeightGrams",
+                   s.shedding_date AS "lastSheddingDate", s.shed_quality AS "lastShedQuality",
+                   p.poop_date AS "lastPoopDate", p.consistency AS "lastPoopConsistency"
+            FROM reptiles r
+            LEFT JOIN LATERAL (
+                SELECT feeding_date, food_type, ate FROM feeding_logs
+                WHERE reptile_id = r.id ORDER BY feeding_date DESC, id DESC LIMIT 1) f ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT weight_grams, measurement_date FROM weight_logs
+                WHERE reptile_id = r.id ORDER BY measurement_date DESC, id DESC LIMIT 1) w ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT weight_grams FROM weight_logs
+                WHERE reptile_id = r.id ORDER BY measurement_date DESC, id DESC OFFSET 1 LIMIT 1) wp ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT shedding_date, shed_quality FROM shedding_logs
+                WHERE reptile_id = r.id ORDER BY shedding_date DESC, id DESC LIMIT 1) s ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT poop_date, consistency FROM poop_logs
+                WHERE reptile_id = r.id ORDER BY poop_date DESC, id DESC LIMIT 1) p ON TRUE
+            WHERE r.user_id = :userId
+            ORDER BY r.name, r.id
+            """, nativeQuery = true)
+    List<ReptileDashboardView> findDashboardByUserId(@Param("userId") Long userId);
+
     // ==================== Non-scoped queries (legacy) ====================
 
     /**
@@ -134,4 +190,46 @@ public interface ReptileRepository extends JpaRepository<Reptile, Long> {
      * @return count of reptiles with the specified status
      */
     long countByStatus(Reptile.ReptileStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Finds the IDs of all reptiles owned by a user.
+     * @param userId the user ID
+     * @return the reptile IDs
+     */
+    @Query("SELECT r.id FROM Reptile r WHERE r.userId = :userId ORDER BY r.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the IDs and names of all reptiles owned by a user.
+     * @param userId the user ID
+     * @return the reptile IDs with their names
+     */
+    @Query("SELECT r.id AS id, r.name AS name FROM Reptile r WHERE r.userId = :userId")
+    List<ReptileNameView> findNamesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts a user's reptiles by status in one query.
+     * @param userId the user ID
+     * @return the counts
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "total",
+                   COUNT(*) FILTER (WHERE status = 'ACTIVE') AS "active",
+                   COUNT(*) FILTER (WHERE status = 'QUARANTINE') AS "quarantine",
+                   COUNT(*) FILTER (WHERE status = 'DECEASED') AS "deceased"
+            FROM reptiles
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    ReptileStatisticsView getStatisticsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Streams all reptiles owned by a user, for export. Must be consumed inside a transaction and closed.
+     * @param userId the user ID
+     * @return the reptiles ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Reptile> streamByUserIdOrderByIdAsc(Long userId);
+}
@@ -0,0 +1,72 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.projection.SearchHitView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository for the full-text and fuzzy search across reptiles, enclosures and all logs.
+ * Bound to {@link Reptile} only because Spring Data requires a domain type; the query spans all tables.
+ */
+public interface SearchRepository extends Repository<Reptile, Long> {
+
+    /**
+     * Searches everything the user owns. Names, species and subspecies match typo-tolerantly
+     * through trigram similarity; all text and notes columns match through the generated
+     * tsvector columns. Both paths are served by GIN indexes (see V9).
+     * @param userId the user ID
+     * @param term the search term as typed by the user
+     * @param limit the maximum number of hits
+     * @return the best hits, highest score first
+     */
+    @Query(value = """
+            SELECT 'REPTILE' AS "type", r.id AS "id", r.id AS "reptileId", r.enclosure_id AS "enclosureId",
+                   r.name AS "title", concat_ws(' ', r.species, r.subspecies) AS "snippet",
+                   CAST(NULL AS TIMESTAMP) AS "occurredAt",
+                   CAST(GREATEST(similarity(r.name, :term), similarity(r.species, :term),
+                                 similarity(coalesce(r.subspecies, ''), :term))
+                        + ts_rank(r.search_vector, websearch_to_tsquery('simple', :term)) AS DOUBLE PRECISION) AS "score"
+            FROM reptiles r
+            WHERE r.user_id = :userId
+              AND (r.name % :term OR r.species % :term OR r.subspecies % :term
+                   OR r.search_vector @@ websearch_to_tsquery('simple', :term))
+            UNION ALL
+            SELECT 'ENCLOSURE', e.id, NULL, e.id, e.name, left(e.notes, 160), NULL,
+                   similarity(e.name, :term) + ts_rank(e.search_vector, websearch_to_tsquery('simple', :term))
+            FROM enclosures e
+            WHERE e.user_id = :userId
+              AND (e.name % :term OR e.search_vector @@ websearch_to_tsquery('simple', :term))
+            UNION ALL
+            SELECT 'FEEDING_LOG', f.id, r.id, NULL, r.name, concat_ws(' - ', f.food_type, left(f.notes, 160)), f.feeding_date,
+                   ts_rank(f.search_vector, websearch_to_tsquery('simple', :term))
+            FROM feeding_logs f JOIN reptiles r ON r.id = f.reptile_id
+            WHERE r.user_id = :userId AND f.search_vector @@ websearch_to_tsquery('simple', :term)
+            UNION ALL
+            SELECT 'WEIGHT_LOG', w.id, r.id, NULL, r.name, left(w.notes, 160), w.measurement_date,
+                   ts_rank(w.search_vector, websearch_to_tsquery('simple', :term))
+            FROM weight_logs w JOIN reptiles r ON r.id = w.reptile_id
+            WHERE r.user_id = :userId AND w.search_vector @@ websearch_to_tsquery('simple', :term)
+            UNION ALL
+            SELECT 'SHEDDING_LOG', s.id, r.id, NULL, r.name, concat_ws(' - ', s.shed_quality, left(s.notes, 160)), s.shedding_date,
+                   ts_rank(s.search_vector, websearch_to_tsquery('simple', :term))
+            FROM shedding_logs s JOIN reptiles r ON r.id = s.reptile_id
+            WHERE r.user_id = :userId AND s.search_vector @@ websearch_to_tsquery('simple', :term)
+            UNION ALL
+            SELECT 'POOP_LOG', p.id, r.id, NULL, r.name, concat_ws(' - ', p.consistency, left(p.notes, 160)), p.poop_date,
+                   ts_rank(p.search_vector, websearch_to_tsquery('simple', :term))
+            FROM poop_logs p JOIN reptiles r ON r.id = p.reptile_id
+            WHERE r.user_id = :userId AND p.search_vector @@ websearch_to_tsquery('simple', :term)
+            UNION ALL
+            SELECT 'ENCLOSURE_CLEANING', c.id, NULL, e.id, e.name, concat_ws(' - ', c.cleaning_type, left(c.notes, 160)), c.cleaning_date,
+                   ts_rank(c.search_vector, websearch_to_tsquery('simple', :term))
+            FROM enclosure_cleanings c JOIN enclosures e ON e.id = c.enclosure_id
+            WHERE e.user_id = :userId AND c.search_vector @@ websearch_to_tsquery('simple', :term)
+            ORDER BY "score" DESC, "occurredAt" DESC NULLS FIRST
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SearchHitView> search(@Param("userId") Long userId, @Param("term") String term, @Param("limit") int limit);
+}
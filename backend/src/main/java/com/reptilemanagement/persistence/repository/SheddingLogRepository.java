@@ -1,13 +1,22 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.SheddingLog;
+import com.reptilemanagement.persistence.projection.SheddingStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for SheddingLog entity operations.
@@ -16,6 +25,27 @@ import java.util.List;
 @Repository
 public interface SheddingLogRepository extends JpaRepository<SheddingLog, Long> {
 
+    /**
+     * Finds a shedding log if its reptile belongs to the given user.
+     * @param id the shedding log ID
+     * @param userId the ID of the user
+     * @return the shedding log, or empty if it does not exist or belongs to another user
+     */
+    @Query("SELECT s FROM SheddingLog s WHERE s.id = :id "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = s.reptileId AND r.userId = :userId)")
+    Optional<SheddingLog> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes the shedding logs with the given IDs whose reptile belongs to the given user, in one statement.
+     * @param ids the shedding log IDs
+     * @param userId the ID of the user
+     * @return the number of deleted shedding logs
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SheddingLog s WHERE s.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = s.reptileId AND r.userId = :userId)")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Finds all shedding logs for a specific reptile.
      * @param reptileId the ID of the reptile
@@ -23,6 +53,23 @@ public interface SheddingLogRepository extends JpaRepository<SheddingLog, Long>
      */
     List<SheddingLog> findByReptileIdOrderBySheddingDateDesc(Long reptileId);
 
+    /**
+     * Finds the next page of shedding logs for a specific reptile, seeking past the given position.
+     * Rows are ordered by (sheddingDate DESC, id DESC) so the position is unique even for equal dates.
+     * The redundant sheddingDate bound is the index range start; the OR only filters rows of equal date.
+     * @param reptileId the ID of the reptile
+     * @param date the sheddingDate of the last row of the previous page
+     * @param id the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next shedding logs, newest first
+     */
+    @Query("SELECT s FROM SheddingLog s WHERE s.reptileId = :reptileId "
+            + "AND s.sheddingDate <= :date "
+            + "AND (s.sheddingDate < :date OR (s.sheddingDate = :date AND s.id < :id)) "
+            + "ORDER BY s.sheddingDate DESC, s.id DESC")
+    List<SheddingLog> findPageByReptileId(@Param("reptileId") Long reptileId, @Param("date") LocalDateTime date,
+            @Param("id") Long id, Limit limit);
+
     /**
      * Finds shedding logs for a specific reptile within a date range.
      * @param reptileId the ID of the reptile
@@ -61,4 +108,30 @@ public interface SheddingLogRepository extends JpaRepository<SheddingLog, Long>
      */
     @Query("SELECT s FROM SheddingLog s WHERE s.reptileId = :reptileId AND s.ateShed = true ORDER BY s.sheddingDate DESC")
     List<SheddingLog> findAteShedByReptileId(@Param("reptileId") Long reptileId);
-}
\ No newline at end of file
+
+    /**
+     * Computes the shedding statistics of a reptile in one pass without loading any entity.
+     * @param reptileId the ID of the reptile
+     * @return the aggregates; counts are 0 and the rest null if there are no sheds
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "totalSheddings",
+                   COUNT(*) FILTER (WHERE ate_shed) AS "ateShedCount",
+                   MAX(shedding_date) AS "lastSheddingDate",
+                   CAST(EXTRACT(EPOCH FROM MAX(shedding_date) - MIN(shedding_date)) / 86400 / NULLIF(COUNT(*) - 1, 0) AS DOUBLE PRECISION) AS "meanShedCycleDays"
+            FROM shedding_logs
+            WHERE reptile_id = :reptileId
+            """, nativeQuery = true)
+    SheddingStatisticsView getStatisticsByReptileId(@Param("reptileId") Long reptileId);
+
+    /**
+     * Streams all shedding logs of a reptile, for export. Must be consumed inside a transaction and closed.
+     * @param reptileId the ID of the reptile
+     * @return the shedding logs, oldest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SheddingLog> streamByReptileIdOrderBySheddingDateAscIdAsc(Long reptileId);
+}
@@ -2,8 +2,18 @@ package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    /**
+     * Finds the current token version of a user without loading the entity.
+     * @param id the user ID
+     * @return the token version, or empty if the user does not exist
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+}
@@ -1,13 +1,22 @@
 package com.reptilemanagement.persistence.repository;
 
 import com.reptilemanagement.persistence.domain.WeightLog;
+import com.reptilemanagement.persistence.projection.WeightStatisticsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for WeightLog entity operations.
@@ -16,6 +25,27 @@ import java.util.List;
 @Repository
 public interface WeightLogRepository extends JpaRepository<WeightLog, Long> {
 
+    /**
+     * Finds a weight log if its reptile belongs to the given user.
+     * @param id the weight log ID
+     * @param userId the ID of the user
+     * @return the weight log, or empty if it does not exist or belongs to another user
+     */
+    @Query("SELECT w FROM WeightLog w WHERE w.id = :id "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = w.reptileId AND r.userId = :userId)")
+    Optional<WeightLog> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes the weight logs with the given IDs whose reptile belongs to the given user, in one statement.
+     * @param ids the weight log IDs
+     * @param userId the ID of the user
+     * @return the number of deleted weight logs
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM WeightLog w WHERE w.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Reptile r WHERE r.id = w.reptileId AND r.userId = :userId)")
+    int deleteByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
     /**
      * Finds all weight logs for a specific reptile.
      * @param reptileId the ID of the reptile
@@ -23,6 +53,23 @@ public interface WeightLogRepository extends JpaRepository<WeightLog, Long> {
      */
     List<WeightLog> findByReptileIdOrderByMeasurementDateDesc(Long reptileId);
 
+    /**
+     * Finds the next page of weight logs for a specific reptile, seeking past the given position.
+     * Rows are ordered by (measurementDate DESC, id DESC) so the position is unique even for equal dates.
+     * The redundant measurementDate bound is the index range start; the OR only filters rows of equal date.
+     * @param reptileId the ID of the reptile
+     * @param date the measurementDate of the last row of the previous page
+     * @param id the ID of the last row of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next weight logs, newest first
+     */
+    @Query("SELECT w FROM WeightLog w WHERE w.reptileId = :reptileId "
+            + "AND w.measurementDate <= :date "
+            + "AND (w.measurementDate < :date OR (w.measurementDate = :date AND w.id < :id)) "
+            + "ORDER BY w.measurementDate DESC, w.id DESC")
+    List<WeightLog> findPageByReptileId(@Param("reptileId") Long reptileId, @Param("date") LocalDateTime date,
+            @Param("id") Long id, Limit limit);
+
     /**
      * Finds weight logs for a specific reptile within a date range.
      * @param reptileId the ID of the reptile
@@ -41,11 +88,11 @@ public interface WeightLogRepository extends JpaRepository<WeightLog, Long> {
     WeightLog findTopByReptileIdOrderByMeasurementDateDesc(Long reptileId);
 
     /**
-     * Finds the most recent weight measurement for a specific reptile.
+     * Finds all weight measurements for a specific reptile in chronological order.
      * @param reptileId the ID of the reptile
-     * @return the weight in grams, or null if no measurements exist
+     * @return the weights in grams, oldest first
      */
-    @Query("SELECT w.weightGrams FROM WeightLog w WHERE w.reptileId = :reptileId ORDER BY w.measurementDate DESC")
+    @Query("SELECT w.weightGrams FROM WeightLog w WHERE w.reptileId = :reptileId ORDER BY w.measurementDate, w.id")
     List<java.math.BigDecimal> findWeightHistoryByReptileId(@Param("reptileId") Long reptileId);
 
     /**
@@ -63,4 +110,31 @@ public interface WeightLogRepository extends JpaRepository<WeightLog, Long> {
      */
     @Query("SELECT w FROM WeightLog w WHERE w.reptileId = :reptileId AND w.weightGrams >= :minWeight ORDER BY w.measurementDate DESC")
     List<WeightLog> findWeightsAboveThreshold(@Param("reptileId") Long reptileId, @Param("minWeight") java.math.BigDecimal minWeight);
-}
\ No newline at end of file
+
+    /**
+     * Computes the weight statistics of a reptile in one pass without loading any entity.
+     * @param reptileId the ID of the reptile
+     * @return the aggregates; the count is 0 and the weights null if there are no measurements
+     */
+    @Query(value = """
+            SELECT COUNT(*) AS "measurementCount",
+                   (ARRAY_AGG(weight_grams ORDER BY measurement_date, id))[1] AS "initialWeight",
+                   (ARRAY_AGG(weight_grams ORDER BY measurement_date DESC, id DESC))[1] AS "currentWeight",
+                   MIN(weight_grams) AS "minWeight",
+                   MAX(weight_grams) AS "maxWeight"
+            FROM weight_logs
+            WHERE reptile_id = :reptileId
+            """, nativeQuery = true)
+    WeightStatisticsView getStatisticsByReptileId(@Param("reptileId") Long reptileId);
+
+    /**
+     * Streams all weight logs of a reptile, for export. Must be consumed inside a transaction and closed.
+     * @param reptileId the ID of the reptile
+     * @return the weight logs, oldest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<WeightLog> streamByReptileIdOrderByMeasurementDateAscIdAsc(Long reptileId);
+}
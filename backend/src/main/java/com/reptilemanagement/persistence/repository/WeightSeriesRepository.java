@@ -0,0 +1,108 @@
+package com.reptilemanagement.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository reading weight measurements as primitive arrays for charting.
+ * Bypasses JPA so a long history costs two arrays instead of one entity and
+ * {@link java.math.BigDecimal} per measurement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeightSeriesRepository {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads the measurements of a reptile in chronological order.
+     * @param reptileId the ID of the reptile
+     * @param from the earliest measurement date to include, or null for no lower bound
+     * @param to the latest measurement date to include, or null for no upper bound
+     * @return the measurements, oldest first
+     */
+    public Samples findByReptileId(Long reptileId, LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT CAST(EXTRACT(EPOCH FROM measurement_date) AS BIGINT), CAST(weight_grams AS DOUBLE PRECISION)
+                FROM weight_logs
+                WHERE reptile_id = ?""");
+        List<Object> args = new ArrayList<>(3);
+        args.add(reptileId);
+        if (from != null) {
+            sql.append(" AND measurement_date >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND measurement_date <= ?");
+            args.add(to);
+        }
+        sql.append(" ORDER BY measurement_date, id");
+
+        Samples samples = new Samples();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            samples.add(rs.getLong(1), rs.getDouble(2));
+        }, args.toArray());
+        return samples;
+    }
+
+    /**
+     * Reads the measurements of several reptiles in one query.
+     * @param reptileIds the IDs of the reptiles
+     * @return the measurements per reptile, oldest first; reptiles without measurements are absent
+     */
+    public Map<Long, Samples> findByReptileIds(Collection<Long> reptileIds) {
+        Map<Long, Samples> samplesByReptile = new HashMap<>();
+        if (reptileIds.isEmpty()) {
+            return samplesByReptile;
+        }
+        jdbcTemplate.query("""
+                        SELECT reptile_id, CAST(EXTRACT(EPOCH FROM measurement_date) AS BIGINT),
+                               CAST(weight_grams AS DOUBLE PRECISION)
+                        FROM weight_logs
+                        WHERE reptile_id = ANY(?)
+                        ORDER BY reptile_id, measurement_date, id""",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", reptileIds.toArray())),
+                rs -> {
+                    samplesByReptile.computeIfAbsent(rs.getLong(1), id -> new Samples())
+                            .add(rs.getLong(2), rs.getDouble(3));
+                });
+        return samplesByReptile;
+    }
+
+    /**
+     * Growable pair of arrays holding measurement times and weights.
+     */
+    public static final class Samples {
+        private long[] epochSeconds = new long[INITIAL_CAPACITY];
+        private double[] grams = new double[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(long epochSecond, double weight) {
+            if (size == epochSeconds.length) {
+                epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+                grams = Arrays.copyOf(grams, size * 2);
+            }
+            epochSeconds[size] = epochSecond;
+            grams[size] = weight;
+            size++;
+        }
+
+        /** Measurement times as seconds since the epoch, interpreting the stored local time as UTC */
+        public long[] getEpochSeconds() { return epochSeconds; }
+        /** Weights in grams */
+        public double[] getGrams() { return grams; }
+        /** Number of valid entries in the arrays */
+        public int getSize() { return size; }
+    }
+}
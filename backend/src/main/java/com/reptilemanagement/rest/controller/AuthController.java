@@ -2,14 +2,22 @@ package com.reptilemanagement.rest.controller;
 
 import com.reptilemanagement.persistence.dto.AuthRequestDto;
 import com.reptilemanagement.persistence.dto.AuthResponseDto;
+import com.reptilemanagement.persistence.dto.RefreshTokenRequestDto;
+import com.reptilemanagement.security.AuthenticatedUser;
 import com.reptilemanagement.security.JwtTokenProvider;
+import com.reptilemanagement.security.TokenVersionRegistry;
+import com.reptilemanagement.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -21,6 +29,8 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody AuthRequestDto request) {
@@ -28,11 +38,49 @@ public class AuthController {
             new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
 
-        String token = tokenProvider.generateToken(authentication);
-        Set<String> roles = authentication.getAuthorities().stream()
+        return ResponseEntity.ok(issueTokens((UserDetails) authentication.getPrincipal()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair.
+     * Refresh tokens revoked by a password, username or role change or by deletion are rejected.
+     * The new tokens are built from the stored user rather than from the old token's claims.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        Claims claims = tokenProvider.verify(request.getRefreshToken())
+            .filter(tokenProvider::isRefreshToken)
+            .orElse(null);
+        AuthenticatedUser tokenUser = claims != null ? tokenProvider.getAuthenticatedUser(claims) : null;
+
+        if (tokenUser == null || !tokenVersionRegistry.isCurrent(tokenUser.getId(), tokenUser.getTokenVersion())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        AuthenticatedUser user;
+        try {
+            user = userDetailsService.loadUserById(tokenUser.getId());
+        } catch (UsernameNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (user.getTokenVersion() != tokenUser.getTokenVersion()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    private AuthResponseDto issueTokens(UserDetails user) {
+        Set<String> roles = user.getAuthorities().stream()
             .map(GrantedAuthority::getAuthority)
             .collect(Collectors.toSet());
 
-        return ResponseEntity.ok(new AuthResponseDto(token, request.getUsername(), roles));
+        return new AuthResponseDto(
+            tokenProvider.generateToken(user),
+            tokenProvider.generateRefreshToken(user),
+            user.getUsername(),
+            roles
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.persistence.dto.CareTaskDto;
+import com.reptilemanagement.rest.service.CareDueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for recurring care across the whole collection.
+ */
+@RestController
+@RequestMapping("/api/care")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class CareController {
+
+    private final CareDueService careDueService;
+
+    /**
+     * Lists overdue feedings and enclosure cleanings, followed by those due soon.
+     * @param horizonDays include tasks due within this many days (default 2, at most 90)
+     * @param limit the maximum number of tasks (default 200, at most 1000)
+     * @return the tasks, most urgent first
+     */
+    @GetMapping("/due")
+    public ResponseEntity<List<CareTaskDto>> getDueTasks(
+            @RequestParam(defaultValue = "2") int horizonDays,
+            @RequestParam(defaultValue = "200") int limit) {
+        log.debug("REST request to get care tasks due within {} days", horizonDays);
+
+        return ResponseEntity.ok(careDueService.getDueTasks(horizonDays, limit));
+    }
+}
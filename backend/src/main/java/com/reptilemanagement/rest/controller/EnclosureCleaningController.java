@@ -3,6 +3,7 @@ package com.reptilemanagement.rest.controller;
 import com.reptilemanagement.persistence.domain.EnclosureCleaning;
 import com.reptilemanagement.persistence.dto.EnclosureCleaningDto;
 import com.reptilemanagement.rest.service.EnclosureCleaningService;
+import com.reptilemanagement.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,6 +41,19 @@ public class EnclosureCleaningController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Creates several enclosure cleaning logs in one request, e.g. when importing a care history.
+     * @param cleaningDtos the enclosure cleaning log data, at most 10000 entries
+     * @return the created enclosure cleaning logs, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<EnclosureCleaningDto>> createCleaningLogs(@RequestBody List<@Valid EnclosureCleaningDto> cleaningDtos) {
+        log.info("REST request to create {} enclosure cleaning logs", cleaningDtos.size());
+
+        List<EnclosureCleaningDto> result = enclosureCleaningService.createEnclosureCleanings(cleaningDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Retrieves an enclosure cleaning log by ID.
      * @param id the cleaning log ID
@@ -55,15 +69,20 @@ public class EnclosureCleaningController {
     }
 
     /**
-     * Retrieves cleaning logs for a specific enclosure.
+     * Retrieves cleaning logs for a specific enclosure, one page at a time, newest first.
      * @param enclosureId the enclosure ID
-     * @return list of cleaning logs for the enclosure
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size; defaults to and is capped by the configured limits
+     * @return a page of enclosure cleaning logs with the cursor to the next page
      */
     @GetMapping("/enclosure/{enclosureId}")
-    public ResponseEntity<List<EnclosureCleaningDto>> getCleaningLogsByEnclosure(@PathVariable Long enclosureId) {
+    public ResponseEntity<CursorPage<EnclosureCleaningDto>> getCleaningLogsByEnclosure(
+            @PathVariable Long enclosureId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.debug("REST request to get cleaning logs for enclosure: {}", enclosureId);
 
-        List<EnclosureCleaningDto> cleanings = enclosureCleaningService.getEnclosureCleaningsByEnclosureId(enclosureId);
+        CursorPage<EnclosureCleaningDto> cleanings = enclosureCleaningService.getEnclosureCleaningsByEnclosureId(enclosureId, cursor, size);
         return ResponseEntity.ok(cleanings);
     }
 
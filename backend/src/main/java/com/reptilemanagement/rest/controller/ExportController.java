@@ -0,0 +1,67 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.rest.service.ExportService;
+import com.reptilemanagement.rest.service.ExportService.ExportFormat;
+import com.reptilemanagement.rest.service.ExportService.ExportType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * REST controller for downloading a user's complete data.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Streams the current user's reptiles, enclosures and logs as a download.
+     * @param format ndjson (default) or csv; CSV holds a single type
+     * @param type all (default, NDJSON only), reptiles, enclosures, feeding-logs, weight-logs,
+     *             shedding-logs, poop-logs or enclosure-cleanings
+     * @param gzip whether to compress the download (default true)
+     * @return the export, written while it is read
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "all") String type,
+            @RequestParam(defaultValue = "true") boolean gzip) {
+        log.info("REST request to export {} as {}", type, format);
+
+        Optional<ExportFormat> exportFormat = ExportFormat.fromParam(format);
+        Set<ExportType> types = "all".equalsIgnoreCase(type)
+                ? EnumSet.allOf(ExportType.class)
+                : ExportType.fromParam(type).map(EnumSet::of).orElse(null);
+        if (exportFormat.isEmpty() || types == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = exportService.export(types, exportFormat.get(), gzip);
+        String filename = "reptile-management-" + type.toLowerCase(Locale.ROOT) + "-" + LocalDate.now()
+                + "." + exportFormat.get().getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, gzip ? "application/gzip" : exportFormat.get().getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -2,6 +2,7 @@ package com.reptilemanagement.rest.controller;
 
 import com.reptilemanagement.persistence.dto.FeedingLogDto;
 import com.reptilemanagement.rest.service.FeedingLogService;
+import com.reptilemanagement.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -40,6 +41,19 @@ public class FeedingLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Creates several feeding logs in one request, e.g. when importing a care history.
+     * @param feedingLogDtos the feeding log data, at most 10000 entries
+     * @return the created feeding logs, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<FeedingLogDto>> createFeedingLogs(@RequestBody List<@Valid FeedingLogDto> feedingLogDtos) {
+        log.info("REST request to create {} feeding logs", feedingLogDtos.size());
+
+        List<FeedingLogDto> result = feedingLogService.createFeedingLogs(feedingLogDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Retrieves a feeding log by ID.
      * @param id the feeding log ID
@@ -55,15 +69,20 @@ public class FeedingLogController {
     }
 
     /**
-     * Retrieves all feeding logs for a specific reptile.
+     * Retrieves feeding logs for a specific reptile, one page at a time, newest first.
      * @param reptileId the reptile ID
-     * @return list of feeding logs for the reptile
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size; defaults to and is capped by the configured limits
+     * @return a page of feeding logs with the cursor to the next page
      */
     @GetMapping("/reptile/{reptileId}")
-    public ResponseEntity<List<FeedingLogDto>> getFeedingLogsByReptile(@PathVariable Long reptileId) {
+    public ResponseEntity<CursorPage<FeedingLogDto>> getFeedingLogsByReptile(
+            @PathVariable Long reptileId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.debug("REST request to get feeding logs for reptile: {}", reptileId);
 
-        List<FeedingLogDto> feedingLogs = feedingLogService.getFeedingLogsByReptileId(reptileId);
+        CursorPage<FeedingLogDto> feedingLogs = feedingLogService.getFeedingLogsByReptileId(reptileId, cursor, size);
         return ResponseEntity.ok(feedingLogs);
     }
 
@@ -0,0 +1,62 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.rest.service.LogImportService;
+import com.reptilemanagement.rest.service.LogImportService.ImportFormat;
+import com.reptilemanagement.rest.service.LogImportService.ImportResult;
+import com.reptilemanagement.rest.service.LogImportService.ImportType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * REST controller for importing care history from other apps and spreadsheets.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class ImportController {
+
+    private final LogImportService logImportService;
+
+    /**
+     * Imports logs from the request body, streamed as it arrives. Send CSV with a header row as
+     * {@code text/csv}, or one JSON object per line as {@code application/x-ndjson}. Column names
+     * are the DTO field names, case and separators ignored; {@code reptileName} may replace
+     * {@code reptileId}.
+     * @param type the kind of log: feeding-logs, weight-logs or shedding-logs
+     * @param contentType the format of the body
+     * @param body the rows to import
+     * @return the counts of imported, duplicate and rejected rows, with the problems per rejected row
+     */
+    @PostMapping("/{type}")
+    public ResponseEntity<ImportResult> importLogs(
+            @PathVariable String type,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        log.info("REST request to import {} as {}", type, contentType);
+
+        Optional<ImportType> importType = ImportType.fromParam(type);
+        if (importType.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ImportFormat> format = ImportFormat.fromContentType(contentType);
+        if (format.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+
+        return ResponseEntity.ok(logImportService.importLogs(importType.get(), format.get(), body));
+    }
+}
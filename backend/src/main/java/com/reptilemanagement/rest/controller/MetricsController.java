@@ -0,0 +1,60 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.rest.service.ReminderSchedulerService;
+import com.reptilemanagement.security.BoundedPasswordEncoder;
+import com.reptilemanagement.shared.cache.StatisticsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing internal runtime metrics (admin only).
+ */
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class MetricsController {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final StatisticsCache statisticsCache;
+    private final ReminderSchedulerService reminderSchedulerService;
+
+    /**
+     * Retrieves queue depth and hash latency of the password hashing pool.
+     * @return the password hashing statistics
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<BoundedPasswordEncoder.HashingStatistics> getPasswordHashingStatistics() {
+        log.debug("REST request to get password hashing statistics");
+
+        return ResponseEntity.ok(passwordEncoder.getStatistics());
+    }
+
+    /**
+     * Retrieves hit ratio, refresh latency and staleness of the statistics cache.
+     * @return the statistics cache statistics
+     */
+    @GetMapping("/statistics-cache")
+    public ResponseEntity<StatisticsCache.CacheStatistics> getStatisticsCacheStatistics() {
+        log.debug("REST request to get statistics cache statistics");
+
+        return ResponseEntity.ok(statisticsCache.getStatistics());
+    }
+
+    /**
+     * Retrieves pending timers and delivery counts of the reminder scheduler.
+     * @return the reminder scheduler statistics
+     */
+    @GetMapping("/reminders")
+    public ResponseEntity<ReminderSchedulerService.SchedulerStatistics> getReminderStatistics() {
+        log.debug("REST request to get reminder scheduler statistics");
+
+        return ResponseEntity.ok(reminderSchedulerService.getStatistics());
+    }
+}
@@ -2,6 +2,7 @@ package com.reptilemanagement.rest.controller;
 
 import com.reptilemanagement.persistence.dto.PoopLogDto;
 import com.reptilemanagement.rest.service.PoopLogService;
+import com.reptilemanagement.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -40,6 +41,19 @@ public class PoopLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Creates several poop logs in one request, e.g. when importing a care history.
+     * @param poopLogDtos the poop log data, at most 10000 entries
+     * @return the created poop logs, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<PoopLogDto>> createPoopLogs(@RequestBody List<@Valid PoopLogDto> poopLogDtos) {
+        log.info("REST request to create {} poop logs", poopLogDtos.size());
+
+        List<PoopLogDto> result = poopLogService.createPoopLogs(poopLogDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Retrieves a poop log by ID.
      * @param id the poop log ID
@@ -55,15 +69,20 @@ public class PoopLogController {
     }
 
     /**
-     * Retrieves all poop logs for a specific reptile.
+     * Retrieves poop logs for a specific reptile, one page at a time, newest first.
      * @param reptileId the reptile ID
-     * @return list of poop logs for the reptile
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size; defaults to and is capped by the configured limits
+     * @return a page of poop logs with the cursor to the next page
      */
     @GetMapping("/reptile/{reptileId}")
-    public ResponseEntity<List<PoopLogDto>> getPoopLogsByReptile(@PathVariable Long reptileId) {
+    public ResponseEntity<CursorPage<PoopLogDto>> getPoopLogsByReptile(
+            @PathVariable Long reptileId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.debug("REST request to get poop logs for reptile: {}", reptileId);
 
-        List<PoopLogDto> poopLogs = poopLogService.getPoopLogsByReptileId(reptileId);
+        CursorPage<PoopLogDto> poopLogs = poopLogService.getPoopLogsByReptileId(reptileId, cursor, size);
         return ResponseEntity.ok(poopLogs);
     }
 
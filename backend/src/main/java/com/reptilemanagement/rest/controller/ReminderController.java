@@ -0,0 +1,132 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.persistence.dto.ReminderDto;
+import com.reptilemanagement.persistence.dto.ReminderNotificationDto;
+import com.reptilemanagement.rest.service.ReminderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * REST controller for managing care reminders and reading the reminder inbox.
+ */
+@RestController
+@RequestMapping("/api/reminders")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class ReminderController {
+
+    private final ReminderService reminderService;
+
+    /**
+     * Creates a new reminder.
+     * @param reminderDto the reminder data
+     * @return the created reminder
+     */
+    @PostMapping
+    public ResponseEntity<ReminderDto> createReminder(@Valid @RequestBody ReminderDto reminderDto) {
+        log.info("REST request to create reminder: {}", reminderDto.getTitle());
+
+        ReminderDto result = reminderService.createReminder(reminderDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    /**
+     * Retrieves all reminders of the current user.
+     * @return list of reminders, next firing first
+     */
+    @GetMapping
+    public ResponseEntity<List<ReminderDto>> getAllReminders() {
+        log.debug("REST request to get all reminders");
+
+        return ResponseEntity.ok(reminderService.getAllReminders());
+    }
+
+    /**
+     * Retrieves the newest notifications of fired reminders.
+     * @param unreadOnly only unread notifications
+     * @param limit the maximum number of notifications (default 50, at most 200)
+     * @return the notifications, newest first
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<List<ReminderNotificationDto>> getInbox(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("REST request to get reminder inbox");
+
+        return ResponseEntity.ok(reminderService.getInbox(unreadOnly, limit));
+    }
+
+    /**
+     * Counts the unread notifications.
+     * @return the number of unread notifications
+     */
+    @GetMapping("/inbox/unread-count")
+    public ResponseEntity<Long> getUnreadCount() {
+        log.debug("REST request to count unread reminder notifications");
+
+        return ResponseEntity.ok(reminderService.getUnreadCount());
+    }
+
+    /**
+     * Marks a notification as read.
+     * @param notificationId the notification ID
+     * @return success status
+     */
+    @PatchMapping("/inbox/{notificationId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long notificationId) {
+        log.debug("REST request to mark reminder notification {} as read", notificationId);
+
+        boolean success = reminderService.markRead(notificationId);
+        return success ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Retrieves a reminder by ID.
+     * @param id the reminder ID
+     * @return the reminder
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ReminderDto> getReminder(@PathVariable Long id) {
+        log.debug("REST request to get reminder: {}", id);
+
+        return reminderService.getReminderById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Updates an existing reminder.
+     * @param id the reminder ID
+     * @param reminderDto the updated reminder data
+     * @return the updated reminder
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ReminderDto> updateReminder(@PathVariable Long id, @Valid @RequestBody ReminderDto reminderDto) {
+        log.info("REST request to update reminder: {}", id);
+
+        return reminderService.updateReminder(id, reminderDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Deletes a reminder. Notifications it already produced stay in the inbox.
+     * @param id the reminder ID
+     * @return success status
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteReminder(@PathVariable Long id) {
+        log.info("REST request to delete reminder: {}", id);
+
+        boolean success = reminderService.deleteReminder(id);
+        return success ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
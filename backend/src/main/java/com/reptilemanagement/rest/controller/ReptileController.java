@@ -1,23 +1,34 @@
 package com.reptilemanagement.rest.controller;
 
+import com.reptilemanagement.persistence.domain.ImageVariant;
 import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.dto.ReptileCareSummaryDto;
+import com.reptilemanagement.persistence.dto.ReptileDashboardDto;
 import com.reptilemanagement.persistence.dto.ReptileDto;
 import com.reptilemanagement.persistence.dto.ReptileImageDto;
+import com.reptilemanagement.rest.service.CareSummaryService;
 import com.reptilemanagement.rest.service.ReptileImageService;
 import com.reptilemanagement.rest.service.ReptileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for managing reptile operations.
@@ -32,6 +43,12 @@ public class ReptileController {
 
     private final ReptileService reptileService;
     private final ReptileImageService reptileImageService;
+    private final CareSummaryService careSummaryService;
+
+    /** Image content is immutable per image ID, so clients and proxies may cache it for a year */
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic()
+            .immutable();
 
     /**
      * Creates a new reptile.
@@ -60,6 +77,51 @@ public class ReptileController {
         return ResponseEntity.ok(reptiles);
     }
 
+    /**
+     * Retrieves all reptiles with their latest feeding, weight, shed and poop in one request.
+     * 
+     * @return list of dashboard entries
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<List<ReptileDashboardDto>> getDashboard() {
+        log.debug("REST request to get reptile dashboard");
+
+        List<ReptileDashboardDto> dashboard = reptileService.getDashboard();
+        return ResponseEntity.ok(dashboard);
+    }
+
+    /**
+     * Lists reptiles with their care summary, sorted and filtered on indexed columns.
+     *
+     * @param sort the column to sort by: last-fed, last-shed, weight-change, refusal-streak or name
+     * @param direction asc or desc
+     * @param status only reptiles with this status
+     * @param minRefusalStreak only reptiles that refused at least this many feedings in a row
+     * @param notFedForDays only reptiles not fed for at least this many days
+     * @param page the zero-based page
+     * @param size the page size, at most 500
+     * @return the care summaries, or 400 for an unknown sort column or direction
+     */
+    @GetMapping("/care-summary")
+    public ResponseEntity<List<ReptileCareSummaryDto>> getCareSummaries(
+            @RequestParam(defaultValue = "last-fed") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Reptile.ReptileStatus status,
+            @RequestParam(required = false) Integer minRefusalStreak,
+            @RequestParam(required = false) Integer notFedForDays,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        log.debug("REST request to get care summaries sorted by {} {}", sort, direction);
+
+        Optional<CareSummaryService.SortField> sortField = CareSummaryService.SortField.fromParam(sort);
+        Optional<Sort.Direction> sortDirection = Sort.Direction.fromOptionalString(direction);
+        if (sortField.isEmpty() || sortDirection.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(careSummaryService.getCareSummaries(status, minRefusalStreak, notFedForDays,
+                sortField.get(), sortDirection.get(), page, size));
+    }
+
     /**
      * Retrieves all active reptiles.
      * 
@@ -242,24 +304,64 @@ public class ReptileController {
     }
 
     /**
-     * Retrieves an image binary data by ID.
+     * Streams an image's binary data from the blob store by ID, optionally as a resized derivative.
+     * Image content never changes for an image ID and size, so responses carry a strong ETag derived
+     * from the content hash and are cacheable forever. Conditional requests are answered
+     * with 304 from metadata alone, and Range requests are served as 206 partial content.
      * 
-     * @param id      the reptile ID
-     * @param imageId the image ID
+     * @param id         the reptile ID
+     * @param imageId    the image ID
+     * @param size       optional derivative size (thumb, card or full); the original if omitted
+     * @param webRequest the current request, used to evaluate conditional headers
      * @return the image binary data with appropriate content type
      */
     @GetMapping("/{id}/images/{imageId}")
     @PreAuthorize("permitAll()")
-    public ResponseEntity<byte[]> getImage(@PathVariable Long id, @PathVariable Long imageId) {
-        log.debug("REST request to get image {} for reptile: {}", imageId, id);
+    public ResponseEntity<Resource> getImage(
+            @PathVariable Long id,
+            @PathVariable Long imageId,
+            @RequestParam(value = "size", required = false) String size,
+            WebRequest webRequest) {
+        log.debug("REST request to get image {} (size: {}) for reptile: {}", imageId, size, id);
+
+        ImageVariant variant = null;
+        if (size != null) {
+            Optional<ImageVariant> requested = ImageVariant.fromParam(size);
+            if (requested.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            variant = requested.get();
+        }
+        ImageVariant requestedVariant = variant;
 
         return reptileImageService.getImageById(imageId)
                 .filter(image -> image.getReptileId().equals(id))
-                .map(image -> ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + image.getFilename() + "\"")
-                        .contentType(MediaType.parseMediaType(image.getContentType()))
-                        .contentLength(image.getSize())
-                        .body(image.getImageData()))
+                .flatMap(image -> {
+                    ReptileImageService.ImageBlob blob = reptileImageService.resolveBlob(image, requestedVariant);
+                    String eTag = "\"" + blob.hash() + "\"";
+                    long lastModified = image.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    // An original standing in for a derivative that is not generated yet must be revalidated
+                    CacheControl cacheControl = blob.exact() ? IMAGE_CACHE_CONTROL : CacheControl.noCache();
+
+                    if (webRequest.checkNotModified(eTag, lastModified)) {
+                        return Optional.of(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .lastModified(lastModified)
+                                .cacheControl(cacheControl)
+                                .<Resource>build());
+                    }
+
+                    // Range requests on a Resource body are turned into 206 responses by Spring MVC
+                    return reptileImageService.getBlobContent(blob)
+                            .map(content -> ResponseEntity.ok()
+                                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + image.getFilename() + "\"")
+                                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                                    .contentType(MediaType.parseMediaType(blob.contentType()))
+                                    .eTag(eTag)
+                                    .lastModified(lastModified)
+                                    .cacheControl(cacheControl)
+                                    .body(content));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
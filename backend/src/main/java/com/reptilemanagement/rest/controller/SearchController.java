@@ -0,0 +1,43 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.persistence.dto.SearchHitDto;
+import com.reptilemanagement.rest.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for searching across reptiles, enclosures and logs.
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Searches names, species, enclosure details and all notes of the current user.
+     * Matching tolerates typos in names and ranks the best hits first.
+     * @param q the search term
+     * @param limit the maximum number of hits (default 20, at most 100)
+     * @return the ranked hits
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchHitDto>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("REST request to search for: {}", q);
+
+        return ResponseEntity.ok(searchService.search(q, limit));
+    }
+}
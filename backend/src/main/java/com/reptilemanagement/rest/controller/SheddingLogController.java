@@ -2,6 +2,7 @@ package com.reptilemanagement.rest.controller;
 
 import com.reptilemanagement.persistence.dto.SheddingLogDto;
 import com.reptilemanagement.rest.service.SheddingLogService;
+import com.reptilemanagement.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -40,6 +41,19 @@ public class SheddingLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Creates several shedding logs in one request, e.g. when importing a care history.
+     * @param sheddingLogDtos the shedding log data, at most 10000 entries
+     * @return the created shedding logs, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<SheddingLogDto>> createSheddingLogs(@RequestBody List<@Valid SheddingLogDto> sheddingLogDtos) {
+        log.info("REST request to create {} shedding logs", sheddingLogDtos.size());
+
+        List<SheddingLogDto> result = sheddingLogService.createSheddingLogs(sheddingLogDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Retrieves a shedding log by ID.
      * @param id the shedding log ID
@@ -55,15 +69,20 @@ public class SheddingLogController {
     }
 
     /**
-     * Retrieves all shedding logs for a specific reptile.
+     * Retrieves shedding logs for a specific reptile, one page at a time, newest first.
      * @param reptileId the reptile ID
-     * @return list of shedding logs for the reptile
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size; defaults to and is capped by the configured limits
+     * @return a page of shedding logs with the cursor to the next page
      */
     @GetMapping("/reptile/{reptileId}")
-    public ResponseEntity<List<SheddingLogDto>> getSheddingLogsByReptile(@PathVariable Long reptileId) {
+    public ResponseEntity<CursorPage<SheddingLogDto>> getSheddingLogsByReptile(
+            @PathVariable Long reptileId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.debug("REST request to get shedding logs for reptile: {}", reptileId);
 
-        List<SheddingLogDto> sheddingLogs = sheddingLogService.getSheddingLogsByReptileId(reptileId);
+        CursorPage<SheddingLogDto> sheddingLogs = sheddingLogService.getSheddingLogsByReptileId(reptileId, cursor, size);
         return ResponseEntity.ok(sheddingLogs);
     }
 
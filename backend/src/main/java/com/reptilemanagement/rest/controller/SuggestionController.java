@@ -0,0 +1,45 @@
+package com.reptilemanagement.rest.controller;
+
+import com.reptilemanagement.rest.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for typeahead suggestions, answered from memory.
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('USER')")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    /**
+     * Completes a prefix against the current user's reptile names, species, morphs or food types.
+     * @param field one of "name", "species", "morph" or "food-type"
+     * @param prefix the typed prefix; empty returns the most frequent values
+     * @param limit the maximum number of suggestions (default 10, at most 50)
+     * @return the completions, most frequent first
+     */
+    @GetMapping
+    public ResponseEntity<List<SuggestionService.Suggestion>> suggest(
+            @RequestParam String field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to suggest {} for prefix: {}", field, prefix);
+
+        return SuggestionService.Field.fromParam(field)
+                .map(f -> ResponseEntity.ok(suggestionService.suggest(f, prefix, limit)))
+                .orElse(ResponseEntity.badRequest().build());
+    }
+}
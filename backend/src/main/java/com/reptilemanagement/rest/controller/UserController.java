@@ -5,14 +5,15 @@ import com.reptilemanagement.persistence.dto.UpdateUserRequest;
 import com.reptilemanagement.persistence.dto.UserDetailDto;
 import com.reptilemanagement.persistence.dto.UserDto;
 import com.reptilemanagement.persistence.domain.User;
-import com.reptilemanagement.persistence.repository.UserRepository;
 import com.reptilemanagement.rest.service.UserService;
+import com.reptilemanagement.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,7 +28,6 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserService userService;
 
@@ -131,7 +131,7 @@ public class UserController {
     @PutMapping("/password")
     public ResponseEntity<?> updatePassword(
             @RequestBody Map<String, String> passwordData,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
 
         String oldPassword = passwordData.get("oldPassword");
         String newPassword = passwordData.get("newPassword");
@@ -147,9 +147,7 @@ public class UserController {
                     .body(Map.of("error", "New password must be at least 6 characters"));
         }
 
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = userService.getUser(currentUser.getId());
 
         // Verify old password
         if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
@@ -157,9 +155,8 @@ public class UserController {
                     .body(Map.of("error", "Current password is incorrect"));
         }
 
-        // Update password
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        // Update password and revoke existing tokens
+        userService.changePassword(user, newPassword);
 
         return ResponseEntity.ok(Map.of("message", "Password updated successfully"));
     }
@@ -170,7 +167,7 @@ public class UserController {
     @PutMapping("/username")
     public ResponseEntity<?> updateUsername(
             @RequestBody Map<String, String> usernameData,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
 
         String newUsername = usernameData.get("username");
 
@@ -184,20 +181,12 @@ public class UserController {
                     .body(Map.of("error", "Username must be at least 3 characters"));
         }
 
-        String currentUsername = authentication.getName();
-        User user = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if new username is already taken (by another user)
-        if (!newUsername.equals(currentUsername) && userRepository.findByUsername(newUsername).isPresent()) {
+        // Update username and revoke existing tokens, which carry the old name
+        if (!userService.changeUsername(currentUser.getId(), newUsername)) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "Username is already taken"));
         }
 
-        // Update username
-        user.setUsername(newUsername);
-        userRepository.save(user);
-
         return ResponseEntity.ok(Map.of(
                 "message", "Username updated successfully",
                 "username", newUsername
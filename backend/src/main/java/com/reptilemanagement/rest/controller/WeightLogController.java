@@ -1,7 +1,9 @@
 package com.reptilemanagement.rest.controller;
 
 import com.reptilemanagement.persistence.dto.WeightLogDto;
+import com.reptilemanagement.rest.service.GrowthAnalyticsService;
 import com.reptilemanagement.rest.service.WeightLogService;
+import com.reptilemanagement.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -27,6 +29,7 @@ import java.util.List;
 public class WeightLogController {
 
     private final WeightLogService weightLogService;
+    private final GrowthAnalyticsService growthAnalyticsService;
 
     /**
      * Creates a new weight log entry.
@@ -41,6 +44,19 @@ public class WeightLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Creates several weight logs in one request, e.g. when importing a care history.
+     * @param weightLogDtos the weight log data, at most 10000 entries
+     * @return the created weight logs, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<WeightLogDto>> createWeightLogs(@RequestBody List<@Valid WeightLogDto> weightLogDtos) {
+        log.info("REST request to create {} weight logs", weightLogDtos.size());
+
+        List<WeightLogDto> result = weightLogService.createWeightLogs(weightLogDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Retrieves a weight log by ID.
      * @param id the weight log ID
@@ -56,15 +72,20 @@ public class WeightLogController {
     }
 
     /**
-     * Retrieves all weight logs for a specific reptile.
+     * Retrieves weight logs for a specific reptile, one page at a time, newest first.
      * @param reptileId the reptile ID
-     * @return list of weight logs for the reptile
+     * @param cursor the cursor returned with the previous page; omit for the first page
+     * @param size the page size; defaults to and is capped by the configured limits
+     * @return a page of weight logs with the cursor to the next page
      */
     @GetMapping("/reptile/{reptileId}")
-    public ResponseEntity<List<WeightLogDto>> getWeightLogsByReptile(@PathVariable Long reptileId) {
+    public ResponseEntity<CursorPage<WeightLogDto>> getWeightLogsByReptile(
+            @PathVariable Long reptileId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.debug("REST request to get weight logs for reptile: {}", reptileId);
 
-        List<WeightLogDto> weightLogs = weightLogService.getWeightLogsByReptileId(reptileId);
+        CursorPage<WeightLogDto> weightLogs = weightLogService.getWeightLogsByReptileId(reptileId, cursor, size);
         return ResponseEntity.ok(weightLogs);
     }
 
@@ -128,6 +149,49 @@ public class WeightLogController {
         return ResponseEntity.ok(weightHistory);
     }
 
+    /**
+     * Retrieves the weight curve of a reptile for charting, downsampled server-side.
+     * @param reptileId the reptile ID
+     * @param from the earliest measurement date to include (optional)
+     * @param to the latest measurement date to include (optional)
+     * @param points the maximum number of points, at least 3 (default 300)
+     * @return the weight points in chronological order
+     */
+    @GetMapping("/reptile/{reptileId}/series")
+    public ResponseEntity<WeightLogService.WeightSeries> getWeightSeries(
+            @PathVariable Long reptileId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer points) {
+
+        log.debug("REST request to get weight series for reptile {} between {} and {}", reptileId, from, to);
+
+        return ResponseEntity.ok(weightLogService.getWeightSeries(reptileId, from, to, points));
+    }
+
+    /**
+     * Retrieves growth rate, moving average and weight range of a reptile.
+     * @param reptileId the reptile ID
+     * @return the growth figures
+     */
+    @GetMapping("/reptile/{reptileId}/growth")
+    public ResponseEntity<GrowthAnalyticsService.GrowthAnalytics> getGrowth(@PathVariable Long reptileId) {
+        log.debug("REST request to get growth analytics for reptile: {}", reptileId);
+
+        return ResponseEntity.ok(growthAnalyticsService.getGrowth(reptileId));
+    }
+
+    /**
+     * Retrieves the growth figures of every reptile of the current user.
+     * @return the growth figures per reptile
+     */
+    @GetMapping("/growth")
+    public ResponseEntity<List<GrowthAnalyticsService.GrowthAnalytics>> getCollectionGrowth() {
+        log.debug("REST request to get growth analytics for the current user's collection");
+
+        return ResponseEntity.ok(growthAnalyticsService.getCollectionGrowth());
+    }
+
     /**
      * Updates an existing weight log.
      * @param id the weight log ID
@@ -0,0 +1,131 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.repository.ReptileImageRepository;
+import com.reptilemanagement.shared.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Removes blobs that no image references any more.
+ * <p>
+ * Blobs are shared between images with identical content, so deleting an image cannot simply
+ * delete its blobs. Instead a periodic sweep removes blobs that are older than a grace period
+ * and unreferenced; this also covers blobs left behind by rolled back uploads.
+ * <p>
+ * The sweep and every transaction that writes a blob reference lock the blob's hash with a
+ * PostgreSQL advisory lock. A writer that finds its freshly stored blob swept before it got
+ * the lock stores it again, so a committed reference never points at a missing blob.
+ */
+@Service
+@Slf4j
+public class BlobSweepService {
+
+    /** Number of blobs checked and locked per sweep transaction */
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final ReptileImageRepository reptileImageRepository;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public BlobSweepService(
+            ReptileImageRepository reptileImageRepository,
+            BlobStore blobStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${storage.blobs.sweep-grace:PT1H}") Duration gracePeriod) {
+        this.reptileImageRepository = reptileImageRepository;
+        this.blobStore = blobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * Protects blobs referenced by rows written in the current transaction from the sweep.
+     * Locks their hashes until the transaction ends and stores again any blob that was swept
+     * between being stored and being locked.
+     *
+     * @param blobs the stored blobs with the writers that produced them
+     * @throws IOException if storing a swept blob again fails
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void retain(Map<BlobStore.StoredBlob, BlobStore.BlobWriter> blobs) throws IOException {
+        reptileImageRepository.lockBlobs(blobs.keySet().stream().map(BlobStore.StoredBlob::hash).toList());
+        for (Map.Entry<BlobStore.StoredBlob, BlobStore.BlobWriter> blob : blobs.entrySet()) {
+            if (blobStore.load(blob.getKey().hash()).isEmpty()) {
+                log.debug("Blob {} was swept before it was referenced, storing it again", blob.getKey().hash());
+                blobStore.store(blob.getValue());
+            }
+        }
+    }
+
+    /**
+     * Deletes every blob older than the grace period that no image references.
+     */
+    @Scheduled(cron = "${storage.blobs.sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        long start = System.nanoTime();
+        int checked = 0;
+        int deleted = 0;
+
+        try (Stream<String> candidates = blobStore.listOlderThan(Instant.now().minus(gracePeriod))) {
+            List<String> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+            for (String hash : (Iterable<String>) candidates::iterator) {
+                batch.add(hash);
+                if (batch.size() == SWEEP_BATCH_SIZE) {
+                    checked += batch.size();
+                    deleted += sweepBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                checked += batch.size();
+                deleted += sweepBatch(batch);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Blob sweep aborted after checking {} blobs", checked, e);
+            return;
+        }
+
+        log.info("Swept blob store in {} ms, {} of {} blobs were unreferenced and deleted",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), deleted, checked);
+    }
+
+    private int sweepBatch(List<String> hashes) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            reptileImageRepository.lockBlobs(hashes);
+            Set<String> referenced = new HashSet<>(reptileImageRepository.findReferencedBlobs(hashes));
+            int count = 0;
+            for (String hash : hashes) {
+                if (referenced.contains(hash)) {
+                    continue;
+                }
+                try {
+                    // Deleted while the lock is held, so no writer can reference the blob meanwhile
+                    blobStore.delete(hash);
+                    count++;
+                } catch (IOException e) {
+                    log.warn("Failed to delete unreferenced blob {}", hash, e);
+                }
+            }
+            return count;
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+import com.reptilemanagement.persistence.dto.CareTaskDto;
+import com.reptilemanagement.persistence.projection.CareTaskView;
+import com.reptilemanagement.persistence.repository.CareDueRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service listing the feedings and enclosure cleanings that are due across the current user's collection.
+ * Intervals are configured per reptile and enclosure or learned from the recent log history.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class CareDueService {
+
+    /** Number of recent log entries an interval is learned from */
+    private static final int HISTORY = 10;
+
+    private static final int MAX_HORIZON_DAYS = 90;
+    private static final int MAX_LIMIT = 1000;
+
+    private final CareDueRepository careDueRepository;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+    private final int defaultFeedingIntervalDays;
+    private final int defaultCleaningIntervalDays;
+
+    public CareDueService(
+            CareDueRepository careDueRepository,
+            AuthenticationInformationProvider authenticationInformationProvider,
+            @Value("${care.default-feeding-interval-days:7}") int defaultFeedingIntervalDays,
+            @Value("${care.default-cleaning-interval-days:14}") int defaultCleaningIntervalDays) {
+        this.careDueRepository = careDueRepository;
+        this.authenticationInformationProvider = authenticationInformationProvider;
+        this.defaultFeedingIntervalDays = defaultFeedingIntervalDays;
+        this.defaultCleaningIntervalDays = defaultCleaningIntervalDays;
+    }
+
+    /**
+     * Lists overdue tasks and tasks due within the horizon, most urgent first.
+     * Urgency is relative to the interval, so a weekly feeding two days late ranks above
+     * a monthly cleaning two days late.
+     * @param horizonDays how many days ahead upcoming tasks are included, capped at 90
+     * @param limit the maximum number of tasks, capped at 1000
+     * @return the tasks
+     */
+    public List<CareTaskDto> getDueTasks(int horizonDays, int limit) {
+        log.debug("Retrieving care tasks due within {} days", horizonDays);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusDays(Math.clamp(horizonDays, 0, MAX_HORIZON_DAYS));
+        // The history query needs one entry more than the number of gaps it learns from
+        return careDueRepository.findDueByUserId(authenticationInformationProvider.getAuthenticatedUserId(),
+                        now, until, HISTORY + 1, defaultFeedingIntervalDays, defaultCleaningIntervalDays,
+                        Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(view -> toDto(view, now))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rejects a configured interval that is not a positive number of days.
+     * @param intervalDays the interval, null to learn it from the history
+     * @param name the interval's name for the error message
+     * @throws InvalidRequestException if the interval is zero or negative
+     */
+    static void validateInterval(Integer intervalDays, String name) {
+        if (intervalDays != null && intervalDays <= 0) {
+            throw new InvalidRequestException(name + " must be at least one day");
+        }
+    }
+
+    private static CareTaskDto toDto(CareTaskView view, LocalDateTime now) {
+        return new CareTaskDto(
+                CareTaskDto.TaskType.valueOf(view.getType()),
+                view.getReptileId(),
+                view.getEnclosureId(),
+                view.getName(),
+                view.getLastDoneAt(),
+                view.getIntervalDays(),
+                CareTaskDto.IntervalSource.valueOf(view.getIntervalSource()),
+                view.getDueAt(),
+                !Duration.between(view.getDueAt(), now).isNegative(),
+                view.getUrgency());
+    }
+}
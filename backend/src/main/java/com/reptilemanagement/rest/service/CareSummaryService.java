@@ -0,0 +1,159 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.domain.ReptileCareSummary;
+import com.reptilemanagement.persistence.dto.ReptileCareSummaryDto;
+import com.reptilemanagement.persistence.repository.ReptileCareSummaryRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service maintaining and querying the per-reptile care summary.
+ * <p>
+ * The log services refresh the summary rows they affect within their own transaction, so the
+ * summary commits or rolls back together with the log write. A nightly reconciliation recomputes
+ * every row to repair drift from writes that bypass the services.
+ * <p>
+ * A refresh first locks the reptiles it recomputes. Without the lock, two writers of the same
+ * reptile each compute the row from a snapshot without the other's log, and whichever upsert
+ * runs last keeps a stale row. With it, the second refresh waits for the first writer to commit
+ * and then computes the row with both logs.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CareSummaryService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ReptileCareSummaryRepository reptileCareSummaryRepository;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+
+    /**
+     * Recomputes the summaries of reptiles whose logs or details changed.
+     * @param reptileIds the reptile IDs; null entries are ignored
+     */
+    public void refreshReptiles(Long... reptileIds) {
+        List<Long> ids = Arrays.stream(reptileIds).filter(Objects::nonNull).distinct().toList();
+        if (!ids.isEmpty()) {
+            reptileCareSummaryRepository.lockReptiles(ids);
+            reptileCareSummaryRepository.refreshByReptileIds(ids);
+        }
+    }
+
+    /**
+     * Recomputes the summaries of all reptiles in an enclosure whose cleaning log changed.
+     * @param enclosureId the enclosure ID; ignored if null
+     */
+    public void refreshEnclosure(Long enclosureId) {
+        if (enclosureId != null) {
+            reptileCareSummaryRepository.lockEnclosureReptiles(enclosureId);
+            reptileCareSummaryRepository.refreshByEnclosureId(enclosureId);
+        }
+    }
+
+    /**
+     * Recomputes every summary row and reports how many had drifted.
+     */
+    @Scheduled(cron = "${care-summary.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        int repaired = reptileCareSummaryRepository.refreshAll();
+        log.info("Reconciled reptile care summaries in {} ms, {} rows repaired",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), repaired);
+    }
+
+    /**
+     * Lists the current user's reptiles with their care summary.
+     * @param status only reptiles with this status, or null for all
+     * @param minRefusalStreak only reptiles with at least this many refusals in a row, or null for all
+     * @param notFedForDays only reptiles not fed for at least this many days, or null for all
+     * @param sort the column to sort by
+     * @param direction the sort direction
+     * @param page the zero-based page
+     * @param size the page size, capped at 500
+     * @return the summaries in the requested order
+     */
+    @Transactional(readOnly = true)
+    public List<ReptileCareSummaryDto> getCareSummaries(Reptile.ReptileStatus status, Integer minRefusalStreak,
+                                                        Integer notFedForDays, SortField sort, Sort.Direction direction,
+                                                        int page, int size) {
+        log.debug("Retrieving care summaries sorted by {} {}", sort, direction);
+
+        LocalDateTime fedBefore = notFedForDays != null ? LocalDateTime.now().minusDays(notFedForDays) : null;
+        // Never-fed or never-weighed reptiles go last in either direction; the ID keeps pages stable
+        Sort order = Sort.by(new Sort.Order(direction, sort.property).nullsLast(), Sort.Order.asc("reptileId"));
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE), order);
+
+        LocalDateTime now = LocalDateTime.now();
+        return reptileCareSummaryRepository.findByUserId(authenticationInformationProvider.getAuthenticatedUserId(),
+                        status, minRefusalStreak, fedBefore, pageRequest).stream()
+                .map(summary -> toDto(summary, now))
+                .toList();
+    }
+
+    private static ReptileCareSummaryDto toDto(ReptileCareSummary summary, LocalDateTime now) {
+        Long daysSinceFeeding = summary.getLastFeedingDate() != null
+                ? Duration.between(summary.getLastFeedingDate(), now).toDays()
+                : null;
+        return new ReptileCareSummaryDto(
+                summary.getReptileId(),
+                summary.getName(),
+                summary.getSpecies(),
+                summary.getStatus().name(),
+                summary.getEnclosureId(),
+                summary.getHighlightImageId(),
+                summary.getLastFeedingDate(),
+                daysSinceFeeding,
+                summary.getRefusalStreak(),
+                summary.getLastSheddingDate(),
+                summary.getLastPoopDate(),
+                summary.getLastWeightDate(),
+                summary.getCurrentWeightGrams(),
+                summary.getWeightChange30dGrams(),
+                summary.getLastCleaningDate());
+    }
+
+    /**
+     * Sortable columns of the care summary, each backed by one (user, column, reptile) index per
+     * direction whose null placement matches the NULLS LAST order (see V16).
+     */
+    public enum SortField {
+        LAST_FED("last-fed", "lastFeedingDate"),
+        LAST_SHED("last-shed", "lastSheddingDate"),
+        WEIGHT_CHANGE("weight-change", "weightChange30dGrams"),
+        REFUSAL_STREAK("refusal-streak", "refusalStreak"),
+        NAME("name", "name");
+
+        private final String param;
+        private final String property;
+
+        SortField(String param, String property) {
+            this.param = param;
+            this.property = property;
+        }
+
+        /**
+         * Resolves a sort field from its request parameter value.
+         * @param param the parameter value, e.g. "last-fed"
+         * @return the sort field, or empty if unknown
+         */
+        public static Optional<SortField> fromParam(String param) {
+            return Arrays.stream(values()).filter(field -> field.param.equalsIgnoreCase(param)).findFirst();
+        }
+    }
+}
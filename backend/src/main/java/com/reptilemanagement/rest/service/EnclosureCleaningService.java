@@ -4,8 +4,11 @@ import com.reptilemanagement.persistence.domain.EnclosureCleaning;
 import com.reptilemanagement.persistence.dto.EnclosureCleaningDto;
 import com.reptilemanagement.persistence.mapper.EnclosureCleaningMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.CleaningStatisticsView;
 import com.reptilemanagement.persistence.repository.EnclosureCleaningRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.pagination.CursorPage;
+import com.reptilemanagement.shared.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,9 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
 
     private final EnclosureCleaningRepository enclosureCleaningRepository;
     private final EnclosureCleaningMapper enclosureCleaningMapper;
+    private final CareSummaryService careSummaryService;
+    private final EnclosureService enclosureService;
+    private final CursorPagination cursorPagination;
 
     @Override
     protected JpaRepository<EnclosureCleaning, Long> getRepository() {
@@ -47,6 +54,20 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
         return Sort.by(Sort.Direction.DESC, "cleaningDate");
     }
 
+    @Override
+    protected Optional<EnclosureCleaning> findOwnedById(Long id) {
+        return enclosureCleaningRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return enclosureCleaningRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
     /**
      * Creates a new enclosure cleaning log entry.
      * @param enclosureCleaningDto the enclosure cleaning data to create
@@ -54,7 +75,29 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
      */
     public EnclosureCleaningDto createEnclosureCleaning(EnclosureCleaningDto enclosureCleaningDto) {
         log.info("Creating enclosure cleaning log for enclosure: {}", enclosureCleaningDto.getEnclosureId());
-        return create(enclosureCleaningDto, new HashMap<>());
+        enclosureService.verifyOwnership(enclosureCleaningDto.getEnclosureId());
+        EnclosureCleaningDto created = create(enclosureCleaningDto, new HashMap<>());
+        careSummaryService.refreshEnclosure(created.getEnclosureId());
+        return created;
+    }
+
+    /**
+     * Creates several enclosure cleaning log entries in one transaction.
+     * @param enclosureCleaningDtos the enclosure cleaning data to create
+     * @return the created enclosure cleaning logs as DTOs, in request order
+     */
+    public List<EnclosureCleaningDto> createEnclosureCleanings(List<EnclosureCleaningDto> enclosureCleaningDtos) {
+        log.info("Creating {} enclosure cleaning logs", enclosureCleaningDtos.size());
+        enclosureCleaningDtos.stream()
+                .map(EnclosureCleaningDto::getEnclosureId)
+                .distinct()
+                .forEach(enclosureService::verifyOwnership);
+        List<EnclosureCleaningDto> created = create(enclosureCleaningDtos, new HashMap<>());
+        created.stream()
+                .map(EnclosureCleaningDto::getEnclosureId)
+                .distinct()
+                .forEach(careSummaryService::refreshEnclosure);
+        return created;
     }
 
     /**
@@ -73,17 +116,20 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
     }
 
     /**
-     * Retrieves all enclosure cleaning logs for a specific enclosure.
+     * Retrieves one page of enclosure cleaning logs for a specific enclosure, newest first.
      * @param enclosureId the enclosure ID
-     * @return list of enclosure cleaning logs for the enclosure
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, or null for the default
+     * @return the page of enclosure cleaning logs with a cursor to the next page
      */
     @Transactional(readOnly = true)
-    public List<EnclosureCleaningDto> getEnclosureCleaningsByEnclosureId(Long enclosureId) {
+    public CursorPage<EnclosureCleaningDto> getEnclosureCleaningsByEnclosureId(Long enclosureId, String cursor, Integer size) {
         log.debug("Retrieving enclosure cleaning logs for enclosure: {}", enclosureId);
 
-        return enclosureCleaningRepository.findByEnclosureIdOrderByCleaningDateDesc(enclosureId).stream()
-                .map(enclosureCleaningMapper::toDto)
-                .collect(Collectors.toList());
+        return cursorPagination.fetch(cursor, size,
+                        (after, limit) -> enclosureCleaningRepository.findPageByEnclosureId(enclosureId, after.date(), after.id(), limit),
+                        EnclosureCleaning::getCleaningDate, EnclosureCleaning::getId)
+                .map(enclosureCleaningMapper::toDto);
     }
 
     /**
@@ -146,22 +192,22 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
     /**
      * Updates an existing enclosure cleaning log.
      * @param id the enclosure cleaning log ID to update
-     * @param enclosureCleaningDto the updated enclosure cleaning data
-     * @return the updated enclosure cleaning log as DTO, or empty if not found
+     * @param enclosureCleaningDto the updated enclosure cleaning data, with the version it was read at
+     * @return the updated enclosure cleaning log as DTO, or empty if not found or not owned
      */
     public Optional<EnclosureCleaningDto> updateEnclosureCleaning(Long id, EnclosureCleaningDto enclosureCleaningDto) {
         log.info("Updating enclosure cleaning log with ID: {}", id);
 
-        return enclosureCleaningRepository.findById(id)
-                .map(existingLog -> {
-                    EnclosureCleaning updatedLog = enclosureCleaningMapper.toEntity(enclosureCleaningDto);
-                    updatedLog.setId(id);
-                    updatedLog.setCreatedAt(existingLog.getCreatedAt());
-                    EnclosureCleaning savedLog = enclosureCleaningRepository.save(updatedLog);
-
-                    log.info("Updated enclosure cleaning log with ID: {}", id);
-                    return enclosureCleaningMapper.toDto(savedLog);
-                });
+        return updateOwned(id, enclosureCleaningDto, new HashMap<>(), (before, updated) -> {
+            boolean moved = !Objects.equals(before.getEnclosureId(), updated.getEnclosureId());
+            if (moved) {
+                enclosureService.verifyOwnership(updated.getEnclosureId());
+            }
+            careSummaryService.refreshEnclosure(before.getEnclosureId());
+            if (moved) {
+                careSummaryService.refreshEnclosure(updated.getEnclosureId());
+            }
+        });
     }
 
     /**
@@ -172,8 +218,10 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
     public boolean deleteEnclosureCleaning(Long id) {
         log.info("Deleting enclosure cleaning log with ID: {}", id);
 
-        if (enclosureCleaningRepository.existsById(id)) {
+        Optional<EnclosureCleaning> existing = enclosureCleaningRepository.findById(id);
+        if (existing.isPresent()) {
             enclosureCleaningRepository.deleteById(id);
+            careSummaryService.refreshEnclosure(existing.get().getEnclosureId());
             log.info("Deleted enclosure cleaning log with ID: {}", id);
             return true;
         }
@@ -191,12 +239,9 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
     public EnclosureCleaningStatistics getCleaningStatistics(Long enclosureId) {
         log.debug("Retrieving enclosure cleaning statistics for enclosure: {}", enclosureId);
 
-        List<EnclosureCleaning> logs = enclosureCleaningRepository.findByEnclosureIdOrderByCleaningDateDesc(enclosureId);
-        long totalCleanings = logs.size();
-        long disinfections = logs.stream().filter(log -> log.getDisinfected()).count();
-        long substrateChanges = logs.stream().filter(log -> log.getSubstrateChanged()).count();
-
-        return new EnclosureCleaningStatistics(totalCleanings, disinfections, substrateChanges);
+        CleaningStatisticsView view = enclosureCleaningRepository.getStatisticsByEnclosureId(enclosureId);
+        return new EnclosureCleaningStatistics(view.getTotalCleanings(), view.getDisinfections(), view.getSubstrateChanges(),
+                view.getLastCleaningDate(), view.getMeanCleaningIntervalDays());
     }
 
     /**
@@ -206,16 +251,24 @@ public class EnclosureCleaningService extends BaseCrudService<Long, EnclosureCle
         private final long totalCleanings;
         private final long disinfections;
         private final long substrateChanges;
+        private final LocalDateTime lastCleaningDate;
+        private final Double meanCleaningIntervalDays;
 
-        public EnclosureCleaningStatistics(long totalCleanings, long disinfections, long substrateChanges) {
+        public EnclosureCleaningStatistics(long totalCleanings, long disinfections, long substrateChanges,
+                                           LocalDateTime lastCleaningDate, Double meanCleaningIntervalDays) {
             this.totalCleanings = totalCleanings;
             this.disinfections = disinfections;
             this.substrateChanges = substrateChanges;
+            this.lastCleaningDate = lastCleaningDate;
+            this.meanCleaningIntervalDays = meanCleaningIntervalDays;
         }
 
         public long getTotalCleanings() { return totalCleanings; }
         public long getDisinfections() { return disinfections; }
         public long getSubstrateChanges() { return substrateChanges; }
+        public LocalDateTime getLastCleaningDate() { return lastCleaningDate; }
+        /** Mean days between cleanings, null with fewer than two */
+        public Double getMeanCleaningIntervalDays() { return meanCleaningIntervalDays; }
         public double getDisinfectionRate() {
             return totalCleanings > 0 ? ((double) disinfections / totalCleanings) * 100 : 0;
         }
@@ -1,22 +1,27 @@
 package com.reptilemanagement.rest.service;
 
 import com.reptilemanagement.persistence.domain.Enclosure;
+import com.reptilemanagement.persistence.domain.Reptile;
 import com.reptilemanagement.persistence.dto.EnclosureDto;
 import com.reptilemanagement.persistence.mapper.EnclosureMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.EnclosureStatisticsView;
 import com.reptilemanagement.persistence.repository.EnclosureRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.cache.StatisticsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +36,7 @@ public class EnclosureService extends BaseCrudService<Long, Enclosure, Enclosure
 
     private final EnclosureRepository enclosureRepository;
     private final EnclosureMapper enclosureMapper;
+    private final StatisticsCache statisticsCache;
 
     @Override
     protected JpaRepository<Enclosure, Long> getRepository() {
@@ -47,6 +53,16 @@ public class EnclosureService extends BaseCrudService<Long, Enclosure, Enclosure
         return Sort.by(Sort.Direction.ASC, "name");
     }
 
+    @Override
+    protected Optional<Enclosure> findOwnedById(Long id) {
+        return enclosureRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return enclosureRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
     // ==================== Helper ====================
 
     private Long currentUserId() {
@@ -74,6 +90,7 @@ public class EnclosureService extends BaseCrudService<Long, Enclosure, Enclosure
      */
     public EnclosureDto createEnclosure(EnclosureDto enclosureDto) {
         log.info("Creating new enclosure: {}", enclosureDto.getName());
+        CareDueService.validateInterval(enclosureDto.getCleaningIntervalDays(), "Cleaning interval");
         enclosureDto.setUserId(currentUserId());
         return create(enclosureDto, new HashMap<>());
     }
@@ -151,27 +168,17 @@ public class EnclosureService extends BaseCrudService<Long, Enclosure, Enclosure
     }
 
     /**
-     * Updates an enclosure, verifying ownership first.
+     * Updates an enclosure of the current user.
      * @param id the enclosure ID to update
-     * @param enclosureDto the updated enclosure data
-     * @return the updated enclosure as DTO, or empty if not found
+     * @param enclosureDto the updated enclosure data, with the version it was read at
+     * @return the updated enclosure as DTO, or empty if not found or not owned
      */
     public Optional<EnclosureDto> updateEnclosure(Long id, EnclosureDto enclosureDto) {
         log.info("Updating enclosure with ID: {}", id);
-        Long userId = currentUserId();
+        CareDueService.validateInterval(enclosureDto.getCleaningIntervalDays(), "Cleaning interval");
+        enclosureDto.setUserId(currentUserId());
 
-        return enclosureRepository.findByIdAndUserId(id, userId)
-                .map(existing -> {
-                    try {
-                        enclosureDto.setId(id);
-                        enclosureDto.setUserId(userId);
-                        return Optional.of(update(enclosureDto, new HashMap<>()));
-                    } catch (Exception e) {
-                        log.error("Error updating enclosure with ID: {}", id, e);
-                        return Optional.<EnclosureDto>empty();
-                    }
-                })
-                .orElse(Optional.empty());
+        return updateOwned(id, enclosureDto, new HashMap<>(), (before, updated) -> { });
     }
 
     /**
@@ -207,20 +214,20 @@ public class EnclosureService extends BaseCrudService<Long, Enclosure, Enclosure
 
     /**
      * Gets statistics about enclosures for the current user.
+     * Served from the statistics cache; runs without a transaction so no connection is held
+     * while waiting for a refresh.
      * @return statistics object with enclosure information
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EnclosureStatistics getStatistics() {
         log.debug("Retrieving enclosure statistics for current user");
         Long userId = currentUserId();
 
-        long totalCount = enclosureRepository.countByUserId(userId);
-        long terrariumCount = enclosureRepository.countByUserIdAndType(userId, Enclosure.EnclosureType.TERRARIUM);
-        long vivariumCount = enclosureRepository.countByUserIdAndType(userId, Enclosure.EnclosureType.VIVARIUM);
-        long occupiedCount = getOccupiedEnclosureIds().size();
-        long emptyCount = enclosureRepository.findEmptyEnclosuresByUserId(userId).size();
-
-        return new EnclosureStatistics(totalCount, terrariumCount, vivariumCount, occupiedCount, emptyCount);
+        return statisticsCache.get(userId, "enclosures", Set.of(Enclosure.class, Reptile.class), () -> {
+            EnclosureStatisticsView view = enclosureRepository.getStatisticsByUserId(userId);
+            return new EnclosureStatistics(view.getTotal(), view.getTerrariums(), view.getVivariums(),
+                    view.getOccupied(), view.getTotal() - view.getOccupied());
+        });
     }
 
     /**
@@ -0,0 +1,357 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+import com.reptilemanagement.persistence.dto.EnclosureCleaningDto;
+import com.reptilemanagement.persistence.dto.EnclosureDto;
+import com.reptilemanagement.persistence.dto.FeedingLogDto;
+import com.reptilemanagement.persistence.dto.PoopLogDto;
+import com.reptilemanagement.persistence.dto.ReptileDto;
+import com.reptilemanagement.persistence.dto.SheddingLogDto;
+import com.reptilemanagement.persistence.dto.WeightLogDto;
+import com.reptilemanagement.persistence.mapper.EnclosureCleaningMapper;
+import com.reptilemanagement.persistence.mapper.EnclosureMapper;
+import com.reptilemanagement.persistence.mapper.FeedingLogMapper;
+import com.reptilemanagement.persistence.mapper.PoopLogMapper;
+import com.reptilemanagement.persistence.mapper.ReptileMapper;
+import com.reptilemanagement.persistence.mapper.SheddingLogMapper;
+import com.reptilemanagement.persistence.mapper.WeightLogMapper;
+import com.reptilemanagement.persistence.repository.EnclosureCleaningRepository;
+import com.reptilemanagement.persistence.repository.EnclosureRepository;
+import com.reptilemanagement.persistence.repository.FeedingLogRepository;
+import com.reptilemanagement.persistence.repository.PoopLogRepository;
+import com.reptilemanagement.persistence.repository.ReptileRepository;
+import com.reptilemanagement.persistence.repository.SheddingLogRepository;
+import com.reptilemanagement.persistence.repository.WeightLogRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a user's reptiles, enclosures and care logs as NDJSON or CSV.
+ * <p>
+ * Rows are read with streaming queries and a JDBC fetch size, converted one at a time and
+ * written straight to the response, and the persistence context is cleared every few hundred
+ * rows, so heap use is the same for a hundred rows or ten million. Reptiles and enclosures are
+ * read in one read-only transaction each; logs in one per reptile or enclosure, so no
+ * transaction lives for the whole export. The export is therefore not a single snapshot: logs
+ * written while it runs may or may not be included.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    /** Rows after which the persistence context is cleared; matches the fetch size of the queries */
+    private static final int CLEAR_INTERVAL = 500;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final JsonMapper jsonMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+    private final List<Section<?, ?>> sections;
+
+    public ExportService(
+            ReptileRepository reptileRepository,
+            EnclosureRepository enclosureRepository,
+            FeedingLogRepository feedingLogRepository,
+            WeightLogRepository weightLogRepository,
+            SheddingLogRepository sheddingLogRepository,
+            PoopLogRepository poopLogRepository,
+            EnclosureCleaningRepository enclosureCleaningRepository,
+            ReptileMapper reptileMapper,
+            EnclosureMapper enclosureMapper,
+            FeedingLogMapper feedingLogMapper,
+            WeightLogMapper weightLogMapper,
+            SheddingLogMapper sheddingLogMapper,
+            PoopLogMapper poopLogMapper,
+            EnclosureCleaningMapper enclosureCleaningMapper,
+            JsonMapper jsonMapper,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            AuthenticationInformationProvider authenticationInformationProvider) {
+        this.jsonMapper = jsonMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.authenticationInformationProvider = authenticationInformationProvider;
+
+        this.sections = List.of(
+                new Section<>(ExportType.REPTILES, List::of,
+                        reptileRepository::streamByUserIdOrderByIdAsc, reptileMapper::toDto, List.of(
+                        new Column<>("id", ReptileDto::getId),
+                        new Column<>("name", ReptileDto::getName),
+                        new Column<>("species", ReptileDto::getSpecies),
+                        new Column<>("subspecies", ReptileDto::getSubspecies),
+                        new Column<>("gender", ReptileDto::getGender),
+                        new Column<>("birthDate", ReptileDto::getBirthDate),
+                        new Column<>("acquisitionDate", ReptileDto::getAcquisitionDate),
+                        new Column<>("enclosureId", ReptileDto::getEnclosureId),
+                        new Column<>("status", ReptileDto::getStatus),
+                        new Column<>("feedingIntervalDays", ReptileDto::getFeedingIntervalDays),
+                        new Column<>("notes", ReptileDto::getNotes))),
+                new Section<>(ExportType.ENCLOSURES, List::of,
+                        enclosureRepository::streamByUserIdOrderByIdAsc, enclosureMapper::toDto, List.of(
+                        new Column<>("id", EnclosureDto::getId),
+                        new Column<>("name", EnclosureDto::getName),
+                        new Column<>("type", EnclosureDto::getType),
+                        new Column<>("dimensions", EnclosureDto::getDimensions),
+                        new Column<>("substrate", EnclosureDto::getSubstrate),
+                        new Column<>("heating", EnclosureDto::getHeating),
+                        new Column<>("lighting", EnclosureDto::getLighting),
+                        new Column<>("humidity", EnclosureDto::getHumidity),
+                        new Column<>("temperature", EnclosureDto::getTemperature),
+                        new Column<>("cleaningIntervalDays", EnclosureDto::getCleaningIntervalDays),
+                        new Column<>("notes", EnclosureDto::getNotes))),
+                new Section<>(ExportType.FEEDING_LOGS, reptileRepository::findIdsByUserId,
+                        feedingLogRepository::streamByReptileIdOrderByFeedingDateAscIdAsc, feedingLogMapper::toDto, List.of(
+                        new Column<>("id", FeedingLogDto::getId),
+                        new Column<>("reptileId", FeedingLogDto::getReptileId),
+                        new Column<>("feedingDate", FeedingLogDto::getFeedingDate),
+                        new Column<>("foodType", FeedingLogDto::getFoodType),
+                        new Column<>("quantity", FeedingLogDto::getQuantity),
+                        new Column<>("ate", FeedingLogDto::getAte),
+                        new Column<>("notes", FeedingLogDto::getNotes))),
+                new Section<>(ExportType.WEIGHT_LOGS, reptileRepository::findIdsByUserId,
+                        weightLogRepository::streamByReptileIdOrderByMeasurementDateAscIdAsc, weightLogMapper::toDto, List.of(
+                        new Column<>("id", WeightLogDto::getId),
+                        new Column<>("reptileId", WeightLogDto::getReptileId),
+                        new Column<>("measurementDate", WeightLogDto::getMeasurementDate),
+                        new Column<>("weightGrams", WeightLogDto::getWeightGrams),
+                        new Column<>("notes", WeightLogDto::getNotes))),
+                new Section<>(ExportType.SHEDDING_LOGS, reptileRepository::findIdsByUserId,
+                        sheddingLogRepository::streamByReptileIdOrderBySheddingDateAscIdAsc, sheddingLogMapper::toDto, List.of(
+                        new Column<>("id", SheddingLogDto::getId),
+                        new Column<>("reptileId", SheddingLogDto::getReptileId),
+                        new Column<>("sheddingDate", SheddingLogDto::getSheddingDate),
+                        new Column<>("shedQuality", SheddingLogDto::getShedQuality),
+                        new Column<>("ateShed", SheddingLogDto::getAteShed),
+                        new Column<>("notes", SheddingLogDto::getNotes))),
+                new Section<>(ExportType.POOP_LOGS, reptileRepository::findIdsByUserId,
+                        poopLogRepository::streamByReptileIdOrderByPoopDateAscIdAsc, poopLogMapper::toDto, List.of(
+                        new Column<>("id", PoopLogDto::getId),
+                        new Column<>("reptileId", PoopLogDto::getReptileId),
+                        new Column<>("poopDate", PoopLogDto::getPoopDate),
+                        new Column<>("consistency", PoopLogDto::getConsistency),
+                        new Column<>("color", PoopLogDto::getColor),
+                        new Column<>("parasitesPresent", PoopLogDto::getParasitesPresent),
+                        new Column<>("notes", PoopLogDto::getNotes))),
+                new Section<>(ExportType.ENCLOSURE_CLEANINGS, enclosureRepository::findIdsByUserId,
+                        enclosureCleaningRepository::streamByEnclosureIdOrderByCleaningDateAscIdAsc,
+                        enclosureCleaningMapper::toDto, List.of(
+                        new Column<>("id", EnclosureCleaningDto::getId),
+                        new Column<>("enclosureId", EnclosureCleaningDto::getEnclosureId),
+                        new Column<>("cleaningDate", EnclosureCleaningDto::getCleaningDate),
+                        new Column<>("cleaningType", EnclosureCleaningDto::getCleaningType),
+                        new Column<>("substrateChanged", EnclosureCleaningDto::getSubstrateChanged),
+                        new Column<>("disinfected", EnclosureCleaningDto::getDisinfected),
+                        new Column<>("notes", EnclosureCleaningDto::getNotes))));
+    }
+
+    /**
+     * Prepares an export of the current user's data. Nothing is read until the returned body is
+     * written to the response.
+     * @param types the kinds of data to export, written in a fixed order
+     * @param format the output format
+     * @param gzip whether to compress the output
+     * @return the body that writes the export
+     * @throws InvalidRequestException if a CSV export is asked for more than one type
+     */
+    public StreamingResponseBody export(Set<ExportType> types, ExportFormat format, boolean gzip) {
+        if (format == ExportFormat.CSV && types.size() != 1) {
+            throw new InvalidRequestException("A CSV export holds a single type of data");
+        }
+        // Resolved on the request thread; the body is written on another one
+        Long userId = authenticationInformationProvider.getAuthenticatedUserId();
+
+        return output -> {
+            long start = System.nanoTime();
+            GZIPOutputStream compressed = gzip ? new GZIPOutputStream(output, BUFFER_BYTES) : null;
+            OutputStream out = new BufferedOutputStream(compressed != null ? compressed : output, BUFFER_BYTES);
+            long rows = 0;
+            for (Section<?, ?> section : sections) {
+                if (types.contains(section.type())) {
+                    rows += writeSection(section, userId, format, out);
+                }
+            }
+            out.flush();
+            if (compressed != null) {
+                compressed.finish();
+            }
+            log.info("Exported {} rows for user {} in {} ms", rows, userId, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    private <E, D> long writeSection(Section<E, D> section, Long userId, ExportFormat format, OutputStream out)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(out, section.columns().stream().map(Column::name).toList());
+        }
+        long written = 0;
+        try {
+            for (Long ownerId : section.owners().apply(userId)) {
+                Long count = readOnlyTransaction.execute(status -> {
+                    long rows = 0;
+                    try (Stream<E> entities = section.rows().apply(ownerId)) {
+                        for (E entity : (Iterable<E>) entities::iterator) {
+                            writeRow(section, section.toDto().apply(entity), format, out);
+                            if (++rows % CLEAR_INTERVAL == 0) {
+                                entityManager.clear();
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return rows;
+                });
+                written += count != null ? count : 0;
+            }
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the transaction has been rolled back
+            throw e.getCause();
+        }
+        return written;
+    }
+
+    private <D> void writeRow(Section<?, D> section, D dto, ExportFormat format, OutputStream out) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            out.write(jsonMapper.writeValueAsBytes(new ExportLine(section.type().getParam(), dto)));
+            out.write('\n');
+        } else {
+            writeCsvRow(out, section.columns().stream().map(column -> column.value().apply(dto)).toList());
+        }
+    }
+
+    private static void writeCsvRow(OutputStream out, List<?> values) throws IOException {
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value instanceof BigDecimal decimal ? decimal.toPlainString()
+                    : value instanceof Enum<?> constant ? constant.name()
+                    : value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                row.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                row.append(text);
+            }
+        }
+        row.append("\r\n");
+        out.write(row.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * One kind of exported data: whose rows to read, how to read them and how to write them.
+     *
+     * @param type    the kind of data
+     * @param owners  maps the user to the IDs rows are read by: the user itself, or their reptiles or enclosures
+     * @param rows    streams the rows of one owner
+     * @param toDto   converts a row for output
+     * @param columns the CSV columns
+     */
+    private record Section<E, D>(ExportType type, Function<Long, List<Long>> owners, Function<Long, Stream<E>> rows,
+                                Function<E, D> toDto, List<Column<D>> columns) {}
+
+    private record Column<D>(String name, Function<D, Object> value) {}
+
+    /** An NDJSON line: the kind of row and the row itself */
+    private record ExportLine(String type, Object data) {}
+
+    /**
+     * Kinds of data that can be exported, in export order.
+     */
+    public enum ExportType {
+        REPTILES("reptiles"),
+        ENCLOSURES("enclosures"),
+        FEEDING_LOGS("feeding-logs"),
+        WEIGHT_LOGS("weight-logs"),
+        SHEDDING_LOGS("shedding-logs"),
+        POOP_LOGS("poop-logs"),
+        ENCLOSURE_CLEANINGS("enclosure-cleanings");
+
+        private final String param;
+
+        ExportType(String param) {
+            this.param = param;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        /**
+         * Parses an export type from its URL form, e.g. {@code feeding-logs}.
+         * @param param the URL form
+         * @return the export type, or empty if unknown
+         */
+        public static Optional<ExportType> fromParam(String param) {
+            for (ExportType type : values()) {
+                if (type.param.equalsIgnoreCase(param)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Output formats.
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parses a format from its URL form, {@code ndjson} or {@code csv}.
+         * @param param the URL form
+         * @return the format, or empty if unknown
+         */
+        public static Optional<ExportFormat> fromParam(String param) {
+            try {
+                return Optional.of(valueOf(param.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
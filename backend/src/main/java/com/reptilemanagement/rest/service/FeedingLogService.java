@@ -4,8 +4,11 @@ import com.reptilemanagement.persistence.domain.FeedingLog;
 import com.reptilemanagement.persistence.dto.FeedingLogDto;
 import com.reptilemanagement.persistence.mapper.FeedingLogMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.FeedingStatisticsView;
 import com.reptilemanagement.persistence.repository.FeedingLogRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.pagination.CursorPage;
+import com.reptilemanagement.shared.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,10 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
 
     private final FeedingLogRepository feedingLogRepository;
     private final FeedingLogMapper feedingLogMapper;
+    private final CursorPagination cursorPagination;
+    private final SuggestionService suggestionService;
+    private final CareSummaryService careSummaryService;
+    private final ReptileService reptileService;
 
     @Override
     protected JpaRepository<FeedingLog, Long> getRepository() {
@@ -47,6 +55,20 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
         return Sort.by(Sort.Direction.DESC, "feedingDate");
     }
 
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
+    @Override
+    protected Optional<FeedingLog> findOwnedById(Long id) {
+        return feedingLogRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return feedingLogRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
     /**
      * Creates a new feeding log entry.
      * @param feedingLogDto the feeding log data to create
@@ -54,7 +76,30 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
      */
     public FeedingLogDto createFeedingLog(FeedingLogDto feedingLogDto) {
         log.info("Creating feeding log for reptile: {}", feedingLogDto.getReptileId());
-        return create(feedingLogDto, new HashMap<>());
+        reptileService.verifyOwnership(feedingLogDto.getReptileId());
+        FeedingLogDto created = create(feedingLogDto, new HashMap<>());
+        suggestionService.replace(currentUserId(), SuggestionService.Field.FOOD_TYPE, null, created.getFoodType());
+        careSummaryService.refreshReptiles(created.getReptileId());
+        return created;
+    }
+
+    /**
+     * Creates several feeding log entries in one transaction.
+     * @param feedingLogDtos the feeding log data to create
+     * @return the created feeding logs as DTOs, in request order
+     */
+    public List<FeedingLogDto> createFeedingLogs(List<FeedingLogDto> feedingLogDtos) {
+        log.info("Creating {} feeding logs", feedingLogDtos.size());
+        feedingLogDtos.stream()
+                .map(FeedingLogDto::getReptileId)
+                .distinct()
+                .forEach(reptileService::verifyOwnership);
+        List<FeedingLogDto> created = create(feedingLogDtos, new HashMap<>());
+        Long userId = currentUserId();
+        created.forEach(feedingLog ->
+                suggestionService.replace(userId, SuggestionService.Field.FOOD_TYPE, null, feedingLog.getFoodType()));
+        careSummaryService.refreshReptiles(created.stream().map(FeedingLogDto::getReptileId).toArray(Long[]::new));
+        return created;
     }
 
     /**
@@ -73,17 +118,20 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
     }
 
     /**
-     * Retrieves all feeding logs for a specific reptile.
+     * Retrieves one page of feeding logs for a specific reptile, newest first.
      * @param reptileId the reptile ID
-     * @return list of feeding logs for the reptile
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, or null for the default
+     * @return the page of feeding logs with a cursor to the next page
      */
     @Transactional(readOnly = true)
-    public List<FeedingLogDto> getFeedingLogsByReptileId(Long reptileId) {
+    public CursorPage<FeedingLogDto> getFeedingLogsByReptileId(Long reptileId, String cursor, Integer size) {
         log.debug("Retrieving feeding logs for reptile: {}", reptileId);
 
-        return feedingLogRepository.findByReptileIdOrderByFeedingDateDesc(reptileId).stream()
-                .map(feedingLogMapper::toDto)
-                .collect(Collectors.toList());
+        return cursorPagination.fetch(cursor, size,
+                        (after, limit) -> feedingLogRepository.findPageByReptileId(reptileId, after.date(), after.id(), limit),
+                        FeedingLog::getFeedingDate, FeedingLog::getId)
+                .map(feedingLogMapper::toDto);
     }
 
     /**
@@ -132,18 +180,19 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
     /**
      * Updates an existing feeding log.
      * @param id the feeding log ID to update
-     * @param feedingLogDto the updated feeding log data
-     * @return the updated feeding log as DTO, or empty if not found
+     * @param feedingLogDto the updated feeding log data, with the version it was read at
+     * @return the updated feeding log as DTO, or empty if not found or not owned
      */
     public Optional<FeedingLogDto> updateFeedingLog(Long id, FeedingLogDto feedingLogDto) {
         log.info("Updating feeding log with ID: {}", id);
-        try {
-            feedingLogDto.setId(id);
-            return Optional.of(update(feedingLogDto, new HashMap<>()));
-        } catch (Exception e) {
-            log.error("Error updating feeding log with ID: {}", id, e);
-            return Optional.empty();
-        }
+
+        return updateOwned(id, feedingLogDto, new HashMap<>(), (before, updated) -> {
+            if (!Objects.equals(before.getReptileId(), updated.getReptileId())) {
+                reptileService.verifyOwnership(updated.getReptileId());
+            }
+            suggestionService.replace(currentUserId(), SuggestionService.Field.FOOD_TYPE, before.getFoodType(), updated.getFoodType());
+            careSummaryService.refreshReptiles(before.getReptileId(), updated.getReptileId());
+        });
     }
 
     /**
@@ -154,8 +203,11 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
     public boolean deleteFeedingLog(Long id) {
         log.info("Deleting feeding log with ID: {}", id);
 
-        if (feedingLogRepository.existsById(id)) {
+        Optional<FeedingLog> feedingLog = feedingLogRepository.findById(id);
+        if (feedingLog.isPresent()) {
             deleteById(id);
+            suggestionService.replace(currentUserId(), SuggestionService.Field.FOOD_TYPE, feedingLog.get().getFoodType(), null);
+            careSummaryService.refreshReptiles(feedingLog.get().getReptileId());
             log.info("Deleted feeding log with ID: {}", id);
             return true;
         }
@@ -173,11 +225,9 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
     public FeedingStatistics getFeedingStatistics(Long reptileId) {
         log.debug("Retrieving feeding statistics for reptile: {}", reptileId);
 
-        List<FeedingLog> logs = feedingLogRepository.findByReptileIdOrderByFeedingDateDesc(reptileId);
-        long totalFeedings = logs.size();
-        long missedFeedings = logs.stream().filter(log -> !log.getAte()).count();
-
-        return new FeedingStatistics(totalFeedings, missedFeedings);
+        FeedingStatisticsView view = feedingLogRepository.getStatisticsByReptileId(reptileId);
+        return new FeedingStatistics(view.getTotalFeedings(), view.getMissedFeedings(), view.getLastFeedingDate(),
+                view.getMeanFeedingIntervalDays(), view.getLongestRefusalStreak());
     }
 
     /**
@@ -186,14 +236,26 @@ public class FeedingLogService extends BaseCrudService<Long, FeedingLog, Feeding
     public static class FeedingStatistics {
         private final long totalFeedings;
         private final long missedFeedings;
+        private final LocalDateTime lastFeedingDate;
+        private final Double meanFeedingIntervalDays;
+        private final long longestRefusalStreak;
 
-        public FeedingStatistics(long totalFeedings, long missedFeedings) {
+        public FeedingStatistics(long totalFeedings, long missedFeedings, LocalDateTime lastFeedingDate,
+                                 Double meanFeedingIntervalDays, long longestRefusalStreak) {
             this.totalFeedings = totalFeedings;
             this.missedFeedings = missedFeedings;
+            this.lastFeedingDate = lastFeedingDate;
+            this.meanFeedingIntervalDays = meanFeedingIntervalDays;
+            this.longestRefusalStreak = longestRefusalStreak;
         }
 
         public long getTotalFeedings() { return totalFeedings; }
         public long getMissedFeedings() { return missedFeedings; }
+        public LocalDateTime getLastFeedingDate() { return lastFeedingDate; }
+        /** Mean days between accepted feedings, null with fewer than two */
+        public Double getMeanFeedingIntervalDays() { return meanFeedingIntervalDays; }
+        /** Longest run of consecutive refused feedings */
+        public long getLongestRefusalStreak() { return longestRefusalStreak; }
         public double getFeedingSuccessRate() {
             return totalFeedings > 0 ? ((double) (totalFeedings - missedFeedings) / totalFeedings) * 100 : 0;
         }
@@ -0,0 +1,393 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.repository.ReptileRepository;
+import com.reptilemanagement.persistence.repository.WeightSeriesRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Growth figures per reptile: trend line, moving average and weight range.
+ * <p>
+ * Each reptile's figures are kept as running aggregates in primitive fields: the sums of a
+ * least-squares fit, an exponential moving average and the extremes. They are built from the
+ * weight logs on first use and then updated in constant time by {@link WeightLogService} as
+ * measurements are added, corrected or removed at the end of the history. Changes to older
+ * measurements mark the aggregates stale and they are rebuilt on the next read.
+ * <p>
+ * At most a configured number of reptiles is kept; the least recently used are dropped and
+ * rebuilt when read again. Deleted reptiles are dropped right away.
+ */
+@Service
+@Slf4j
+public class GrowthAnalyticsService {
+
+    /** Time constant of the moving average in days; older measurements fade with exp(-age / tau) */
+    private static final double MOVING_AVERAGE_TAU_DAYS = 30.0;
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    private final WeightSeriesRepository weightSeriesRepository;
+    private final ReptileRepository reptileRepository;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+
+    /** Least recently used first; guarded by itself */
+    private final LinkedHashMap<Long, GrowthAccumulator> accumulators;
+
+    public GrowthAnalyticsService(
+            WeightSeriesRepository weightSeriesRepository,
+            ReptileRepository reptileRepository,
+            AuthenticationInformationProvider authenticationInformationProvider,
+            @Value("${growth.max-reptiles:10000}") int maxReptiles) {
+        this.weightSeriesRepository = weightSeriesRepository;
+        this.reptileRepository = reptileRepository;
+        this.authenticationInformationProvider = authenticationInformationProvider;
+        this.accumulators = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GrowthAccumulator> eldest) {
+                return size() > maxReptiles;
+            }
+        };
+    }
+
+    /**
+     * Gets the growth figures of a reptile.
+     * @param reptileId the reptile ID
+     * @return the growth figures; all values are null if the reptile has no measurements
+     */
+    public GrowthAnalytics getGrowth(Long reptileId) {
+        GrowthAccumulator accumulator = accumulator(reptileId);
+        long version;
+        synchronized (accumulator) {
+            if (!accumulator.stale) {
+                return accumulator.snapshot(reptileId);
+            }
+            version = accumulator.version;
+        }
+        return rebuild(reptileId, accumulator, version, weightSeriesRepository.findByReptileId(reptileId, null, null));
+    }
+
+    /**
+     * Gets the growth figures of all reptiles of the current user. Reptiles whose aggregates
+     * are not in memory yet are loaded with a single query.
+     * @return the growth figures per reptile, ordered by reptile ID
+     */
+    public List<GrowthAnalytics> getCollectionGrowth() {
+        List<Long> reptileIds = reptileRepository.findIdsByUserId(authenticationInformationProvider.getAuthenticatedUserId());
+
+        // Held for the whole call, so an eviction in between cannot swap in an empty accumulator
+        Map<Long, GrowthAccumulator> held = new HashMap<>();
+        // Versions of the stale accumulators, taken before their measurements are read
+        Map<Long, Long> missing = new HashMap<>();
+        for (Long reptileId : reptileIds) {
+            GrowthAccumulator accumulator = accumulator(reptileId);
+            held.put(reptileId, accumulator);
+            synchronized (accumulator) {
+                if (accumulator.stale) {
+                    missing.put(reptileId, accumulator.version);
+                }
+            }
+        }
+        Map<Long, WeightSeriesRepository.Samples> loaded = weightSeriesRepository.findByReptileIds(missing.keySet());
+
+        List<GrowthAnalytics> growth = new ArrayList<>(reptileIds.size());
+        for (Long reptileId : reptileIds) {
+            GrowthAccumulator accumulator = held.get(reptileId);
+            Long version = missing.get(reptileId);
+            if (version != null) {
+                WeightSeriesRepository.Samples samples = loaded.get(reptileId);
+                growth.add(rebuild(reptileId, accumulator, version,
+                        samples != null ? samples : new WeightSeriesRepository.Samples()));
+            } else {
+                synchronized (accumulator) {
+                    growth.add(accumulator.snapshot(reptileId));
+                }
+            }
+        }
+        return growth;
+    }
+
+    /**
+     * Records a new measurement once the current transaction commits.
+     * @param reptileId the reptile ID
+     * @param date the measurement date
+     * @param grams the weight in grams
+     */
+    public void measurementAdded(Long reptileId, LocalDateTime date, BigDecimal grams) {
+        afterCommit(() -> apply(reptileId, accumulator -> accumulator.add(epochSeconds(date), grams.doubleValue())));
+    }
+
+    /**
+     * Records a corrected measurement once the current transaction commits.
+     * @param oldReptileId the reptile ID before the change
+     * @param oldDate the measurement date before the change
+     * @param oldGrams the weight before the change
+     * @param newReptileId the reptile ID after the change
+     * @param newDate the measurement date after the change
+     * @param newGrams the weight after the change
+     */
+    public void measurementChanged(Long oldReptileId, LocalDateTime oldDate, BigDecimal oldGrams,
+                                   Long newReptileId, LocalDateTime newDate, BigDecimal newGrams) {
+        afterCommit(() -> {
+            if (oldReptileId != null) {
+                apply(oldReptileId, accumulator -> accumulator.remove(epochSeconds(oldDate), oldGrams.doubleValue()));
+            }
+            apply(newReptileId, accumulator -> accumulator.add(epochSeconds(newDate), newGrams.doubleValue()));
+        });
+    }
+
+    /**
+     * Records a deleted measurement once the current transaction commits.
+     * @param reptileId the reptile ID
+     * @param date the measurement date
+     * @param grams the weight in grams
+     */
+    public void measurementRemoved(Long reptileId, LocalDateTime date, BigDecimal grams) {
+        afterCommit(() -> apply(reptileId, accumulator -> accumulator.remove(epochSeconds(date), grams.doubleValue())));
+    }
+
+    /**
+     * Drops the aggregates of reptiles whose measurements were written in bulk, once the current
+     * transaction commits. They are rebuilt from the database on the next read.
+     * @param reptileIds the reptile IDs
+     */
+    public void measurementsReplaced(Collection<Long> reptileIds) {
+        afterCommit(() -> reptileIds.forEach(reptileId -> apply(reptileId, accumulator -> accumulator.stale = true)));
+    }
+
+    /**
+     * Drops the aggregates of deleted reptiles once the current transaction commits.
+     * @param reptileIds the reptile IDs
+     */
+    public void reptilesDeleted(Collection<Long> reptileIds) {
+        afterCommit(() -> {
+            synchronized (accumulators) {
+                reptileIds.forEach(accumulators::remove);
+            }
+        });
+    }
+
+    private GrowthAccumulator accumulator(Long reptileId) {
+        synchronized (accumulators) {
+            return accumulators.computeIfAbsent(reptileId, id -> new GrowthAccumulator());
+        }
+    }
+
+    private void apply(Long reptileId, Consumer<GrowthAccumulator> change) {
+        GrowthAccumulator accumulator;
+        synchronized (accumulators) {
+            accumulator = accumulators.get(reptileId);
+        }
+        if (accumulator == null) {
+            return;
+        }
+        synchronized (accumulator) {
+            accumulator.version++;
+            if (!accumulator.stale) {
+                change.accept(accumulator);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds an accumulator from loaded samples. If a write was applied since the given version
+     * was taken, the samples may miss it: the result is still returned but not kept.
+     */
+    private GrowthAnalytics rebuild(Long reptileId, GrowthAccumulator accumulator, long version,
+                                    WeightSeriesRepository.Samples samples) {
+        GrowthAccumulator rebuilt = new GrowthAccumulator();
+        rebuilt.stale = false;
+        long[] epochSeconds = samples.getEpochSeconds();
+        double[] grams = samples.getGrams();
+        for (int i = 0; i < samples.getSize(); i++) {
+            rebuilt.add(epochSeconds[i], grams[i]);
+        }
+
+        synchronized (accumulator) {
+            if (accumulator.version == version) {
+                accumulator.copyFrom(rebuilt);
+                log.debug("Rebuilt growth aggregates of reptile {} from {} measurements", reptileId, samples.getSize());
+            }
+        }
+        return rebuilt.snapshot(reptileId);
+    }
+
+    private static long epochSeconds(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Running aggregates of one reptile's measurements. Not thread-safe; guarded by its own monitor.
+     * x is measured in days since the first measurement, y in grams.
+     */
+    private static final class GrowthAccumulator {
+        /** Set until the aggregates have been built, and after a change they cannot apply incrementally */
+        private boolean stale = true;
+        /** Bumped on every applied change, so a rebuild that raced with a write is discarded */
+        private long version;
+
+        private long originEpochSeconds;
+        private long firstEpochSeconds;
+        private int count;
+        private double sumX;
+        private double sumY;
+        private double sumXY;
+        private double sumXX;
+        private double min;
+        private double max;
+        private double movingAverage;
+
+        private double lastX;
+        private double lastY;
+        /** State before the last measurement, so the last measurement can be undone once */
+        private boolean canUndoLast;
+        private double previousX;
+        private double previousY;
+        private double previousMovingAverage;
+
+        private void add(long epochSeconds, double y) {
+            if (count == 0) {
+                originEpochSeconds = epochSeconds;
+                firstEpochSeconds = epochSeconds;
+            }
+            double x = (epochSeconds - originEpochSeconds) / SECONDS_PER_DAY;
+            if (count > 0 && x < lastX) {
+                // Inserted before the latest measurement, the moving average cannot absorb it
+                stale = true;
+                return;
+            }
+
+            previousX = lastX;
+            previousY = lastY;
+            previousMovingAverage = movingAverage;
+            canUndoLast = count > 0;
+
+            if (count == 0) {
+                movingAverage = y;
+                min = y;
+                max = y;
+            } else {
+                double alpha = 1 - Math.exp(-(x - lastX) / MOVING_AVERAGE_TAU_DAYS);
+                movingAverage += alpha * (y - movingAverage);
+                min = Math.min(min, y);
+                max = Math.max(max, y);
+            }
+            count++;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+            lastX = x;
+            lastY = y;
+        }
+
+        private void remove(long epochSeconds, double y) {
+            double x = (epochSeconds - originEpochSeconds) / SECONDS_PER_DAY;
+            if (count == 1 && x == lastX && y == lastY) {
+                copyFrom(new GrowthAccumulator());
+                stale = false;
+                return;
+            }
+            // Only the latest measurement can be taken back, and only if it did not define the range
+            if (!canUndoLast || x != lastX || y != lastY || x == previousX || y == min || y == max) {
+                stale = true;
+                return;
+            }
+
+            count--;
+            sumX -= x;
+            sumY -= y;
+            sumXY -= x * y;
+            sumXX -= x * x;
+            movingAverage = previousMovingAverage;
+            lastX = previousX;
+            lastY = previousY;
+            canUndoLast = false;
+        }
+
+        private void copyFrom(GrowthAccumulator other) {
+            stale = other.stale;
+            originEpochSeconds = other.originEpochSeconds;
+            firstEpochSeconds = other.firstEpochSeconds;
+            count = other.count;
+            sumX = other.sumX;
+            sumY = other.sumY;
+            sumXY = other.sumXY;
+            sumXX = other.sumXX;
+            min = other.min;
+            max = other.max;
+            movingAverage = other.movingAverage;
+            lastX = other.lastX;
+            lastY = other.lastY;
+            canUndoLast = other.canUndoLast;
+            previousX = other.previousX;
+            previousY = other.previousY;
+            previousMovingAverage = other.previousMovingAverage;
+        }
+
+        private GrowthAnalytics snapshot(Long reptileId) {
+            if (count == 0) {
+                return new GrowthAnalytics(reptileId, 0, null, null, null, null, null, null, null, null);
+            }
+
+            Double slope = null;
+            Double trendWeight = null;
+            double denominator = count * sumXX - sumX * sumX;
+            if (count > 1 && denominator > 0) {
+                slope = (count * sumXY - sumX * sumY) / denominator;
+                trendWeight = (sumY - slope * sumX) / count + slope * lastX;
+            }
+            long lastEpochSeconds = originEpochSeconds + Math.round(lastX * SECONDS_PER_DAY);
+            return new GrowthAnalytics(reptileId, count,
+                    LocalDateTime.ofEpochSecond(firstEpochSeconds, 0, ZoneOffset.UTC),
+                    LocalDateTime.ofEpochSecond(lastEpochSeconds, 0, ZoneOffset.UTC),
+                    lastY, min, max, movingAverage, slope, trendWeight);
+        }
+    }
+
+    /**
+     * Growth figures of one reptile. All values except the count are null without measurements.
+     *
+     * @param reptileId          the reptile ID
+     * @param measurementCount   number of weight measurements
+     * @param firstMeasurement   date of the earliest measurement
+     * @param lastMeasurement    date of the latest measurement
+     * @param currentWeight      latest weight in grams
+     * @param minWeight          lowest weight in grams
+     * @param maxWeight          highest weight in grams
+     * @param movingAverage      exponential moving average of the weight in grams, time constant 30 days
+     * @param slopeGramsPerDay   growth rate from a least-squares fit over all measurements; null with fewer than two dates
+     * @param trendWeight        weight on the fitted trend line at the latest measurement
+     */
+    public record GrowthAnalytics(Long reptileId, int measurementCount, LocalDateTime firstMeasurement,
+                                  LocalDateTime lastMeasurement, Double currentWeight, Double minWeight,
+                                  Double maxWeight, Double movingAverage, Double slopeGramsPerDay,
+                                  Double trendWeight) {}
+}
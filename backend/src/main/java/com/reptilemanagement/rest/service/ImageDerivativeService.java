@@ -0,0 +1,221 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.domain.ImageVariant;
+import com.reptilemanagement.persistence.domain.ReptileImage;
+import com.reptilemanagement.persistence.repository.ReptileImageRepository;
+import com.reptilemanagement.shared.storage.BlobStore;
+import com.reptilemanagement.utils.ImageUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service generating resized derivatives and a low-quality placeholder for every uploaded image.
+ * <p>
+ * Generation runs in the background on a bounded pool with one worker per core, so uploads
+ * return immediately. Until an image's derivatives exist, downloads fall back to the original.
+ * Images uploaded before derivatives existed, or whose generation was dropped because the
+ * queue was full, are picked up again on startup.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService implements DisposableBean {
+
+    /** Maximum edge of the inline placeholder in pixels */
+    private static final int PLACEHOLDER_EDGE = 16;
+
+    private static final float VARIANT_JPEG_QUALITY = 0.82f;
+    private static final float PLACEHOLDER_JPEG_QUALITY = 0.5f;
+
+    private final ReptileImageRepository reptileImageRepository;
+    private final BlobStore blobStore;
+    private final BlobSweepService blobSweepService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(
+            ReptileImageRepository reptileImageRepository,
+            BlobStore blobStore,
+            BlobSweepService blobSweepService,
+            PlatformTransactionManager transactionManager,
+            @Value("${images.derivatives.threads:0}") int threads,
+            @Value("${images.derivatives.queue-capacity:256}") int queueCapacity) {
+        this.reptileImageRepository = reptileImageRepository;
+        this.blobStore = blobStore;
+        this.blobSweepService = blobSweepService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivatives-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues derivative generation for an image once the current transaction has committed,
+     * so the worker is guaranteed to see the image row.
+     * @param imageId the image ID
+     */
+    public void generateAfterCommit(Long imageId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(imageId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(imageId);
+            }
+        });
+    }
+
+    /**
+     * Queues generation for all images that do not have derivatives yet.
+     * Runs on a virtual thread that waits for queue capacity instead of dropping work.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateMissing() {
+        Thread.ofVirtual().name("image-derivatives-backfill").start(() -> {
+            List<Long> imageIds = reptileImageRepository.findIdsWithoutVariants();
+            if (imageIds.isEmpty()) {
+                return;
+            }
+            log.info("Generating missing derivatives for {} images", imageIds.size());
+            try {
+                for (Long imageId : imageIds) {
+                    while (!trySubmit(imageId)) {
+                        Thread.sleep(200);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long imageId) {
+        if (!trySubmit(imageId)) {
+            log.warn("Derivative queue full, image {} will be processed on next startup", imageId);
+        }
+    }
+
+    private boolean trySubmit(Long imageId) {
+        try {
+            executor.execute(() -> generate(imageId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void generate(Long imageId) {
+        ReptileImage image = reptileImageRepository.findById(imageId).orElse(null);
+        if (image == null || image.getPlaceholder() != null || image.isVariantsUnavailable()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Resource original = blobStore.load(image.getContentHash()).orElse(null);
+            if (original == null) {
+                log.warn("Original blob of image {} is missing, derivatives not generated", imageId);
+                return;
+            }
+
+            BufferedImage source;
+            try {
+                source = readDownsampled(original);
+            } catch (IIOException e) {
+                log.debug("Cannot decode image {}", imageId, e);
+                source = null;
+            }
+            if (source == null) {
+                log.info("Cannot decode image {} ({}), serving original only", imageId, image.getContentType());
+                reptileImageRepository.markVariantsUnavailable(imageId);
+                return;
+            }
+
+            boolean alpha = source.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpeg";
+            Map<ImageVariant, String> hashes = new EnumMap<>(ImageVariant.class);
+            Map<BlobStore.StoredBlob, BlobStore.BlobWriter> blobs = new HashMap<>();
+            for (ImageVariant variant : ImageVariant.values()) {
+                BufferedImage scaled = ImageUtil.scaleToFit(source, variant.getMaxEdge(), alpha);
+                BlobStore.BlobWriter writer = out -> ImageUtil.encode(scaled, format, VARIANT_JPEG_QUALITY, out);
+                BlobStore.StoredBlob blob = blobStore.store(writer);
+                hashes.put(variant, blob.hash());
+                blobs.put(blob, writer);
+            }
+            String placeholder = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(
+                    encode(ImageUtil.scaleToFit(source, PLACEHOLDER_EDGE, false), "jpeg", PLACEHOLDER_JPEG_QUALITY));
+
+            Integer updated = transactionTemplate.execute(status -> {
+                try {
+                    blobSweepService.retain(blobs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return reptileImageRepository.updateVariants(imageId,
+                        hashes.get(ImageVariant.THUMB), hashes.get(ImageVariant.CARD), hashes.get(ImageVariant.FULL),
+                        "image/" + format, placeholder);
+            });
+            if (updated == null || updated == 0) {
+                // Image was deleted while its derivatives were generated; the sweep removes their blobs
+                return;
+            }
+
+            log.debug("Generated derivatives for image {} in {} ms", imageId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("Failed to generate derivatives for image {}", imageId, e);
+        }
+    }
+
+    private static BufferedImage readDownsampled(Resource original) throws IOException {
+        try (InputStream in = original.getInputStream()) {
+            return ImageUtil.decode(in, ImageVariant.FULL.getMaxEdge());
+        }
+    }
+
+    private static byte[] encode(BufferedImage image, String format, float jpegQuality) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageUtil.encode(image, format, jpegQuality, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,395 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.exception.InvalidImageException;
+import com.reptilemanagement.shared.storage.BlobStore;
+import com.reptilemanagement.utils.ImageUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Service normalizing uploaded images before they are stored.
+ * <p>
+ * The real format is sniffed from the magic bytes, ignoring the client-supplied content type,
+ * and the dimensions are read from the header without decoding the pixels, so bad files are
+ * rejected before anything is written. Accepted images are then normalized:
+ * <ul>
+ *   <li>BMPs are re-encoded as JPEG (or PNG if they have transparency)</li>
+ *   <li>images larger than the configured maximum edge are downscaled</li>
+ *   <li>EXIF, XMP and text metadata are stripped; a JPEG's EXIF orientation is applied to the pixels first</li>
+ * </ul>
+ * JPEGs and PNGs that need neither re-encoding nor rotation are stripped losslessly while streaming.
+ */
+@Service
+@Slf4j
+public class ImageIngestService {
+
+    /** Bytes needed to recognize every supported format and read WebP dimensions */
+    private static final int HEADER_LENGTH = 32;
+
+    private static final float JPEG_QUALITY = 0.9f;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /** PNG chunks that carry metadata rather than pixels or color information */
+    private static final Set<String> PNG_METADATA_CHUNKS = Set.of("eXIf", "tEXt", "zTXt", "iTXt", "tIME");
+
+    private final int maxEdge;
+    private final long maxPixels;
+
+    public ImageIngestService(
+            @Value("${images.ingest.max-edge:4096}") int maxEdge,
+            @Value("${images.ingest.max-pixels:50000000}") long maxPixels) {
+        this.maxEdge = maxEdge;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Inspects and normalizes an uploaded image.
+     *
+     * @param file the uploaded file
+     * @return the normalized image, ready to be written to the blob store
+     * @throws InvalidImageException if the file is not a supported, intact image
+     * @throws IOException           if reading the file fails
+     */
+    public NormalizedImage normalize(MultipartFile file) throws IOException {
+        byte[] header = readHeader(file);
+        ImageFormat format = ImageFormat.sniff(header);
+        if (format == null) {
+            throw new InvalidImageException("Unsupported or unrecognized image format. Supported types: JPEG, PNG, GIF, WebP, BMP");
+        }
+
+        int[] dimensions = format == ImageFormat.WEBP ? readWebpDimensions(header) : readDimensions(file);
+        int width = dimensions[0];
+        int height = dimensions[1];
+        if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+            throw new InvalidImageException("Image dimensions " + width + "x" + height + " are invalid or too large");
+        }
+
+        int orientation = format == ImageFormat.JPEG ? readJpegOrientation(file) : 1;
+        boolean oversized = maxEdge > 0 && Math.max(width, height) > maxEdge
+                // Animated GIFs would lose their animation, WebP has no JDK decoder
+                && format != ImageFormat.GIF && format != ImageFormat.WEBP;
+
+        if (format == ImageFormat.BMP || oversized || orientation > 1) {
+            return reencode(file, format, orientation);
+        }
+
+        return switch (format) {
+            case JPEG -> new NormalizedImage(format.contentType, width, height, out -> stripJpegMetadata(file, out));
+            case PNG -> new NormalizedImage(format.contentType, width, height, out -> stripPngMetadata(file, out));
+            default -> new NormalizedImage(format.contentType, width, height, out -> {
+                try (InputStream in = file.getInputStream()) {
+                    in.transferTo(out);
+                }
+            });
+        };
+    }
+
+    private NormalizedImage reencode(MultipartFile file, ImageFormat format, int orientation) throws IOException {
+        BufferedImage image;
+        try (InputStream in = file.getInputStream()) {
+            image = ImageUtil.decode(in, maxEdge > 0 ? maxEdge : Integer.MAX_VALUE / 2);
+        } catch (IIOException e) {
+            throw new InvalidImageException("Image could not be decoded", e);
+        }
+        if (image == null) {
+            throw new InvalidImageException("Image could not be decoded");
+        }
+
+        boolean alpha = image.getColorModel().hasAlpha();
+        BufferedImage upright = ImageUtil.applyOrientation(image, orientation, alpha);
+        BufferedImage normalized = maxEdge > 0 ? ImageUtil.scaleToFit(upright, maxEdge, alpha) : upright;
+
+        // Keep PNG for PNGs and transparent images, everything else becomes JPEG
+        String targetFormat = alpha || format == ImageFormat.PNG ? "png" : "jpeg";
+        log.debug("Re-encoding {} upload as {} ({}x{})", format, targetFormat, normalized.getWidth(), normalized.getHeight());
+        return new NormalizedImage("image/" + targetFormat, normalized.getWidth(), normalized.getHeight(),
+                out -> ImageUtil.encode(normalized, targetFormat, JPEG_QUALITY, out));
+    }
+
+    private static byte[] readHeader(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            byte[] header = in.readNBytes(HEADER_LENGTH);
+            return header.length == HEADER_LENGTH ? header : Arrays.copyOf(header, HEADER_LENGTH);
+        }
+    }
+
+    /**
+     * Reads the dimensions from the image header via ImageIO without decoding any pixels.
+     */
+    private static int[] readDimensions(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new InvalidImageException("Image could not be read");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } catch (IOException e) {
+                throw new InvalidImageException("Image header is corrupt", e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reads WebP dimensions from the first chunk header, which the JDK cannot parse.
+     */
+    private static int[] readWebpDimensions(byte[] header) {
+        String chunk = new String(header, 12, 4, StandardCharsets.US_ASCII);
+        return switch (chunk) {
+            // Extended format: 24-bit canvas width and height minus one
+            case "VP8X" -> new int[]{1 + uint24(header, 24), 1 + uint24(header, 27)};
+            // Lossy: 14-bit dimensions after the key frame start code
+            case "VP8 " -> new int[]{uint16(header, 26) & 0x3FFF, uint16(header, 28) & 0x3FFF};
+            // Lossless: 14-bit dimensions minus one packed after the signature byte
+            case "VP8L" -> {
+                int b1 = header[22] & 0xFF, b2 = header[23] & 0xFF, b3 = header[24] & 0xFF;
+                int width = 1 + (((b1 & 0x3F) << 8) | (header[21] & 0xFF));
+                int height = 1 + (((b3 & 0x0F) << 10) | (b2 << 2) | ((b1 & 0xC0) >> 6));
+                yield new int[]{width, height};
+            }
+            default -> throw new InvalidImageException("Unsupported WebP variant");
+        };
+    }
+
+    /**
+     * Reads the orientation tag from a JPEG's EXIF segment.
+     *
+     * @return the orientation (1-8), or 1 if absent
+     */
+    private static int readJpegOrientation(MultipartFile file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.getInputStream()))) {
+            in.skipNBytes(2);
+            while (true) {
+                int marker = readMarker(in);
+                if (marker == 0xDA || marker == 0xD9) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (marker == 0xE1 && length > 14) {
+                    byte[] segment = in.readNBytes(length);
+                    if (segment.length == length && startsWith(segment, "Exif\0\0".getBytes())) {
+                        return parseOrientation(segment, 6);
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Reads the orientation tag from the first IFD of a TIFF structure. Offsets and entry counts
+     * are untrusted input, so metadata pointing outside the segment counts as no orientation.
+     */
+    private static int parseOrientation(byte[] exif, int tiffStart) {
+        if (exif.length < tiffStart + 8) {
+            return 1;
+        }
+        boolean littleEndian = exif[tiffStart] == 'I';
+        long ifdOffset = tiffStart + (readInt(exif, tiffStart + 4, littleEndian) & 0xFFFFFFFFL);
+        if (ifdOffset < tiffStart + 8 || ifdOffset + 2 > exif.length) {
+            return 1;
+        }
+        int ifd = (int) ifdOffset;
+        int entries = readShort(exif, ifd, littleEndian);
+        if (ifd + 2 + entries * 12L > exif.length) {
+            return 1;
+        }
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (readShort(exif, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(exif, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Copies a JPEG while dropping APPn segments other than JFIF/Adobe color information
+     * and comments. The entropy-coded data after the start of scan is copied unchanged.
+     */
+    private static void stripJpegMetadata(MultipartFile file, OutputStream out) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.getInputStream()))) {
+            out.write(in.readNBytes(2));
+            while (true) {
+                int marker = readMarker(in);
+                if (marker == 0xDA || marker == 0xD9) {
+                    out.write(0xFF);
+                    out.write(marker);
+                    in.transferTo(out);
+                    return;
+                }
+                int length = in.readUnsignedShort();
+                if (length < 2) {
+                    throw new InvalidImageException("Corrupt JPEG segment length");
+                }
+                byte[] payload = in.readNBytes(length - 2);
+                boolean metadata = marker == 0xFE
+                        || (marker >= 0xE1 && marker <= 0xEF && marker != 0xE2 && marker != 0xEE);
+                if (!metadata) {
+                    out.write(0xFF);
+                    out.write(marker);
+                    out.write(length >> 8);
+                    out.write(length);
+                    out.write(payload);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a PNG while dropping metadata chunks. All other chunks are copied unchanged.
+     */
+    private static void stripPngMetadata(MultipartFile file, OutputStream out) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.getInputStream()))) {
+            out.write(in.readNBytes(PNG_SIGNATURE.length));
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                byte[] type = in.readNBytes(4);
+                String chunkType = new String(type, StandardCharsets.US_ASCII);
+                if (PNG_METADATA_CHUNKS.contains(chunkType)) {
+                    // Chunk data plus CRC
+                    in.skipNBytes(length + 4L);
+                    continue;
+                }
+                out.write(length >>> 24);
+                out.write(length >>> 16);
+                out.write(length >>> 8);
+                out.write(length);
+                out.write(type);
+                copy(in, out, length + 4L);
+                if ("IEND".equals(chunkType)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int readMarker(DataInputStream in) throws IOException {
+        int b = in.readUnsignedByte();
+        if (b != 0xFF) {
+            throw new InvalidImageException("Corrupt JPEG segment structure");
+        }
+        int marker;
+        do {
+            // Markers may be preceded by fill bytes
+            marker = in.readUnsignedByte();
+        } while (marker == 0xFF);
+        return marker;
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException("Truncated PNG chunk");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return data.length >= prefix.length && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static int uint16(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int uint24(byte[] data, int offset) {
+        return uint16(data, offset) | (data[offset + 2] & 0xFF) << 16;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        return littleEndian
+                ? (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8
+                : (data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF);
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        return littleEndian
+                ? readShort(data, offset, true) | readShort(data, offset + 2, true) << 16
+                : readShort(data, offset, false) << 16 | readShort(data, offset + 2, false);
+    }
+
+    /**
+     * Image formats accepted for upload, recognized by their magic bytes.
+     */
+    private enum ImageFormat {
+        JPEG("image/jpeg"),
+        PNG("image/png"),
+        GIF("image/gif"),
+        WEBP("image/webp"),
+        BMP("image/bmp");
+
+        private final String contentType;
+
+        ImageFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        static ImageFormat sniff(byte[] header) {
+            if ((header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+                return JPEG;
+            }
+            if (startsWith(header, PNG_SIGNATURE)) {
+                return PNG;
+            }
+            if (startsWith(header, "GIF87a".getBytes()) || startsWith(header, "GIF89a".getBytes())) {
+                return GIF;
+            }
+            if (startsWith(header, "RIFF".getBytes()) && Arrays.equals(header, 8, 12, "WEBP".getBytes(), 0, 4)) {
+                return WEBP;
+            }
+            if (header[0] == 'B' && header[1] == 'M') {
+                return BMP;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Upload after normalization.
+     *
+     * @param contentType the MIME type of the normalized content
+     * @param width       width in pixels
+     * @param height      height in pixels
+     * @param content     writes the normalized content
+     */
+    public record NormalizedImage(String contentType, int width, int height, BlobStore.BlobWriter content) {}
+}
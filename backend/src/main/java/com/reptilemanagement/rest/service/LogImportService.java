@@ -0,0 +1,679 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+import com.reptilemanagement.persistence.domain.FeedingLog;
+import com.reptilemanagement.persistence.domain.SheddingLog;
+import com.reptilemanagement.persistence.domain.WeightLog;
+import com.reptilemanagement.persistence.dto.FeedingLogDto;
+import com.reptilemanagement.persistence.dto.SheddingLogDto;
+import com.reptilemanagement.persistence.dto.WeightLogDto;
+import com.reptilemanagement.persistence.projection.ReptileNameView;
+import com.reptilemanagement.persistence.repository.ReptileRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import com.reptilemanagement.shared.constants.MarkerConstants;
+import com.reptilemanagement.shared.event.EntityChangedEvent;
+import com.reptilemanagement.shared.importing.CsvRecordReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports feeding, weight and shedding history from CSV or NDJSON.
+ * <p>
+ * The input is parsed one record at a time. Each record is converted to its DTO, validated and
+ * streamed with PostgreSQL's COPY into a temporary staging table, so memory use does not grow
+ * with the size of the file. A single INSERT ... SELECT then merges the staged rows into the
+ * log table, skipping rows identical to an existing log or an earlier row, so an import can
+ * be repeated safely. Rejected rows are reported with their line and do not abort the import.
+ * <p>
+ * Per-row audit entries are not written; the import is logged once. Derived data — the care
+ * summaries, growth aggregates and suggestions — is refreshed once for the touched reptiles.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogImportService {
+
+    /** Errors beyond this many are counted but not listed */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    /** Staged rows are sent to the database in chunks of about this size */
+    private static final int COPY_CHUNK_BYTES = 64 * 1024;
+
+    /** IDs reserved by one nextval, the INCREMENT BY of the ID sequences (see V13) */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_NOTES_LENGTH = 500;
+
+    /** Upper bound of the NUMERIC(8, 2) weight column */
+    private static final BigDecimal MAX_WEIGHT_GRAMS = new BigDecimal("999999.99");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReptileRepository reptileRepository;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final CareSummaryService careSummaryService;
+    private final GrowthAnalyticsService growthAnalyticsService;
+    private final SuggestionService suggestionService;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Imports logs of the current user's reptiles. Each row names its reptile either by
+     * {@code reptileId} or by {@code reptileName}.
+     * @param type the kind of log to import
+     * @param format the format of the input
+     * @param input the input, read to the end but not closed
+     * @return the counts of imported and rejected rows with the reasons for the rejections
+     * @throws InvalidRequestException if the input is not valid CSV or has no header
+     */
+    @Transactional
+    public ImportResult importLogs(ImportType type, ImportFormat format, InputStream input) {
+        long start = System.nanoTime();
+        Long userId = authenticationInformationProvider.getAuthenticatedUserId();
+        ReptileLookup reptiles = new ReptileLookup(reptileRepository.findNamesByUserId(userId));
+
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE " + type.stagingTable
+                + " (line BIGINT NOT NULL, " + type.stagingColumns + ") ON COMMIT DROP");
+
+        Staging staging;
+        try {
+            staging = jdbcTemplate.execute((ConnectionCallback<Staging>) connection -> {
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY " + type.stagingTable + " (line, " + type.columns + ") FROM STDIN (FORMAT csv)");
+                try {
+                    Staging result = stage(type, format, input, reptiles, copyIn);
+                    copyIn.endCopy();
+                    return result;
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof CsvRecordReader.CsvFormatException formatException) {
+                throw new InvalidRequestException(formatException.getMessage(), formatException);
+            }
+            throw e;
+        }
+
+        String identifier = authenticationInformationProvider.getAuthenticatedIdentifier();
+        long imported = 0;
+        List<Long> reptileIds = List.of();
+        if (staging.staged() > 0) {
+            // Temporary tables are never analyzed automatically
+            jdbcTemplate.execute("ANALYZE " + type.stagingTable);
+            LocalDateTime now = LocalDateTime.now();
+            imported = jdbcTemplate.update(type.mergeSql, identifier, identifier, now, now);
+            reptileIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT reptile_id FROM " + type.stagingTable, Long.class);
+        }
+
+        if (imported > 0) {
+            careSummaryService.refreshReptiles(reptileIds.toArray(Long[]::new));
+            if (type == ImportType.WEIGHT_LOGS) {
+                growthAnalyticsService.measurementsReplaced(reptileIds);
+            }
+            if (type == ImportType.FEEDING_LOGS) {
+                suggestionService.invalidate(userId);
+            }
+            eventPublisher.publishEvent(new EntityChangedEvent(type.entityType, userId));
+        }
+
+        log.info(MarkerConstants.CRUD, "'{}' imported {} '{}' from {} rows",
+                identifier, imported,
+                type.entityType.getSimpleName(), staging.read());
+        log.debug("Imported {} in {} ms", type.param, (System.nanoTime() - start) / 1_000_000);
+
+        return new ImportResult(staging.read(), imported, staging.staged() - imported,
+                staging.rejected(), staging.errors());
+    }
+
+    /**
+     * Parses, validates and copies every record of the input into the staging table.
+     */
+    private Staging stage(ImportType type, ImportFormat format, InputStream input, ReptileLookup reptiles,
+                          CopyIn copyIn) throws SQLException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        RecordSource source = format == ImportFormat.CSV ? new CsvSource(reader) : new NdjsonSource(reader, jsonMapper);
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(COPY_CHUNK_BYTES + 1024);
+        StringBuilder row = new StringBuilder();
+        List<RowError> errors = new ArrayList<>();
+        long read = 0;
+        long staged = 0;
+        long rejected = 0;
+
+        try {
+            for (RowFields fields = source.next(); fields != null; fields = source.next()) {
+                read++;
+                List<String> problems = new ArrayList<>();
+                Object[] values = null;
+                if (fields.parseError() != null) {
+                    problems.add(fields.parseError());
+                } else {
+                    values = toStagingValues(type, fields, reptiles, problems);
+                }
+                if (!problems.isEmpty()) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new RowError(source.line(), String.join("; ", problems)));
+                    }
+                    continue;
+                }
+
+                row.setLength(0);
+                row.append(source.line());
+                for (Object value : values) {
+                    row.append(',');
+                    appendCsv(row, value);
+                }
+                row.append('\n');
+                chunk.writeBytes(row.toString().getBytes(StandardCharsets.UTF_8));
+                staged++;
+                if (chunk.size() >= COPY_CHUNK_BYTES) {
+                    copyIn.writeToCopy(chunk.toByteArray(), 0, chunk.size());
+                    chunk.reset();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (chunk.size() > 0) {
+            copyIn.writeToCopy(chunk.toByteArray(), 0, chunk.size());
+        }
+        return new Staging(read, staged, rejected, errors);
+    }
+
+    /**
+     * Converts a record to its DTO, validates it and returns the staging columns in order.
+     */
+    private Object[] toStagingValues(ImportType type, RowFields fields, ReptileLookup reptiles, List<String> problems) {
+        Long reptileId = reptiles.resolve(fields, problems);
+        return switch (type) {
+            case FEEDING_LOGS -> {
+                FeedingLogDto dto = new FeedingLogDto();
+                dto.setReptileId(reptileId);
+                dto.setFeedingDate(fields.dateTime(problems, "feedingDate", "date"));
+                dto.setFoodType(fields.text(problems, MAX_TEXT_LENGTH, true, "foodType", "food"));
+                dto.setQuantity(fields.text(problems, MAX_TEXT_LENGTH, true, "quantity"));
+                dto.setAte(Optional.ofNullable(fields.bool(problems, "ate")).orElse(true));
+                dto.setNotes(fields.text(problems, MAX_NOTES_LENGTH, false, "notes"));
+                validate(dto, problems);
+                yield new Object[]{dto.getReptileId(), dto.getFeedingDate(), dto.getFoodType(), dto.getQuantity(),
+                        dto.getAte(), dto.getNotes()};
+            }
+            case WEIGHT_LOGS -> {
+                WeightLogDto dto = new WeightLogDto();
+                dto.setReptileId(reptileId);
+                dto.setMeasurementDate(fields.dateTime(problems, "measurementDate", "date"));
+                dto.setWeightGrams(fields.weight(problems, "weightGrams", "weight"));
+                dto.setNotes(fields.text(problems, MAX_NOTES_LENGTH, false, "notes"));
+                validate(dto, problems);
+                yield new Object[]{dto.getReptileId(), dto.getMeasurementDate(), dto.getWeightGrams(), dto.getNotes()};
+            }
+            case SHEDDING_LOGS -> {
+                SheddingLogDto dto = new SheddingLogDto();
+                dto.setReptileId(reptileId);
+                dto.setSheddingDate(fields.dateTime(problems, "sheddingDate", "date"));
+                dto.setShedQuality(fields.text(problems, MAX_TEXT_LENGTH, true, "shedQuality", "quality"));
+                dto.setAteShed(fields.bool(problems, "ateShed"));
+                dto.setNotes(fields.text(problems, MAX_NOTES_LENGTH, false, "notes"));
+                validate(dto, problems);
+                yield new Object[]{dto.getReptileId(), dto.getSheddingDate(), dto.getShedQuality(), dto.getAteShed(),
+                        dto.getNotes()};
+            }
+        };
+    }
+
+    private void validate(Object dto, List<String> problems) {
+        for (ConstraintViolation<Object> violation : validator.validate(dto)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+    }
+
+    /**
+     * Appends a value in COPY's CSV format: an unquoted empty field is NULL, so text is always
+     * quoted to keep empty strings apart from missing values.
+     */
+    private static void appendCsv(StringBuilder row, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            row.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        } else if (value instanceof BigDecimal decimal) {
+            row.append(decimal.toPlainString());
+        } else {
+            row.append(value);
+        }
+    }
+
+    private static String normalizeKey(String key) {
+        StringBuilder normalized = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Record sources ====================
+
+    private interface RecordSource {
+        /** Returns the next record, or null at the end of the input */
+        RowFields next() throws IOException;
+
+        /** Returns the line the last record started on */
+        long line();
+    }
+
+    /** Reads CSV with a header row naming the columns */
+    private static final class CsvSource implements RecordSource {
+        private final CsvRecordReader reader;
+        private List<String> header;
+
+        private CsvSource(BufferedReader reader) {
+            this.reader = new CsvRecordReader(reader, ',', MAX_RECORD_CHARS);
+        }
+
+        @Override
+        public RowFields next() throws IOException {
+            if (header == null) {
+                List<String> names = reader.next();
+                if (names == null) {
+                    throw new InvalidRequestException("The import is empty");
+                }
+                header = names.stream().map(LogImportService::normalizeKey).toList();
+            }
+            List<String> record = reader.next();
+            if (record == null) {
+                return null;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < Math.min(header.size(), record.size()); i++) {
+                values.put(header.get(i), record.get(i));
+            }
+            return new RowFields(values, null);
+        }
+
+        @Override
+        public long line() {
+            return reader.getRecordLine();
+        }
+    }
+
+    /** Reads one JSON object per line */
+    private static final class NdjsonSource implements RecordSource {
+        private final BufferedReader reader;
+        private final JsonMapper jsonMapper;
+        private long line;
+
+        private NdjsonSource(BufferedReader reader, JsonMapper jsonMapper) {
+            this.reader = reader;
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        public RowFields next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            if (text.length() > MAX_RECORD_CHARS) {
+                return new RowFields(Map.of(), "Line is longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            JsonNode node;
+            try {
+                node = jsonMapper.readTree(text);
+            } catch (JacksonException e) {
+                return new RowFields(Map.of(), "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new RowFields(Map.of(), "Expected a JSON object");
+            }
+            Map<String, String> values = new HashMap<>();
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                JsonNode value = property.getValue();
+                values.put(normalizeKey(property.getKey()),
+                        value.isNull() ? null : value.isValueNode() ? value.asString() : value.toString());
+            }
+            return new RowFields(values, null);
+        }
+
+        @Override
+        public long line() {
+            return line;
+        }
+    }
+
+    /**
+     * The raw fields of one record by normalized name, with parsers that collect problems
+     * instead of throwing, so every problem of a row is reported at once.
+     */
+    private record RowFields(Map<String, String> values, String parseError) {
+
+        private String raw(String... names) {
+            for (String name : names) {
+                String value = values.get(normalizeKey(name));
+                if (value != null && !value.isBlank()) {
+                    return value.trim();
+                }
+            }
+            return null;
+        }
+
+        private String text(List<String> problems, int maxLength, boolean required, String... names) {
+            String value = raw(names);
+            if (value == null) {
+                if (required) {
+                    problems.add(names[0] + ": is required");
+                }
+                return null;
+            }
+            if (value.length() > maxLength) {
+                problems.add(names[0] + ": is longer than " + maxLength + " characters");
+                return null;
+            }
+            return value;
+        }
+
+        private LocalDateTime dateTime(List<String> problems, String... names) {
+            String value = raw(names);
+            if (value == null) {
+                problems.add(names[0] + ": is required");
+                return null;
+            }
+            try {
+                String iso = value.replace(' ', 'T');
+                return iso.length() == 10 ? LocalDate.parse(iso).atStartOfDay() : LocalDateTime.parse(iso);
+            } catch (DateTimeParseException e) {
+                problems.add(names[0] + ": '" + value + "' is not a date like 2024-05-31 or 2024-05-31T18:30");
+                return null;
+            }
+        }
+
+        private Boolean bool(List<String> problems, String... names) {
+            String value = raw(names);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "y", "1" -> true;
+                case "false", "no", "n", "0" -> false;
+                default -> {
+                    problems.add(names[0] + ": '" + value + "' is not yes or no");
+                    yield null;
+                }
+            };
+        }
+
+        private BigDecimal weight(List<String> problems, String... names) {
+            String value = raw(names);
+            if (value == null) {
+                problems.add(names[0] + ": is required");
+                return null;
+            }
+            try {
+                BigDecimal grams = new BigDecimal(value).setScale(2, RoundingMode.HALF_UP);
+                if (grams.signum() <= 0 || grams.compareTo(MAX_WEIGHT_GRAMS) > 0) {
+                    problems.add(names[0] + ": must be between 0 and " + MAX_WEIGHT_GRAMS + " grams");
+                    return null;
+                }
+                return grams;
+            } catch (NumberFormatException e) {
+                problems.add(names[0] + ": '" + value + "' is not a number");
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Resolves reptile IDs and names of the current user, loaded once per import.
+     */
+    private static final class ReptileLookup {
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<String, Long> idsByName = new HashMap<>();
+        private final Set<String> ambiguousNames = new HashSet<>();
+
+        private ReptileLookup(List<ReptileNameView> reptiles) {
+            for (ReptileNameView reptile : reptiles) {
+                ids.add(reptile.getId());
+                if (reptile.getName() != null) {
+                    String name = normalizeName(reptile.getName());
+                    if (idsByName.putIfAbsent(name, reptile.getId()) != null) {
+                        ambiguousNames.add(name);
+                    }
+                }
+            }
+        }
+
+        private Long resolve(RowFields fields, List<String> problems) {
+            String idValue = fields.raw("reptileId");
+            if (idValue != null) {
+                try {
+                    Long id = Long.valueOf(idValue);
+                    if (ids.contains(id)) {
+                        return id;
+                    }
+                } catch (NumberFormatException e) {
+                    // Reported below like an unknown ID
+                }
+                problems.add("reptileId: no reptile with ID '" + idValue + "'");
+                return null;
+            }
+
+            String name = fields.raw("reptileName", "reptile");
+            if (name == null) {
+                problems.add("reptileId: either reptileId or reptileName is required");
+                return null;
+            }
+            String normalized = normalizeName(name);
+            if (ambiguousNames.contains(normalized)) {
+                problems.add("reptileName: several reptiles are named '" + name + "', use reptileId");
+                return null;
+            }
+            Long id = idsByName.get(normalized);
+            if (id == null) {
+                problems.add("reptileName: no reptile named '" + name + "'");
+            }
+            return id;
+        }
+    }
+
+    private record Staging(long read, long staged, long rejected, List<RowError> errors) {}
+
+    // ==================== Types ====================
+
+    /**
+     * Kinds of logs that can be imported, with their staging table and merge statement.
+     */
+    public enum ImportType {
+        FEEDING_LOGS("feeding-logs", FeedingLog.class, "feeding_logs", "feeding_date",
+                "reptile_id, feeding_date, food_type, quantity, ate, notes",
+                "reptile_id BIGINT NOT NULL, feeding_date TIMESTAMP NOT NULL, food_type VARCHAR(255) NOT NULL, "
+                        + "quantity VARCHAR(255) NOT NULL, ate BOOLEAN NOT NULL, notes VARCHAR(500)"),
+        WEIGHT_LOGS("weight-logs", WeightLog.class, "weight_logs", "measurement_date",
+                "reptile_id, measurement_date, weight_grams, notes",
+                "reptile_id BIGINT NOT NULL, measurement_date TIMESTAMP NOT NULL, weight_grams NUMERIC(8, 2) NOT NULL, "
+                        + "notes VARCHAR(500)"),
+        SHEDDING_LOGS("shedding-logs", SheddingLog.class, "shedding_logs", "shedding_date",
+                "reptile_id, shedding_date, shed_quality, ate_shed, notes",
+                "reptile_id BIGINT NOT NULL, shedding_date TIMESTAMP NOT NULL, shed_quality VARCHAR(255) NOT NULL, "
+                        + "ate_shed BOOLEAN, notes VARCHAR(500)");
+
+        private final String param;
+        private final Class<?> entityType;
+        private final String stagingTable;
+        private final String columns;
+        private final String stagingColumns;
+        private final String mergeSql;
+
+        ImportType(String param, Class<?> entityType, String table, String dateColumn, String columns,
+                   String stagingColumns) {
+            this.param = param;
+            this.entityType = entityType;
+            this.stagingTable = "import_" + table;
+            this.columns = columns;
+            this.stagingColumns = stagingColumns;
+            // Only identical rows are duplicates: two feedings at the same time may differ in food.
+            // IDs are taken one sequence block at a time like Hibernate's pooled optimizer does,
+            // rather than one nextval per row through the column default. Like the optimizer, a
+            // block ending below the block size is the start value of a never used sequence, which
+            // has no full block below it, and is replaced by the next one.
+            this.mergeSql = """
+                    WITH fresh AS (
+                        SELECT %5$s, ROW_NUMBER() OVER (ORDER BY MIN(s.line)) - 1 AS n
+                        FROM %2$s s
+                        WHERE NOT EXISTS (
+                            SELECT 1 FROM %1$s t
+                            WHERE t.reptile_id = s.reptile_id AND t.%4$s = s.%4$s%6$s
+                        )
+                        GROUP BY %5$s
+                    ),
+                    reserved AS MATERIALIZED (
+                        SELECT b, nextval('%1$s_id_seq') AS last_id
+                        FROM generate_series(0, (SELECT MAX(n) FROM fresh) / %7$d) AS b
+                    ),
+                    blocks AS MATERIALIZED (
+                        SELECT b, CASE WHEN last_id < %7$d THEN nextval('%1$s_id_seq') ELSE last_id END AS last_id
+                        FROM reserved
+                    )
+                    INSERT INTO %1$s (id, %3$s, created_by, updated_by, created_at, updated_at)
+                    SELECT blocks.last_id - %8$d + fresh.n %% %7$d, %9$s, ?, ?, ?, ?
+                    FROM fresh
+                    JOIN blocks ON blocks.b = fresh.n / %7$d
+                    ORDER BY fresh.n
+                    """.formatted(table, stagingTable, columns, dateColumn,
+                    "s." + columns.replace(", ", ", s."),
+                    Arrays.stream(columns.split(", "))
+                            .filter(column -> !column.equals("reptile_id") && !column.equals(dateColumn))
+                            .map(column -> " AND t." + column + " IS NOT DISTINCT FROM s." + column)
+                            .collect(Collectors.joining()),
+                    ID_BLOCK_SIZE, ID_BLOCK_SIZE - 1,
+                    "fresh." + columns.replace(", ", ", fresh."));
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        /**
+         * Parses an import type from its URL form, e.g. {@code feeding-logs}.
+         * @param param the URL form
+         * @return the import type, or empty if unknown
+         */
+        public static Optional<ImportType> fromParam(String param) {
+            for (ImportType type : values()) {
+                if (type.param.equalsIgnoreCase(param)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Input formats: CSV with a header row, or one JSON object per line.
+     */
+    public enum ImportFormat {
+        CSV,
+        NDJSON;
+
+        /**
+         * Picks the format from a request's content type.
+         * @param contentType the content type, e.g. {@code text/csv}
+         * @return the format, or empty if the content type is not supported
+         */
+        public static Optional<ImportFormat> fromContentType(String contentType) {
+            if (contentType == null) {
+                return Optional.empty();
+            }
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.contains("csv")) {
+                return Optional.of(CSV);
+            }
+            if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json-seq")) {
+                return Optional.of(NDJSON);
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Outcome of an import.
+     *
+     * @param rowsRead          records in the input
+     * @param rowsImported      rows added to the log
+     * @param duplicatesSkipped valid rows skipped because they are identical to an existing log or an earlier row
+     * @param rowsRejected      rows rejected as invalid; the first 1000 are listed in the errors
+     * @param errors            why rows were rejected, in input order
+     */
+    public record ImportResult(long rowsRead, long rowsImported, long duplicatesSkipped, long rowsRejected,
+                               List<RowError> errors) {}
+
+    /**
+     * A rejected row.
+     *
+     * @param line    the line the row starts on
+     * @param message every problem found in the row
+     */
+    public record RowError(long line, String message) {}
+}
@@ -4,8 +4,11 @@ import com.reptilemanagement.persistence.domain.PoopLog;
 import com.reptilemanagement.persistence.dto.PoopLogDto;
 import com.reptilemanagement.persistence.mapper.PoopLogMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.PoopStatisticsView;
 import com.reptilemanagement.persistence.repository.PoopLogRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.pagination.CursorPage;
+import com.reptilemanagement.shared.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,9 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
 
     private final PoopLogRepository poopLogRepository;
     private final PoopLogMapper poopLogMapper;
+    private final CareSummaryService careSummaryService;
+    private final ReptileService reptileService;
+    private final CursorPagination cursorPagination;
 
     @Override
     protected JpaRepository<PoopLog, Long> getRepository() {
@@ -47,6 +54,20 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
         return Sort.by(Sort.Direction.DESC, "poopDate");
     }
 
+    @Override
+    protected Optional<PoopLog> findOwnedById(Long id) {
+        return poopLogRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return poopLogRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
     /**
      * Creates a new poop log entry.
      * @param poopLogDto the poop log data to create
@@ -54,7 +75,26 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
      */
     public PoopLogDto createPoopLog(PoopLogDto poopLogDto) {
         log.info("Creating poop log for reptile: {}", poopLogDto.getReptileId());
-        return create(poopLogDto, new HashMap<>());
+        reptileService.verifyOwnership(poopLogDto.getReptileId());
+        PoopLogDto created = create(poopLogDto, new HashMap<>());
+        careSummaryService.refreshReptiles(created.getReptileId());
+        return created;
+    }
+
+    /**
+     * Creates several poop log entries in one transaction.
+     * @param poopLogDtos the poop log data to create
+     * @return the created poop logs as DTOs, in request order
+     */
+    public List<PoopLogDto> createPoopLogs(List<PoopLogDto> poopLogDtos) {
+        log.info("Creating {} poop logs", poopLogDtos.size());
+        poopLogDtos.stream()
+                .map(PoopLogDto::getReptileId)
+                .distinct()
+                .forEach(reptileService::verifyOwnership);
+        List<PoopLogDto> created = create(poopLogDtos, new HashMap<>());
+        careSummaryService.refreshReptiles(created.stream().map(PoopLogDto::getReptileId).toArray(Long[]::new));
+        return created;
     }
 
     /**
@@ -73,17 +113,20 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
     }
 
     /**
-     * Retrieves all poop logs for a specific reptile.
+     * Retrieves one page of poop logs for a specific reptile, newest first.
      * @param reptileId the reptile ID
-     * @return list of poop logs for the reptile
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, or null for the default
+     * @return the page of poop logs with a cursor to the next page
      */
     @Transactional(readOnly = true)
-    public List<PoopLogDto> getPoopLogsByReptileId(Long reptileId) {
+    public CursorPage<PoopLogDto> getPoopLogsByReptileId(Long reptileId, String cursor, Integer size) {
         log.debug("Retrieving poop logs for reptile: {}", reptileId);
 
-        return poopLogRepository.findByReptileIdOrderByPoopDateDesc(reptileId).stream()
-                .map(poopLogMapper::toDto)
-                .collect(Collectors.toList());
+        return cursorPagination.fetch(cursor, size,
+                        (after, limit) -> poopLogRepository.findPageByReptileId(reptileId, after.date(), after.id(), limit),
+                        PoopLog::getPoopDate, PoopLog::getId)
+                .map(poopLogMapper::toDto);
     }
 
     /**
@@ -132,18 +175,18 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
     /**
      * Updates an existing poop log.
      * @param id the poop log ID to update
-     * @param poopLogDto the updated poop log data
-     * @return the updated poop log as DTO, or empty if not found
+     * @param poopLogDto the updated poop log data, with the version it was read at
+     * @return the updated poop log as DTO, or empty if not found or not owned
      */
     public Optional<PoopLogDto> updatePoopLog(Long id, PoopLogDto poopLogDto) {
         log.info("Updating poop log with ID: {}", id);
-        try {
-            poopLogDto.setId(id);
-            return Optional.of(update(poopLogDto, new HashMap<>()));
-        } catch (Exception e) {
-            log.error("Error updating poop log with ID: {}", id, e);
-            return Optional.empty();
-        }
+
+        return updateOwned(id, poopLogDto, new HashMap<>(), (before, updated) -> {
+            if (!Objects.equals(before.getReptileId(), updated.getReptileId())) {
+                reptileService.verifyOwnership(updated.getReptileId());
+            }
+            careSummaryService.refreshReptiles(before.getReptileId(), updated.getReptileId());
+        });
     }
 
     /**
@@ -154,8 +197,10 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
     public boolean deletePoopLog(Long id) {
         log.info("Deleting poop log with ID: {}", id);
 
-        if (poopLogRepository.existsById(id)) {
+        Optional<PoopLog> existing = poopLogRepository.findById(id);
+        if (existing.isPresent()) {
             deleteById(id);
+            careSummaryService.refreshReptiles(existing.get().getReptileId());
             log.info("Deleted poop log with ID: {}", id);
             return true;
         }
@@ -173,11 +218,8 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
     public PoopStatistics getPoopStatistics(Long reptileId) {
         log.debug("Retrieving poop statistics for reptile: {}", reptileId);
 
-        List<PoopLog> logs = poopLogRepository.findByReptileIdOrderByPoopDateDesc(reptileId);
-        long totalLogs = logs.size();
-        long parasiteCount = logs.stream().filter(PoopLog::getParasitesPresent).count();
-
-        return new PoopStatistics(totalLogs, parasiteCount);
+        PoopStatisticsView view = poopLogRepository.getStatisticsByReptileId(reptileId);
+        return new PoopStatistics(view.getTotalLogs(), view.getParasiteCount(), view.getLastPoopDate(), view.getMeanIntervalDays());
     }
 
     /**
@@ -186,13 +228,20 @@ public class PoopLogService extends BaseCrudService<Long, PoopLog, PoopLogDto> {
     public static class PoopStatistics {
         private final long totalLogs;
         private final long parasiteCount;
+        private final LocalDateTime lastPoopDate;
+        private final Double meanIntervalDays;
 
-        public PoopStatistics(long totalLogs, long parasiteCount) {
+        public PoopStatistics(long totalLogs, long parasiteCount, LocalDateTime lastPoopDate, Double meanIntervalDays) {
             this.totalLogs = totalLogs;
             this.parasiteCount = parasiteCount;
+            this.lastPoopDate = lastPoopDate;
+            this.meanIntervalDays = meanIntervalDays;
         }
 
         public long getTotalLogs() { return totalLogs; }
         public long getParasiteCount() { return parasiteCount; }
+        public LocalDateTime getLastPoopDate() { return lastPoopDate; }
+        /** Mean days between logs, null with fewer than two */
+        public Double getMeanIntervalDays() { return meanIntervalDays; }
     }
 }
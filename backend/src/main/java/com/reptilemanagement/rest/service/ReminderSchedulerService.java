@@ -0,0 +1,336 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.domain.Reminder;
+import com.reptilemanagement.persistence.repository.ReminderRepository;
+import com.reptilemanagement.shared.reminder.ReminderFiring;
+import com.reptilemanagement.shared.reminder.ReminderSink;
+import com.reptilemanagement.shared.scheduling.HierarchicalTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires care reminders at their due time and hands them to the {@link ReminderSink}s.
+ * <p>
+ * Only the firings of the next load window are kept in memory, in a hierarchical timing wheel.
+ * The window is extended from the database every half window; the query reads the partial index
+ * on pending firings, so its cost depends on the number of firings in the window, not on the
+ * number of reminders. The first load after startup also reads all overdue firings, which
+ * recovers the ones missed while the application was down.
+ * <p>
+ * A firing is claimed by advancing the reminder's {@code next_fire_at} with a compare-and-set
+ * before it is delivered, so it is delivered at most once even with several instances running.
+ * Occurrences of a repeating reminder missed during downtime are delivered as a single firing.
+ */
+@Service
+@Slf4j
+public class ReminderSchedulerService implements DisposableBean {
+
+    private static final int WHEEL_LEVELS = 4;
+
+    /** Delay before a firing whose claim failed, e.g. because the database was down, is retried */
+    private static final long RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ReminderRepository reminderRepository;
+    private final List<ReminderSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final long windowMillis;
+    private final HierarchicalTimingWheel<PendingFiring> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<PendingFiring>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reminder-wheel").daemon().factory());
+    private final ExecutorService dispatcher =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("reminder-dispatch-", 0).factory());
+
+    /** End of the loaded window in epoch milliseconds; firings up to here are in the wheel */
+    private volatile long loadedUntilMillis = Long.MIN_VALUE;
+    /** Serializes loads; a lock rather than a monitor, so a load waiting on the database does not pin its carrier */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private final AtomicLong fired = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong deliveries = new AtomicLong();
+    private final AtomicLong deliveryFailures = new AtomicLong();
+
+    public ReminderSchedulerService(
+            ReminderRepository reminderRepository,
+            List<ReminderSink> sinks,
+            PlatformTransactionManager transactionManager,
+            @Value("${reminders.tick-ms:1000}") long tickMillis,
+            @Value("${reminders.load-window-minutes:60}") long windowMinutes) {
+        this.reminderRepository = reminderRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tickMillis = tickMillis;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_LEVELS, System.currentTimeMillis());
+        if (windowMillis <= 0 || windowMillis + RETRY_DELAY_MILLIS >= wheel.getRangeMillis()) {
+            throw new IllegalArgumentException("Reminder load window must be positive and shorter than the timing wheel");
+        }
+    }
+
+    /**
+     * Recovers missed firings, loads the first window and starts the wheel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Starting reminder scheduler with sinks {}", sinks.stream().map(ReminderSink::getName).toList());
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(() -> dispatcher.execute(this::loadWindow),
+                0, windowMillis / 2, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates the wheel once a created or changed reminder has been committed.
+     * @param reminderId the reminder ID
+     * @param active whether the reminder is active
+     * @param nextFireAt its next firing, or null if it has none
+     */
+    public void reminderSaved(Long reminderId, boolean active, LocalDateTime nextFireAt) {
+        afterCommit(() -> {
+            if (active && nextFireAt != null) {
+                scheduleIfLoaded(reminderId, nextFireAt);
+            } else {
+                cancel(reminderId);
+            }
+        });
+    }
+
+    /**
+     * Removes a reminder from the wheel once its deletion has been committed.
+     * @param reminderId the reminder ID
+     */
+    public void reminderDeleted(Long reminderId) {
+        afterCommit(() -> cancel(reminderId));
+    }
+
+    /**
+     * Returns a snapshot of the scheduler's state and delivery counts.
+     * @return the current statistics
+     */
+    public SchedulerStatistics getStatistics() {
+        long loadedUntil = loadedUntilMillis;
+        return new SchedulerStatistics(
+                wheel.size(),
+                loadedUntil == Long.MIN_VALUE ? null : toLocalDateTime(loadedUntil),
+                fired.get(),
+                skipped.get(),
+                deliveries.get(),
+                deliveryFailures.get());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        ticker.shutdownNow();
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Reminder deliveries still running at shutdown");
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void tick() {
+        try {
+            for (PendingFiring firing : wheel.advance(System.currentTimeMillis())) {
+                dispatcher.execute(() -> fire(firing));
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task and stop the wheel for good
+            log.error("Advancing the reminder wheel failed", e);
+        }
+    }
+
+    /**
+     * Extends the loaded window. The first load also reads every overdue firing.
+     */
+    private void loadWindow() {
+        loadLock.lock();
+        try {
+            long previousUntil = loadedUntilMillis;
+            long until = System.currentTimeMillis() + windowMillis;
+            // Published before querying: a reminder saved concurrently is either seen by the query
+            // or, committing later, sees the new window and schedules itself
+            loadedUntilMillis = until;
+            try {
+                List<Reminder> reminders = previousUntil == Long.MIN_VALUE
+                        ? reminderRepository.findPendingUntil(toLocalDateTime(until))
+                        : reminderRepository.findPendingBetween(toLocalDateTime(previousUntil), toLocalDateTime(until));
+                reminders.forEach(reminder -> scheduleIfLoaded(reminder.getId(), reminder.getNextFireAt()));
+                log.debug("Loaded {} reminder firings up to {}", reminders.size(), toLocalDateTime(until));
+            } catch (RuntimeException e) {
+                loadedUntilMillis = previousUntil;
+                log.warn("Loading reminder firings failed, retrying with the next load", e);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void fire(PendingFiring firing) {
+        pending.computeIfPresent(firing.reminderId(), (id, timeout) -> timeout.getTask() == firing ? null : timeout);
+        LocalDateTime now = LocalDateTime.now();
+
+        Claim claim;
+        try {
+            claim = transactionTemplate.execute(status -> claim(firing, now));
+        } catch (RuntimeException e) {
+            log.warn("Claiming firing of reminder {} failed, retrying", firing.reminderId(), e);
+            schedule(firing.reminderId(), firing.firesAt(), System.currentTimeMillis() + RETRY_DELAY_MILLIS);
+            return;
+        }
+        if (claim == null) {
+            return;
+        }
+
+        Reminder reminder = claim.reminder();
+        if (claim.claimed()) {
+            fired.incrementAndGet();
+            deliver(new ReminderFiring(reminder.getId(), reminder.getUserId(), reminder.getReptileId(),
+                    reminder.getEnclosureId(), reminder.getTitle(), reminder.getMessage(), firing.firesAt(), now));
+        } else {
+            skipped.incrementAndGet();
+        }
+        if (claim.nextFireAt() != null) {
+            scheduleIfLoaded(reminder.getId(), claim.nextFireAt());
+        }
+    }
+
+    /**
+     * Claims a firing. If the reminder changed since the firing was scheduled, nothing is claimed
+     * and its current next firing is returned so the wheel can catch up.
+     * @return the claim, or null if the reminder no longer fires at all
+     */
+    private Claim claim(PendingFiring firing, LocalDateTime now) {
+        Reminder reminder = reminderRepository.findById(firing.reminderId()).orElse(null);
+        if (reminder == null || !Boolean.TRUE.equals(reminder.getActive()) || reminder.getNextFireAt() == null) {
+            return null;
+        }
+        if (!reminder.getNextFireAt().equals(firing.firesAt())) {
+            return new Claim(reminder, false, reminder.getNextFireAt());
+        }
+        LocalDateTime next = nextFiring(reminder, now);
+        boolean claimed = reminderRepository.claimFiring(reminder.getId(), firing.firesAt(), next) == 1;
+        return new Claim(reminder, claimed, claimed ? next : null);
+    }
+
+    /**
+     * Returns the first occurrence of a repeating reminder after now, skipping missed ones.
+     */
+    private static LocalDateTime nextFiring(Reminder reminder, LocalDateTime now) {
+        Integer interval = reminder.getRepeatIntervalDays();
+        if (interval == null) {
+            return null;
+        }
+        LocalDateTime next = reminder.getNextFireAt().plusDays(interval);
+        if (!next.isAfter(now)) {
+            long missed = ChronoUnit.DAYS.between(next, now) / interval + 1;
+            next = next.plusDays(missed * interval);
+        }
+        return next;
+    }
+
+    private void deliver(ReminderFiring firing) {
+        for (ReminderSink sink : sinks) {
+            dispatcher.execute(() -> {
+                try {
+                    sink.deliver(firing);
+                    deliveries.incrementAndGet();
+                } catch (Exception e) {
+                    deliveryFailures.incrementAndGet();
+                    log.warn("Delivering reminder {} to {} failed", firing.reminderId(), sink.getName(), e);
+                }
+            });
+        }
+    }
+
+    private void scheduleIfLoaded(Long reminderId, LocalDateTime firesAt) {
+        long firesAtMillis = toEpochMillis(firesAt);
+        if (firesAtMillis > loadedUntilMillis) {
+            // Picked up by a later load
+            cancel(reminderId);
+            return;
+        }
+        HierarchicalTimingWheel.Timeout<PendingFiring> existing = pending.get(reminderId);
+        if (existing != null && existing.getTask().firesAt().equals(firesAt)) {
+            return;
+        }
+        schedule(reminderId, firesAt, firesAtMillis);
+    }
+
+    private void schedule(Long reminderId, LocalDateTime firesAt, long deadlineMillis) {
+        HierarchicalTimingWheel.Timeout<PendingFiring> timeout =
+                wheel.schedule(new PendingFiring(reminderId, firesAt), deadlineMillis);
+        HierarchicalTimingWheel.Timeout<PendingFiring> previous = pending.put(reminderId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancel(Long reminderId) {
+        HierarchicalTimingWheel.Timeout<PendingFiring> timeout = pending.remove(reminderId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** A firing in the wheel: the reminder and the next_fire_at it expects to claim */
+    private record PendingFiring(Long reminderId, LocalDateTime firesAt) {}
+
+    private record Claim(Reminder reminder, boolean claimed, LocalDateTime nextFireAt) {}
+
+    /**
+     * Snapshot of the reminder scheduler.
+     *
+     * @param pendingTimers    firings waiting in the timing wheel
+     * @param loadedUntil      end of the window loaded into the wheel
+     * @param fired            firings claimed since startup
+     * @param skipped          firings dropped because the reminder changed before they were due
+     * @param deliveries       successful deliveries to a sink
+     * @param deliveryFailures failed deliveries to a sink
+     */
+    public record SchedulerStatistics(int pendingTimers, LocalDateTime loadedUntil, long fired, long skipped,
+                                      long deliveries, long deliveryFailures) {}
+}
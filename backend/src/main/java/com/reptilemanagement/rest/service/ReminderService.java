@@ -0,0 +1,231 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+import com.reptilemanagement.persistence.domain.Reminder;
+import com.reptilemanagement.persistence.domain.ReminderNotification;
+import com.reptilemanagement.persistence.dto.ReminderDto;
+import com.reptilemanagement.persistence.dto.ReminderNotificationDto;
+import com.reptilemanagement.persistence.mapper.ReminderMapper;
+import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.repository.ReminderNotificationRepository;
+import com.reptilemanagement.persistence.repository.ReminderRepository;
+import com.reptilemanagement.rest.service.base.BaseCrudService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for managing care reminders and the reminder inbox.
+ * All operations are scoped to the currently authenticated user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ReminderService extends BaseCrudService<Long, Reminder, ReminderDto> {
+
+    private static final int MAX_INBOX_LIMIT = 200;
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderNotificationRepository reminderNotificationRepository;
+    private final ReminderMapper reminderMapper;
+    private final ReminderSchedulerService reminderSchedulerService;
+    private final ReptileService reptileService;
+    private final EnclosureService enclosureService;
+
+    @Override
+    protected JpaRepository<Reminder, Long> getRepository() {
+        return reminderRepository;
+    }
+
+    @Override
+    protected BaseMapper<Reminder, ReminderDto> getMapper() {
+        return reminderMapper;
+    }
+
+    @Override
+    public Sort getDefaultSort() {
+        return Sort.by(Sort.Direction.ASC, "nextFireAt");
+    }
+
+    @Override
+    protected Optional<Reminder> findOwnedById(Long id) {
+        return reminderRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return reminderRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
+    // ==================== Helper ====================
+
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
+    /**
+     * Checks the reminder data and that its reptile or enclosure belongs to the current user.
+     * @param reminderDto the reminder data
+     * @throws InvalidRequestException if the reminder is incomplete or targets both a reptile and an enclosure
+     */
+    private void validate(ReminderDto reminderDto) {
+        if (reminderDto.getTitle() == null || reminderDto.getTitle().isBlank()) {
+            throw new InvalidRequestException("Reminder title is required");
+        }
+        if (reminderDto.getNextFireAt() == null) {
+            throw new InvalidRequestException("Reminder time is required");
+        }
+        if (reminderDto.getReptileId() != null && reminderDto.getEnclosureId() != null) {
+            throw new InvalidRequestException("A reminder is either about a reptile or about an enclosure");
+        }
+        CareDueService.validateInterval(reminderDto.getRepeatIntervalDays(), "Repeat interval");
+        if (reminderDto.getReptileId() != null) {
+            reptileService.verifyOwnership(reminderDto.getReptileId());
+        }
+        if (reminderDto.getEnclosureId() != null) {
+            enclosureService.verifyOwnership(reminderDto.getEnclosureId());
+        }
+    }
+
+    // ==================== CRUD ====================
+
+    /**
+     * Creates a new reminder owned by the current user.
+     * @param reminderDto the reminder data to create
+     * @return the created reminder as DTO
+     */
+    public ReminderDto createReminder(ReminderDto reminderDto) {
+        log.info("Creating reminder: {}", reminderDto.getTitle());
+        validate(reminderDto);
+        reminderDto.setUserId(currentUserId());
+        if (reminderDto.getActive() == null) {
+            reminderDto.setActive(true);
+        }
+        ReminderDto created = create(reminderDto, new HashMap<>());
+        reminderSchedulerService.reminderSaved(created.getId(), created.getActive(), created.getNextFireAt());
+        return created;
+    }
+
+    /**
+     * Retrieves a reminder by ID, scoped to the current user.
+     * @param id the reminder ID
+     * @return the reminder as DTO, or empty if not found or not owned
+     */
+    @Transactional(readOnly = true)
+    public Optional<ReminderDto> getReminderById(Long id) {
+        log.debug("Retrieving reminder with ID: {}", id);
+        return reminderRepository.findByIdAndUserId(id, currentUserId())
+                .map(reminderMapper::toDto);
+    }
+
+    /**
+     * Retrieves all reminders of the current user.
+     * @return list of reminders, next firing first
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderDto> getAllReminders() {
+        log.debug("Retrieving all reminders for current user");
+        return reminderRepository.findByUserIdOrderByNextFireAtAsc(currentUserId()).stream()
+                .map(reminderMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Updates a reminder of the current user.
+     * @param id the reminder ID to update
+     * @param reminderDto the updated reminder data, with the version it was read at
+     * @return the updated reminder as DTO, or empty if not found or not owned
+     */
+    public Optional<ReminderDto> updateReminder(Long id, ReminderDto reminderDto) {
+        log.info("Updating reminder with ID: {}", id);
+        validate(reminderDto);
+        reminderDto.setUserId(currentUserId());
+
+        return updateOwned(id, reminderDto, new HashMap<>(), (before, updated) ->
+                reminderSchedulerService.reminderSaved(id, updated.getActive(), updated.getNextFireAt()));
+    }
+
+    /**
+     * Deletes a reminder, verifying ownership first. Its notifications stay in the inbox.
+     * @param id the reminder ID to delete
+     * @return true if deleted, false if not found or not owned
+     */
+    public boolean deleteReminder(Long id) {
+        log.info("Deleting reminder with ID: {}", id);
+
+        if (reminderRepository.findByIdAndUserId(id, currentUserId()).isPresent()) {
+            deleteById(id);
+            reminderSchedulerService.reminderDeleted(id);
+            log.info("Deleted reminder with ID: {}", id);
+            return true;
+        }
+
+        log.warn("Reminder with ID {} not found for current user", id);
+        return false;
+    }
+
+    // ==================== Inbox ====================
+
+    /**
+     * Retrieves the newest notifications of the current user.
+     * @param unreadOnly only unread notifications
+     * @param limit the maximum number of notifications, capped at 200
+     * @return the notifications, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderNotificationDto> getInbox(boolean unreadOnly, int limit) {
+        log.debug("Retrieving reminder inbox for current user");
+        Long userId = currentUserId();
+        Limit cappedLimit = Limit.of(Math.clamp(limit, 1, MAX_INBOX_LIMIT));
+
+        List<ReminderNotification> notifications = unreadOnly
+                ? reminderNotificationRepository.findByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(userId, cappedLimit)
+                : reminderNotificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, cappedLimit);
+        return notifications.stream()
+                .map(ReminderService::toNotificationDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the unread notifications of the current user.
+     * @return the number of unread notifications
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount() {
+        return reminderNotificationRepository.countByUserIdAndReadAtIsNull(currentUserId());
+    }
+
+    /**
+     * Marks a notification of the current user as read.
+     * @param notificationId the notification ID
+     * @return true if marked, false if not found or not owned
+     */
+    public boolean markRead(Long notificationId) {
+        log.debug("Marking reminder notification {} as read", notificationId);
+        return reminderNotificationRepository.markRead(notificationId, currentUserId(), LocalDateTime.now()) == 1;
+    }
+
+    private static ReminderNotificationDto toNotificationDto(ReminderNotification notification) {
+        return new ReminderNotificationDto(
+                notification.getId(),
+                notification.getReminderId(),
+                notification.getReptileId(),
+                notification.getEnclosureId(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getScheduledFor(),
+                notification.getCreatedAt(),
+                notification.getReadAt());
+    }
+}
@@ -1,5 +1,8 @@
 package com.reptilemanagement.rest.service;
 
+import com.reptilemanagement.exception.InvalidImageException;
+import com.reptilemanagement.exception.ResourceNotFoundException;
+import com.reptilemanagement.persistence.domain.ImageVariant;
 import com.reptilemanagement.persistence.domain.ReptileImage;
 import com.reptilemanagement.persistence.dto.ReptileImageDto;
 import com.reptilemanagement.persistence.mapper.ReptileImageMapper;
@@ -7,8 +10,10 @@ import com.reptilemanagement.persistence.mapper.base.BaseMapper;
 import com.reptilemanagement.persistence.repository.ReptileImageRepository;
 import com.reptilemanagement.persistence.repository.ReptileRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.storage.BlobStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
@@ -16,10 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +38,10 @@ import java.util.stream.Collectors;
 public class ReptileImageService extends BaseCrudService<Long, ReptileImage, ReptileImageDto> {
 
     private final ReptileImageRepository reptileImageRepository;
+    private final BlobStore blobStore;
+    private final BlobSweepService blobSweepService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageIngestService imageIngestService;
     private final ReptileRepository reptileRepository;
     private final ReptileImageMapper reptileImageMapper;
 
@@ -52,49 +60,50 @@ public class ReptileImageService extends BaseCrudService<Long, ReptileImage, Rep
         return Sort.by(Sort.Direction.DESC, "createdAt");
     }
 
-    /** Supported image content types */
-    private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of(
-            "image/jpeg",
-            "image/png",
-            "image/gif",
-            "image/webp",
-            "image/bmp");
-
     /** Maximum file size in bytes (10 MB) */
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
     /**
-     * Uploads an image for a reptile.
+     * Uploads an image for a reptile. The file is sniffed, validated and normalized
+     * before anything is stored, see {@link ImageIngestService}.
      * 
      * @param reptileId   the reptile ID
      * @param file        the image file to upload
      * @param description optional description for the image
      * @return the created image metadata as DTO
-     * @throws IllegalArgumentException if file type is not supported or reptile
-     *                                  doesn't exist
-     * @throws IOException              if file reading fails
+     * @throws ResourceNotFoundException if the reptile doesn't exist
+     * @throws InvalidImageException     if the file is empty, too large or not a supported image
+     * @throws IOException               if file reading fails
      */
     public ReptileImageDto uploadImage(Long reptileId, MultipartFile file, String description) throws IOException {
         log.info("Uploading image for reptile: {}, filename: {}", reptileId, file.getOriginalFilename());
 
         // Validate reptile exists
         if (!reptileRepository.existsById(reptileId)) {
-            throw new IllegalArgumentException("Reptile not found with ID: " + reptileId);
+            throw new ResourceNotFoundException("Reptile not found with ID: " + reptileId);
         }
 
         // Validate file
         validateFile(file);
 
+        // Normalize and stream the content into the blob store; identical uploads share one blob
+        ImageIngestService.NormalizedImage normalized = imageIngestService.normalize(file);
+        BlobStore.StoredBlob blob = blobStore.store(normalized.content());
+        blobSweepService.retain(Map.of(blob, normalized.content()));
+
         // Create and save the image entity
         ReptileImage image = new ReptileImage();
         image.setReptileId(reptileId);
         image.setFilename(file.getOriginalFilename());
-        image.setContentType(file.getContentType());
-        image.setImageData(file.getBytes());
+        image.setContentType(normalized.contentType());
+        image.setContentHash(blob.hash());
+        image.setWidth(normalized.width());
+        image.setHeight(normalized.height());
         image.setDescription(description);
-        image.setSize(file.getSize());
+        image.setSize(blob.size());
 
         ReptileImage savedImage = reptileImageRepository.save(image);
+        imageDerivativeService.generateAfterCommit(savedImage.getId());
         log.info("Uploaded image with ID: {} for reptile: {}", savedImage.getId(), reptileId);
 
         // Auto-set as highlight if this is the only image for the reptile
@@ -113,30 +122,23 @@ public class ReptileImageService extends BaseCrudService<Long, ReptileImage, Rep
      * Validates the uploaded file.
      * 
      * @param file the file to validate
-     * @throws IllegalArgumentException if validation fails
+     * @throws InvalidImageException if validation fails
      */
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
-            throw new IllegalArgumentException("File is empty");
+            throw new InvalidImageException("File is empty");
         }
 
         if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("File size exceeds maximum limit of 10 MB");
-        }
-
-        String contentType = file.getContentType();
-        if (contentType == null || !SUPPORTED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
-            throw new IllegalArgumentException(
-                    "Unsupported file type: " + contentType +
-                            ". Supported types: JPEG, PNG, GIF, WebP, BMP");
+            throw new InvalidImageException("File size exceeds maximum limit of 10 MB");
         }
     }
 
     /**
-     * Retrieves an image by ID with binary data.
+     * Retrieves an image entity by ID (without binary data).
      * 
      * @param imageId the image ID
-     * @return the image entity with binary data, or empty if not found
+     * @return the image entity, or empty if not found
      */
     @Transactional(readOnly = true)
     public Optional<ReptileImage> getImageById(Long imageId) {
@@ -144,6 +146,34 @@ public class ReptileImageService extends BaseCrudService<Long, ReptileImage, Rep
         return reptileImageRepository.findById(imageId);
     }
 
+    /**
+     * Resolves which blob serves an image in the requested size. Falls back to the original
+     * while the derivative has not been generated yet, and for good if it cannot be generated.
+     * 
+     * @param image   the image entity
+     * @param variant the requested derivative, or null for the original
+     * @return the blob to serve
+     */
+    public ImageBlob resolveBlob(ReptileImage image, ImageVariant variant) {
+        String variantHash = variant != null ? image.getVariantHash(variant) : null;
+        if (variantHash != null) {
+            return new ImageBlob(variantHash, image.getVariantContentType(), true);
+        }
+        return new ImageBlob(image.getContentHash(), image.getContentType(),
+                variant == null || image.isVariantsUnavailable());
+    }
+
+    /**
+     * Retrieves the content of a blob for streaming. Only used to serve downloads.
+     * 
+     * @param blob the blob to load
+     * @return the blob content, or empty if the blob is missing
+     */
+    public Optional<Resource> getBlobContent(ImageBlob blob) {
+        log.debug("Retrieving image content for blob: {}", blob.hash());
+        return blobStore.load(blob.hash());
+    }
+
     /**
      * Retrieves image metadata by ID (without binary data).
      * 
@@ -180,21 +210,20 @@ public class ReptileImageService extends BaseCrudService<Long, ReptileImage, Rep
     public boolean deleteImage(Long imageId) {
         log.info("Deleting image with ID: {}", imageId);
 
-        if (reptileImageRepository.existsById(imageId)) {
+        Optional<ReptileImage> image = reptileImageRepository.findById(imageId);
+        if (image.isPresent()) {
             // Clean up any reptiles that have this as their highlight image
-            Optional<ReptileImage> image = reptileImageRepository.findById(imageId);
-            if (image.isPresent()) {
-                Long reptileId = image.get().getReptileId();
-                reptileRepository.findById(reptileId).ifPresent(reptile -> {
-                    if (imageId.equals(reptile.getHighlightImageId())) {
-                        reptile.setHighlightImageId(null);
-                        reptileRepository.save(reptile);
-                        log.info("Cleared highlight image reference for reptile {}", reptileId);
-                    }
-                });
-            }
-
-            reptileImageRepository.deleteById(imageId);
+            Long reptileId = image.get().getReptileId();
+            reptileRepository.findById(reptileId).ifPresent(reptile -> {
+                if (imageId.equals(reptile.getHighlightImageId())) {
+                    reptile.setHighlightImageId(null);
+                    reptileRepository.save(reptile);
+                    log.info("Cleared highlight image reference for reptile {}", reptileId);
+                }
+            });
+
+            // Blobs are shared between identical images and removed by the sweep once unreferenced
+            reptileImageRepository.delete(image.get());
             log.info("Deleted image with ID: {}", imageId);
             return true;
         }
@@ -229,4 +258,13 @@ public class ReptileImageService extends BaseCrudService<Long, ReptileImage, Rep
     public long countImagesByReptileId(Long reptileId) {
         return reptileImageRepository.countByReptileId(reptileId);
     }
+
+    /**
+     * Blob that serves an image download.
+     * 
+     * @param hash        the content hash of the blob
+     * @param contentType the MIME type of the blob
+     * @param exact       false if the requested derivative is not available yet and the original is served until it is
+     */
+    public record ImageBlob(String hash, String contentType, boolean exact) {}
 }
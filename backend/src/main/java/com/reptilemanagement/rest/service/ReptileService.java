@@ -1,24 +1,30 @@
 package com.reptilemanagement.rest.service;
 
 import com.reptilemanagement.persistence.domain.Reptile;
-import com.reptilemanagement.persistence.domain.ReptileImage;
+import com.reptilemanagement.persistence.dto.ReptileDashboardDto;
 import com.reptilemanagement.persistence.dto.ReptileDto;
 import com.reptilemanagement.persistence.mapper.ReptileMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.ReptileDashboardView;
+import com.reptilemanagement.persistence.projection.ReptileStatisticsView;
 import com.reptilemanagement.persistence.repository.ReptileImageRepository;
 import com.reptilemanagement.persistence.repository.ReptileRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.cache.StatisticsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +40,10 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
     private final ReptileRepository reptileRepository;
     private final ReptileImageRepository reptileImageRepository;
     private final ReptileMapper reptileMapper;
+    private final SuggestionService suggestionService;
+    private final StatisticsCache statisticsCache;
+    private final CareSummaryService careSummaryService;
+    private final GrowthAnalyticsService growthAnalyticsService;
 
     @Override
     protected JpaRepository<Reptile, Long> getRepository() {
@@ -50,6 +60,18 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
         return Sort.by(Sort.Direction.ASC, "name");
     }
 
+    @Override
+    protected Optional<Reptile> findOwnedById(Long id) {
+        return reptileRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        int deleted = reptileRepository.deleteByIdsAndUserId(ids, currentUserId());
+        growthAnalyticsService.reptilesDeleted(ids);
+        return deleted;
+    }
+
     // ==================== Helper ====================
 
     private Long currentUserId() {
@@ -77,8 +99,12 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
      */
     public ReptileDto createReptile(ReptileDto reptileDto) {
         log.info("Creating new reptile: {}", reptileDto.getName());
+        CareDueService.validateInterval(reptileDto.getFeedingIntervalDays(), "Feeding interval");
         reptileDto.setUserId(currentUserId());
-        return create(reptileDto, new HashMap<>());
+        ReptileDto created = create(reptileDto, new HashMap<>());
+        updateSuggestions(created.getUserId(), null, created);
+        careSummaryService.refreshReptiles(created.getId());
+        return created;
     }
 
     /**
@@ -157,27 +183,21 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
     }
 
     /**
-     * Updates a reptile, verifying ownership first.
+     * Updates a reptile of the current user.
      * @param id the reptile ID to update
-     * @param reptileDto the updated reptile data
-     * @return the updated reptile as DTO, or empty if not found
+     * @param reptileDto the updated reptile data, with the version it was read at
+     * @return the updated reptile as DTO, or empty if not found or not owned
      */
     public Optional<ReptileDto> updateReptile(Long id, ReptileDto reptileDto) {
         log.info("Updating reptile with ID: {}", id);
+        CareDueService.validateInterval(reptileDto.getFeedingIntervalDays(), "Feeding interval");
         Long userId = currentUserId();
+        reptileDto.setUserId(userId);
 
-        return reptileRepository.findByIdAndUserId(id, userId)
-                .map(existing -> {
-                    try {
-                        reptileDto.setId(id);
-                        reptileDto.setUserId(userId);
-                        return Optional.of(update(reptileDto, new HashMap<>()));
-                    } catch (Exception e) {
-                        log.error("Error updating reptile with ID: {}", id, e);
-                        return Optional.<ReptileDto>empty();
-                    }
-                })
-                .orElse(Optional.empty());
+        return updateOwned(id, reptileDto, new HashMap<>(), (before, updated) -> {
+            updateSuggestions(userId, before, updated);
+            careSummaryService.refreshReptiles(id);
+        });
     }
 
     /**
@@ -189,8 +209,13 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
         log.info("Deleting reptile with ID: {}", id);
         Long userId = currentUserId();
 
-        if (reptileRepository.existsByIdAndUserId(id, userId)) {
+        Optional<Reptile> reptile = reptileRepository.findByIdAndUserId(id, userId);
+        if (reptile.isPresent()) {
+            ReptileDto before = reptileMapper.toDto(reptile.get());
+            // Images are removed by the ON DELETE CASCADE foreign key, their blobs by the blob sweep
             deleteById(id);
+            growthAnalyticsService.reptilesDeleted(List.of(id));
+            updateSuggestions(userId, before, null);
             log.info("Deleted reptile with ID: {}", id);
             return true;
         }
@@ -213,6 +238,8 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
                 .map(reptile -> {
                     reptile.setEnclosureId(enclosureId);
                     reptileRepository.save(reptile);
+                    publishChange();
+                    careSummaryService.refreshReptiles(reptileId);
                     log.info("Moved reptile {} to enclosure {}", reptileId, enclosureId);
                     return true;
                 })
@@ -233,6 +260,8 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
                 .map(reptile -> {
                     reptile.setStatus(status);
                     reptileRepository.save(reptile);
+                    publishChange();
+                    careSummaryService.refreshReptiles(reptileId);
                     log.info("Updated reptile {} status to {}", reptileId, status);
                     return true;
                 })
@@ -251,15 +280,14 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
 
         return reptileRepository.findByIdAndUserId(reptileId, userId)
                 .flatMap(reptile -> {
-                    Optional<ReptileImage> image = reptileImageRepository.findById(imageId);
-
-                    if (image.isEmpty() || !image.get().getReptileId().equals(reptileId)) {
+                    if (!reptileImageRepository.existsByIdAndReptileId(imageId, reptileId)) {
                         log.warn("Image {} does not belong to reptile {}", imageId, reptileId);
                         return Optional.empty();
                     }
 
                     reptile.setHighlightImageId(imageId);
                     Reptile savedReptile = reptileRepository.save(reptile);
+                    careSummaryService.refreshReptiles(reptileId);
                     log.info("Set highlight image {} for reptile {}", imageId, reptileId);
                     return Optional.of(reptileMapper.toDto(savedReptile));
                 });
@@ -278,27 +306,78 @@ public class ReptileService extends BaseCrudService<Long, Reptile, ReptileDto> {
                 .map(reptile -> {
                     reptile.setHighlightImageId(null);
                     reptileRepository.save(reptile);
+                    careSummaryService.refreshReptiles(reptileId);
                     log.info("Removed highlight image for reptile {}", reptileId);
                     return true;
                 })
                 .orElse(false);
     }
 
+    /**
+     * Keeps the typeahead index in step with a created, updated or deleted reptile.
+     * @param userId the owner
+     * @param before the reptile before the change, or null if created
+     * @param after the reptile after the change, or null if deleted
+     */
+    private void updateSuggestions(Long userId, ReptileDto before, ReptileDto after) {
+        suggestionService.replace(userId, SuggestionService.Field.NAME,
+                before != null ? before.getName() : null, after != null ? after.getName() : null);
+        suggestionService.replace(userId, SuggestionService.Field.SPECIES,
+                before != null ? before.getSpecies() : null, after != null ? after.getSpecies() : null);
+        suggestionService.replace(userId, SuggestionService.Field.MORPH,
+                before != null ? before.getSubspecies() : null, after != null ? after.getSubspecies() : null);
+    }
+
+    /**
+     * Gets every reptile of the current user with its latest care facts in a single query.
+     * @return list of dashboard entries ordered by name
+     */
+    @Transactional(readOnly = true)
+    public List<ReptileDashboardDto> getDashboard() {
+        log.debug("Retrieving reptile dashboard for current user");
+        return reptileRepository.findDashboardByUserId(currentUserId()).stream()
+                .map(ReptileService::toDashboardDto)
+                .collect(Collectors.toList());
+    }
+
+    private static ReptileDashboardDto toDashboardDto(ReptileDashboardView view) {
+        BigDecimal weightDelta = view.getCurrentWeightGrams() != null && view.getPreviousWeightGrams() != null
+                ? view.getCurrentWeightGrams().subtract(view.getPreviousWeightGrams())
+                : null;
+        return new ReptileDashboardDto(
+                view.getReptileId(),
+                view.getName(),
+                view.getSpecies(),
+                view.getStatus(),
+                view.getHighlightImageId(),
+                view.getLastFeedingDate(),
+                view.getLastFoodType(),
+                view.getLastFeedingAte(),
+                view.getDaysSinceFeeding(),
+                view.getCurrentWeightGrams(),
+                weightDelta,
+                view.getLastWeightDate(),
+                view.getLastSheddingDate(),
+                view.getLastShedQuality(),
+                view.getLastPoopDate(),
+                view.getLastPoopConsistency());
+    }
+
     /**
      * Gets statistics about reptiles for the current user.
+     * Served from the statistics cache; runs without a transaction so no connection is held
+     * while waiting for a refresh.
      * @return statistics object with counts
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReptileStatistics getStatistics() {
         log.debug("Retrieving reptile statistics for current user");
         Long userId = currentUserId();
 
-        long totalCount = reptileRepository.countByUserId(userId);
-        long activeCount = reptileRepository.countByUserIdAndStatus(userId, Reptile.ReptileStatus.ACTIVE);
-        long quarantineCount = reptileRepository.countByUserIdAndStatus(userId, Reptile.ReptileStatus.QUARANTINE);
-        long deceasedCount = reptileRepository.countByUserIdAndStatus(userId, Reptile.ReptileStatus.DECEASED);
-
-        return new ReptileStatistics(totalCount, activeCount, quarantineCount, deceasedCount);
+        return statisticsCache.get(userId, "reptiles", Set.of(Reptile.class), () -> {
+            ReptileStatisticsView view = reptileRepository.getStatisticsByUserId(userId);
+            return new ReptileStatistics(view.getTotal(), view.getActive(), view.getQuarantine(), view.getDeceased());
+        });
     }
 
     /**
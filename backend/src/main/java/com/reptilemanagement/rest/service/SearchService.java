@@ -0,0 +1,62 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.dto.SearchHitDto;
+import com.reptilemanagement.persistence.projection.SearchHitView;
+import com.reptilemanagement.persistence.repository.SearchRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for searching across all reptiles, enclosures and logs of the current user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SearchService {
+
+    /** Terms shorter than this match too much to be useful */
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchRepository searchRepository;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+
+    /**
+     * Searches the current user's data, ranked by relevance.
+     * @param term the search term
+     * @param limit the maximum number of hits, capped at 100
+     * @return the hits, best first; empty if the term is too short
+     */
+    public List<SearchHitDto> search(String term, int limit) {
+        String trimmed = term == null ? "" : term.trim();
+        if (trimmed.length() < MIN_TERM_LENGTH) {
+            return List.of();
+        }
+        log.debug("Searching for: {}", trimmed);
+
+        Long userId = authenticationInformationProvider.getAuthenticatedUserId();
+        return searchRepository.search(userId, trimmed, Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(SearchService::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private static SearchHitDto toDto(SearchHitView view) {
+        return new SearchHitDto(
+                SearchHitDto.HitType.valueOf(view.getType()),
+                view.getId(),
+                view.getReptileId(),
+                view.getEnclosureId(),
+                view.getTitle(),
+                view.getSnippet(),
+                view.getOccurredAt(),
+                view.getScore() != null ? view.getScore() : 0);
+    }
+}
@@ -4,8 +4,11 @@ import com.reptilemanagement.persistence.domain.SheddingLog;
 import com.reptilemanagement.persistence.dto.SheddingLogDto;
 import com.reptilemanagement.persistence.mapper.SheddingLogMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.SheddingStatisticsView;
 import com.reptilemanagement.persistence.repository.SheddingLogRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.pagination.CursorPage;
+import com.reptilemanagement.shared.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,9 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
 
     private final SheddingLogRepository sheddingLogRepository;
     private final SheddingLogMapper sheddingLogMapper;
+    private final CareSummaryService careSummaryService;
+    private final ReptileService reptileService;
+    private final CursorPagination cursorPagination;
 
     @Override
     protected JpaRepository<SheddingLog, Long> getRepository() {
@@ -47,6 +54,20 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
         return Sort.by(Sort.Direction.DESC, "sheddingDate");
     }
 
+    @Override
+    protected Optional<SheddingLog> findOwnedById(Long id) {
+        return sheddingLogRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return sheddingLogRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
     /**
      * Creates a new shedding log entry.
      * @param sheddingLogDto the shedding log data to create
@@ -54,7 +75,26 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
      */
     public SheddingLogDto createSheddingLog(SheddingLogDto sheddingLogDto) {
         log.info("Creating shedding log for reptile: {}", sheddingLogDto.getReptileId());
-        return create(sheddingLogDto, new HashMap<>());
+        reptileService.verifyOwnership(sheddingLogDto.getReptileId());
+        SheddingLogDto created = create(sheddingLogDto, new HashMap<>());
+        careSummaryService.refreshReptiles(created.getReptileId());
+        return created;
+    }
+
+    /**
+     * Creates several shedding log entries in one transaction.
+     * @param sheddingLogDtos the shedding log data to create
+     * @return the created shedding logs as DTOs, in request order
+     */
+    public List<SheddingLogDto> createSheddingLogs(List<SheddingLogDto> sheddingLogDtos) {
+        log.info("Creating {} shedding logs", sheddingLogDtos.size());
+        sheddingLogDtos.stream()
+                .map(SheddingLogDto::getReptileId)
+                .distinct()
+                .forEach(reptileService::verifyOwnership);
+        List<SheddingLogDto> created = create(sheddingLogDtos, new HashMap<>());
+        careSummaryService.refreshReptiles(created.stream().map(SheddingLogDto::getReptileId).toArray(Long[]::new));
+        return created;
     }
 
     /**
@@ -73,17 +113,20 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
     }
 
     /**
-     * Retrieves all shedding logs for a specific reptile.
+     * Retrieves one page of shedding logs for a specific reptile, newest first.
      * @param reptileId the reptile ID
-     * @return list of shedding logs for the reptile
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, or null for the default
+     * @return the page of shedding logs with a cursor to the next page
      */
     @Transactional(readOnly = true)
-    public List<SheddingLogDto> getSheddingLogsByReptileId(Long reptileId) {
+    public CursorPage<SheddingLogDto> getSheddingLogsByReptileId(Long reptileId, String cursor, Integer size) {
         log.debug("Retrieving shedding logs for reptile: {}", reptileId);
 
-        return sheddingLogRepository.findByReptileIdOrderBySheddingDateDesc(reptileId).stream()
-                .map(sheddingLogMapper::toDto)
-                .collect(Collectors.toList());
+        return cursorPagination.fetch(cursor, size,
+                        (after, limit) -> sheddingLogRepository.findPageByReptileId(reptileId, after.date(), after.id(), limit),
+                        SheddingLog::getSheddingDate, SheddingLog::getId)
+                .map(sheddingLogMapper::toDto);
     }
 
     /**
@@ -132,18 +175,18 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
     /**
      * Updates an existing shedding log.
      * @param id the shedding log ID to update
-     * @param sheddingLogDto the updated shedding log data
-     * @return the updated shedding log as DTO, or empty if not found
+     * @param sheddingLogDto the updated shedding log data, with the version it was read at
+     * @return the updated shedding log as DTO, or empty if not found or not owned
      */
     public Optional<SheddingLogDto> updateSheddingLog(Long id, SheddingLogDto sheddingLogDto) {
         log.info("Updating shedding log with ID: {}", id);
-        try {
-            sheddingLogDto.setId(id);
-            return Optional.of(update(sheddingLogDto, new HashMap<>()));
-        } catch (Exception e) {
-            log.error("Error updating shedding log with ID: {}", id, e);
-            return Optional.empty();
-        }
+
+        return updateOwned(id, sheddingLogDto, new HashMap<>(), (before, updated) -> {
+            if (!Objects.equals(before.getReptileId(), updated.getReptileId())) {
+                reptileService.verifyOwnership(updated.getReptileId());
+            }
+            careSummaryService.refreshReptiles(before.getReptileId(), updated.getReptileId());
+        });
     }
 
     /**
@@ -154,8 +197,10 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
     public boolean deleteSheddingLog(Long id) {
         log.info("Deleting shedding log with ID: {}", id);
 
-        if (sheddingLogRepository.existsById(id)) {
+        Optional<SheddingLog> existing = sheddingLogRepository.findById(id);
+        if (existing.isPresent()) {
             deleteById(id);
+            careSummaryService.refreshReptiles(existing.get().getReptileId());
             log.info("Deleted shedding log with ID: {}", id);
             return true;
         }
@@ -173,11 +218,9 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
     public SheddingStatistics getSheddingStatistics(Long reptileId) {
         log.debug("Retrieving shedding statistics for reptile: {}", reptileId);
 
-        List<SheddingLog> logs = sheddingLogRepository.findByReptileIdOrderBySheddingDateDesc(reptileId);
-        long totalSheddings = logs.size();
-        long ateShedCount = logs.stream().filter(log -> log.getAteShed() != null && log.getAteShed()).count();
-
-        return new SheddingStatistics(totalSheddings, ateShedCount);
+        SheddingStatisticsView view = sheddingLogRepository.getStatisticsByReptileId(reptileId);
+        return new SheddingStatistics(view.getTotalSheddings(), view.getAteShedCount(), view.getLastSheddingDate(),
+                view.getMeanShedCycleDays());
     }
 
     /**
@@ -186,14 +229,21 @@ public class SheddingLogService extends BaseCrudService<Long, SheddingLog, Shedd
     public static class SheddingStatistics {
         private final long totalSheddings;
         private final long ateShedCount;
+        private final LocalDateTime lastSheddingDate;
+        private final Double meanShedCycleDays;
 
-        public SheddingStatistics(long totalSheddings, long ateShedCount) {
+        public SheddingStatistics(long totalSheddings, long ateShedCount, LocalDateTime lastSheddingDate, Double meanShedCycleDays) {
             this.totalSheddings = totalSheddings;
             this.ateShedCount = ateShedCount;
+            this.lastSheddingDate = lastSheddingDate;
+            this.meanShedCycleDays = meanShedCycleDays;
         }
 
         public long getTotalSheddings() { return totalSheddings; }
         public long getAteShedCount() { return ateShedCount; }
+        public LocalDateTime getLastSheddingDate() { return lastSheddingDate; }
+        /** Mean days between sheds, null with fewer than two */
+        public Double getMeanShedCycleDays() { return meanShedCycleDays; }
         public double getAteShedPercentage() {
             return totalSheddings > 0 ? ((double) ateShedCount / totalSheddings) * 100 : 0;
         }
@@ -0,0 +1,376 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.persistence.domain.Reptile;
+import com.reptilemanagement.persistence.projection.TermCountView;
+import com.reptilemanagement.persistence.repository.FeedingLogRepository;
+import com.reptilemanagement.persistence.repository.ReptileRepository;
+import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory typeahead over the free-text values a user has entered: reptile names, species,
+ * morphs and food types.
+ * <p>
+ * Each user's index is built from the database on their first suggestion request and then
+ * kept current by the services that write those values, so suggestions never query the
+ * database. Values are kept in sorted maps keyed by their lower-case form with an occurrence
+ * count, so a prefix lookup is a range scan, and in a ranking by count, so the most frequent
+ * completions can be read off its head without visiting every match. Indexes of the least
+ * recently active users are dropped once the estimated memory use exceeds the configured budget.
+ */
+@Service
+@Slf4j
+public class SuggestionService {
+
+    /** Rough per-value heap cost: two strings, the count holder and the entries of both trees */
+    private static final int TERM_OVERHEAD_BYTES = 200;
+
+    /** Most frequent first; ties go to the alphabetically first */
+    private static final Comparator<Term> RANKING =
+            Comparator.<Term>comparingLong(term -> term.count).reversed().thenComparing(term -> term.key);
+
+    private static final int MAX_LIMIT = 50;
+
+    private final ReptileRepository reptileRepository;
+    private final FeedingLogRepository feedingLogRepository;
+    private final AuthenticationInformationProvider authenticationInformationProvider;
+    private final long memoryBudgetBytes;
+
+    /** Least recently used first; guarded by itself, as are changes to the indexes in it */
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    /**
+     * Bumped on every applied change, so a build that raced with a write is discarded. Only users
+     * with an index or a build in progress have a counter; it is removed with their index.
+     */
+    private final Map<Long, AtomicLong> modifications = new ConcurrentHashMap<>();
+
+    public SuggestionService(
+            ReptileRepository reptileRepository,
+            FeedingLogRepository feedingLogRepository,
+            AuthenticationInformationProvider authenticationInformationProvider,
+            @Value("${suggest.memory-budget-mb:16}") long memoryBudgetMb) {
+        this.reptileRepository = reptileRepository;
+        this.feedingLogRepository = feedingLogRepository;
+        this.authenticationInformationProvider = authenticationInformationProvider;
+        this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+    }
+
+    /**
+     * Returns the most frequent values of the current user that start with a prefix.
+     * @param field the kind of value to complete
+     * @param prefix the typed prefix, case-insensitive
+     * @param limit the maximum number of suggestions, capped at 50
+     * @return the completions, most frequent first
+     */
+    public List<Suggestion> suggest(Field field, String prefix, int limit) {
+        Long userId = authenticationInformationProvider.getAuthenticatedUserId();
+        UserIndex index = getOrBuild(userId);
+        return index.suggest(field, normalize(prefix == null ? "" : prefix), Math.clamp(limit, 1, MAX_LIMIT));
+    }
+
+    /**
+     * Replaces one value of a user once the current transaction commits. Either value may be
+     * null, so the same call records creates, updates and deletes.
+     * @param userId the owning user
+     * @param field the kind of value
+     * @param oldValue the value before the change, or null
+     * @param newValue the value after the change, or null
+     */
+    public void replace(Long userId, Field field, String oldValue, String newValue) {
+        if (userId == null || Objects.equals(normalizeOrNull(oldValue), normalizeOrNull(newValue))) {
+            return;
+        }
+        afterCommit(() -> {
+            AtomicLong modification = modifications.get(userId);
+            if (modification != null) {
+                modification.incrementAndGet();
+            }
+            synchronized (indexes) {
+                UserIndex index = indexes.get(userId);
+                if (index == null) {
+                    return;
+                }
+                // Measured under the lock, so an eviction in between cannot subtract the old size first
+                long before = index.estimatedBytes();
+                index.remove(field, oldValue);
+                index.add(field, newValue, 1);
+                estimatedBytes.addAndGet(index.estimatedBytes() - before);
+            }
+            evictOverBudget();
+        });
+    }
+
+    /**
+     * Drops the index of a user once the current transaction commits, after values were written
+     * in bulk. It is rebuilt from the database on the next suggestion.
+     * @param userId the owning user
+     */
+    public void invalidate(Long userId) {
+        afterCommit(() -> {
+            synchronized (indexes) {
+                AtomicLong modification = modifications.remove(userId);
+                if (modification != null) {
+                    modification.incrementAndGet();
+                }
+                UserIndex index = indexes.remove(userId);
+                if (index != null) {
+                    estimatedBytes.addAndGet(-index.estimatedBytes());
+                }
+            }
+        });
+    }
+
+    private UserIndex getOrBuild(Long userId) {
+        synchronized (indexes) {
+            UserIndex index = indexes.get(userId);
+            if (index != null) {
+                return index;
+            }
+        }
+
+        AtomicLong counter = modifications.computeIfAbsent(userId, id -> new AtomicLong());
+        long modification = counter.get();
+        long start = System.nanoTime();
+        UserIndex index = new UserIndex();
+        for (Reptile reptile : reptileRepository.findByUserId(userId)) {
+            index.add(Field.NAME, reptile.getName(), 1);
+            index.add(Field.SPECIES, reptile.getSpecies(), 1);
+            index.add(Field.MORPH, reptile.getSubspecies(), 1);
+        }
+        for (TermCountView foodType : feedingLogRepository.countFoodTypesByUserId(userId)) {
+            index.add(Field.FOOD_TYPE, foodType.getTerm(), foodType.getCount());
+        }
+        log.debug("Built suggestion index for user {} in {} us", userId, (System.nanoTime() - start) / 1000);
+
+        synchronized (indexes) {
+            // A write committed while loading may or may not be in the loaded data, and an
+            // invalidation or eviction replaces the counter; serve it but don't keep it
+            if (modifications.get(userId) != counter || counter.get() != modification) {
+                if (!indexes.containsKey(userId)) {
+                    modifications.remove(userId, counter);
+                }
+                return index;
+            }
+            UserIndex existing = indexes.putIfAbsent(userId, index);
+            if (existing != null) {
+                return existing;
+            }
+            estimatedBytes.addAndGet(index.estimatedBytes());
+        }
+        evictOverBudget();
+        return index;
+    }
+
+    private void evictOverBudget() {
+        synchronized (indexes) {
+            Iterator<Map.Entry<Long, UserIndex>> eldest = indexes.entrySet().iterator();
+            // Always keep the most recently used index
+            while (estimatedBytes.get() > memoryBudgetBytes && indexes.size() > 1 && eldest.hasNext()) {
+                Map.Entry<Long, UserIndex> entry = eldest.next();
+                estimatedBytes.addAndGet(-entry.getValue().estimatedBytes());
+                eldest.remove();
+                modifications.remove(entry.getKey());
+                log.debug("Evicted suggestion index of user {}", entry.getKey());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeOrNull(String value) {
+        return value == null || value.isBlank() ? null : normalize(value);
+    }
+
+    /**
+     * Values of one user: per field, a sorted map by key and a ranking by count of the same terms.
+     */
+    private static final class UserIndex {
+
+        private final Map<Field, NavigableMap<String, Term>> fields = new EnumMap<>(Field.class);
+        private final Map<Field, NavigableSet<Term>> rankings = new EnumMap<>(Field.class);
+        private long bytes;
+
+        UserIndex() {
+            for (Field field : Field.values()) {
+                fields.put(field, new TreeMap<>());
+                rankings.put(field, new TreeSet<>(RANKING));
+            }
+        }
+
+        synchronized void add(Field field, String value, long count) {
+            String key = normalizeOrNull(value);
+            if (key == null) {
+                return;
+            }
+            NavigableSet<Term> ranking = rankings.get(field);
+            Term term = fields.get(field).get(key);
+            if (term != null) {
+                ranking.remove(term);
+                term.count += count;
+                ranking.add(term);
+                return;
+            }
+            term = new Term(key, value.trim(), count);
+            fields.get(field).put(key, term);
+            ranking.add(term);
+            bytes += termBytes(key);
+        }
+
+        synchronized void remove(Field field, String value) {
+            String key = normalizeOrNull(value);
+            if (key == null) {
+                return;
+            }
+            Term term = fields.get(field).get(key);
+            if (term == null) {
+                return;
+            }
+            NavigableSet<Term> ranking = rankings.get(field);
+            ranking.remove(term);
+            if (--term.count > 0) {
+                ranking.add(term);
+                return;
+            }
+            fields.get(field).remove(key);
+            bytes -= termBytes(key);
+        }
+
+        /**
+         * Walks the prefix range and the ranking side by side. If the range ends first, a bounded
+         * heap over it holds the answer; otherwise the first k matches met in the ranking are it.
+         * Either way the walk stops after min(matches, ranking position of the k-th match) steps.
+         */
+        synchronized List<Suggestion> suggest(Field field, String prefix, int limit) {
+            NavigableMap<String, Term> range = prefix.isEmpty()
+                    ? fields.get(field)
+                    : fields.get(field).subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            Iterator<Term> byPrefix = range.values().iterator();
+            Iterator<Term> byCount = rankings.get(field).iterator();
+
+            // The k best matches seen in the range, worst on top
+            PriorityQueue<Term> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            List<Suggestion> ranked = new ArrayList<>(limit);
+            while (byPrefix.hasNext()) {
+                best.offer(byPrefix.next());
+                if (best.size() > limit) {
+                    best.poll();
+                }
+                // The ranking holds every term of the range, so it cannot end before the range
+                Term term = byCount.next();
+                if (term.key.startsWith(prefix)) {
+                    ranked.add(new Suggestion(term.display, term.count));
+                    if (ranked.size() == limit) {
+                        return ranked;
+                    }
+                }
+            }
+
+            Suggestion[] result = new Suggestion[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                Term term = best.poll();
+                result[i] = new Suggestion(term.display, term.count);
+            }
+            return Arrays.asList(result);
+        }
+
+        synchronized long estimatedBytes() {
+            return bytes;
+        }
+
+        private static long termBytes(String key) {
+            return TERM_OVERHEAD_BYTES + 2L * key.length();
+        }
+    }
+
+    /**
+     * A distinct value with the casing it was first entered in and how often it occurs.
+     * The count may only change while the term is out of its ranking.
+     */
+    private static final class Term {
+        private final String key;
+        private final String display;
+        private long count;
+
+        Term(String key, String display, long count) {
+            this.key = key;
+            this.display = display;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Kinds of values that can be completed.
+     */
+    public enum Field {
+        NAME("name"),
+        SPECIES("species"),
+        MORPH("morph"),
+        FOOD_TYPE("food-type");
+
+        private final String param;
+
+        Field(String param) {
+            this.param = param;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        /**
+         * Resolves a field from its request parameter value.
+         * @param param the parameter value, e.g. "food-type"
+         * @return the field, or empty if unknown
+         */
+        public static Optional<Field> fromParam(String param) {
+            return Arrays.stream(values()).filter(field -> field.param.equalsIgnoreCase(param)).findFirst();
+        }
+    }
+
+    /**
+     * One completion.
+     * @param text the value as entered
+     * @param count how often the value occurs
+     */
+    public record Suggestion(String text, long count) {}
+}
@@ -1,5 +1,6 @@
 package com.reptilemanagement.rest.service;
 
+import com.reptilemanagement.exception.InvalidRequestException;
 import com.reptilemanagement.persistence.domain.User;
 import com.reptilemanagement.persistence.dto.CreateUserRequest;
 import com.reptilemanagement.persistence.dto.UpdateUserRequest;
@@ -9,6 +10,7 @@ import com.reptilemanagement.exception.ResourceNotFoundException;
 import com.reptilemanagement.persistence.mapper.UserMapper;
 import com.reptilemanagement.persistence.repository.UserRepository;
 import com.reptilemanagement.security.RoleConstants;
+import com.reptilemanagement.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -29,6 +31,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     /**
      * Get all users as basic DTOs.
@@ -80,6 +83,14 @@ public class UserService {
         return userMapper.toDto(user);
     }
 
+    /**
+     * Get a user entity by ID.
+     */
+    public User getUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
     /**
      * Get detailed user information by ID.
      */
@@ -97,7 +108,7 @@ public class UserService {
     public UserDto createUser(CreateUserRequest request) {
         // Check if username already exists
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
+            throw new InvalidRequestException("Username already exists: " + request.getUsername());
         }
 
         User user = userMapper.toEntity(request);
@@ -126,12 +137,20 @@ public class UserService {
             user.setEmail(request.getEmail());
         }
 
+        boolean credentialsChanged = false;
+
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
+            credentialsChanged = true;
         }
 
-        if (request.getRoles() != null) {
+        if (request.getRoles() != null && !user.getRoles().equals(new HashSet<>(request.getRoles()))) {
             user.setRoles(new HashSet<>(request.getRoles()));
+            credentialsChanged = true;
+        }
+
+        if (credentialsChanged) {
+            revokeTokens(user);
         }
 
         User updatedUser = userRepository.save(user);
@@ -147,6 +166,7 @@ public class UserService {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
         userRepository.deleteById(id);
+        tokenVersionRegistry.revoke(id);
     }
 
     /**
@@ -157,8 +177,39 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
+        changePassword(user, newPassword);
+    }
+
+    /**
+     * Change the password of a user and revoke all tokens issued before the change.
+     */
+    @Transactional
+    public void changePassword(User user, String newPassword) {
         user.setPassword(passwordEncoder.encode(newPassword));
+        revokeTokens(user);
+        userRepository.save(user);
+    }
+
+    /**
+     * Rename a user and revoke all tokens issued under the old username.
+     *
+     * @return false if the username is already taken by another user
+     */
+    @Transactional
+    public boolean changeUsername(Long id, String newUsername) {
+        User user = getUser(id);
+        if (newUsername.equals(user.getUsername())) {
+            return true;
+        }
+
+        if (userRepository.findByUsername(newUsername).isPresent()) {
+            return false;
+        }
+
+        user.setUsername(newUsername);
+        revokeTokens(user);
         userRepository.save(user);
+        return true;
     }
 
     /**
@@ -167,4 +218,13 @@ public class UserService {
     public boolean isUsernameAvailable(String username) {
         return userRepository.findByUsername(username).isEmpty();
     }
+
+    /**
+     * Invalidate all tokens issued to a user by moving to a new token version.
+     * The in-memory registry picks up the new version once the transaction commits.
+     */
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionRegistry.update(user.getId(), user.getTokenVersion());
+    }
 }
@@ -1,11 +1,17 @@
 package com.reptilemanagement.rest.service;
 
+import com.reptilemanagement.exception.InvalidRequestException;
 import com.reptilemanagement.persistence.domain.WeightLog;
 import com.reptilemanagement.persistence.dto.WeightLogDto;
 import com.reptilemanagement.persistence.mapper.WeightLogMapper;
 import com.reptilemanagement.persistence.mapper.base.BaseMapper;
+import com.reptilemanagement.persistence.projection.WeightStatisticsView;
 import com.reptilemanagement.persistence.repository.WeightLogRepository;
+import com.reptilemanagement.persistence.repository.WeightSeriesRepository;
 import com.reptilemanagement.rest.service.base.BaseCrudService;
+import com.reptilemanagement.shared.pagination.CursorPage;
+import com.reptilemanagement.shared.pagination.CursorPagination;
+import com.reptilemanagement.utils.TimeSeriesUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -15,8 +21,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -30,8 +39,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLogDto> {
 
+    /** Points returned by the weight series when the client does not ask for a number */
+    private static final int DEFAULT_SERIES_POINTS = 300;
+    private static final int MAX_SERIES_POINTS = 5000;
+
     private final WeightLogRepository weightLogRepository;
+    private final WeightSeriesRepository weightSeriesRepository;
+    private final GrowthAnalyticsService growthAnalyticsService;
+    private final CareSummaryService careSummaryService;
+    private final ReptileService reptileService;
     private final WeightLogMapper weightLogMapper;
+    private final CursorPagination cursorPagination;
 
     @Override
     protected JpaRepository<WeightLog, Long> getRepository() {
@@ -48,6 +66,20 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
         return Sort.by(Sort.Direction.DESC, "measurementDate");
     }
 
+    @Override
+    protected Optional<WeightLog> findOwnedById(Long id) {
+        return weightLogRepository.findByIdAndUserId(id, currentUserId());
+    }
+
+    @Override
+    protected int deleteOwnedByIds(List<Long> ids) {
+        return weightLogRepository.deleteByIdsAndUserId(ids, currentUserId());
+    }
+
+    private Long currentUserId() {
+        return authenticationInformationProvider.getAuthenticatedUserId();
+    }
+
     /**
      * Creates a new weight log entry.
      * @param weightLogDto the weight log data to create
@@ -55,7 +87,29 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
      */
     public WeightLogDto createWeightLog(WeightLogDto weightLogDto) {
         log.info("Creating weight log for reptile: {}", weightLogDto.getReptileId());
-        return create(weightLogDto, new HashMap<>());
+        reptileService.verifyOwnership(weightLogDto.getReptileId());
+        WeightLogDto created = create(weightLogDto, new HashMap<>());
+        growthAnalyticsService.measurementAdded(created.getReptileId(), created.getMeasurementDate(), created.getWeightGrams());
+        careSummaryService.refreshReptiles(created.getReptileId());
+        return created;
+    }
+
+    /**
+     * Creates several weight log entries in one transaction.
+     * @param weightLogDtos the weight log data to create
+     * @return the created weight logs as DTOs, in request order
+     */
+    public List<WeightLogDto> createWeightLogs(List<WeightLogDto> weightLogDtos) {
+        log.info("Creating {} weight logs", weightLogDtos.size());
+        weightLogDtos.stream()
+                .map(WeightLogDto::getReptileId)
+                .distinct()
+                .forEach(reptileService::verifyOwnership);
+        List<WeightLogDto> created = create(weightLogDtos, new HashMap<>());
+        created.forEach(weightLog -> growthAnalyticsService.measurementAdded(
+                weightLog.getReptileId(), weightLog.getMeasurementDate(), weightLog.getWeightGrams()));
+        careSummaryService.refreshReptiles(created.stream().map(WeightLogDto::getReptileId).toArray(Long[]::new));
+        return created;
     }
 
     /**
@@ -74,17 +128,20 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
     }
 
     /**
-     * Retrieves all weight logs for a specific reptile.
+     * Retrieves one page of weight logs for a specific reptile, newest first.
      * @param reptileId the reptile ID
-     * @return list of weight logs for the reptile
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, or null for the default
+     * @return the page of weight logs with a cursor to the next page
      */
     @Transactional(readOnly = true)
-    public List<WeightLogDto> getWeightLogsByReptileId(Long reptileId) {
+    public CursorPage<WeightLogDto> getWeightLogsByReptileId(Long reptileId, String cursor, Integer size) {
         log.debug("Retrieving weight logs for reptile: {}", reptileId);
 
-        return weightLogRepository.findByReptileIdOrderByMeasurementDateDesc(reptileId).stream()
-                .map(weightLogMapper::toDto)
-                .collect(Collectors.toList());
+        return cursorPagination.fetch(cursor, size,
+                        (after, limit) -> weightLogRepository.findPageByReptileId(reptileId, after.date(), after.id(), limit),
+                        WeightLog::getMeasurementDate, WeightLog::getId)
+                .map(weightLogMapper::toDto);
     }
 
     /**
@@ -138,26 +195,60 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
     public List<BigDecimal> getWeightHistory(Long reptileId) {
         log.debug("Retrieving weight history for reptile: {}", reptileId);
 
-        return weightLogRepository.findWeightHistoryByReptileId(reptileId).stream()
-                .sorted() // Sort by measurement date (oldest first)
-                .collect(Collectors.toList());
+        return weightLogRepository.findWeightHistoryByReptileId(reptileId);
+    }
+
+    /**
+     * Retrieves the weight curve of a reptile for charting, downsampled with
+     * Largest-Triangle-Three-Buckets when it has more measurements than requested points.
+     * @param reptileId the reptile ID
+     * @param from the earliest measurement date to include, or null for no lower bound
+     * @param to the latest measurement date to include, or null for no upper bound
+     * @param points the maximum number of points to return, or null for the default
+     * @return the points in chronological order
+     * @throws InvalidRequestException if fewer than 3 points are requested or the range is reversed
+     */
+    @Transactional(readOnly = true)
+    public WeightSeries getWeightSeries(Long reptileId, LocalDateTime from, LocalDateTime to, Integer points) {
+        log.debug("Retrieving weight series for reptile {} between {} and {} with {} points", reptileId, from, to, points);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("Start of the weight series range must not be after its end");
+        }
+        if (points != null && points < 3) {
+            throw new InvalidRequestException("A weight series needs at least 3 points");
+        }
+        int threshold = points != null ? Math.min(points, MAX_SERIES_POINTS) : DEFAULT_SERIES_POINTS;
+
+        WeightSeriesRepository.Samples samples = weightSeriesRepository.findByReptileId(reptileId, from, to);
+        long[] epochSeconds = samples.getEpochSeconds();
+        double[] grams = samples.getGrams();
+        int[] selected = TimeSeriesUtil.largestTriangleThreeBuckets(epochSeconds, grams, samples.getSize(), threshold);
+
+        List<WeightPoint> series = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            series.add(new WeightPoint(LocalDateTime.ofEpochSecond(epochSeconds[index], 0, ZoneOffset.UTC), grams[index]));
+        }
+        return new WeightSeries(series, samples.getSize());
     }
 
     /**
      * Updates an existing weight log.
      * @param id the weight log ID to update
-     * @param weightLogDto the updated weight log data
-     * @return the updated weight log as DTO, or empty if not found
+     * @param weightLogDto the updated weight log data, with the version it was read at
+     * @return the updated weight log as DTO, or empty if not found or not owned
      */
     public Optional<WeightLogDto> updateWeightLog(Long id, WeightLogDto weightLogDto) {
         log.info("Updating weight log with ID: {}", id);
-        try {
-            weightLogDto.setId(id);
-            return Optional.of(update(weightLogDto, new HashMap<>()));
-        } catch (Exception e) {
-            log.error("Error updating weight log with ID: {}", id, e);
-            return Optional.empty();
-        }
+
+        return updateOwned(id, weightLogDto, new HashMap<>(), (before, updated) -> {
+            if (!Objects.equals(before.getReptileId(), updated.getReptileId())) {
+                reptileService.verifyOwnership(updated.getReptileId());
+            }
+            growthAnalyticsService.measurementChanged(before.getReptileId(), before.getMeasurementDate(), before.getWeightGrams(),
+                    updated.getReptileId(), updated.getMeasurementDate(), updated.getWeightGrams());
+            careSummaryService.refreshReptiles(before.getReptileId(), updated.getReptileId());
+        });
     }
 
     /**
@@ -168,8 +259,13 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
     public boolean deleteWeightLog(Long id) {
         log.info("Deleting weight log with ID: {}", id);
 
-        if (weightLogRepository.existsById(id)) {
+        Optional<WeightLog> existing = weightLogRepository.findById(id);
+        if (existing.isPresent()) {
+            WeightLog weightLog = existing.get();
             deleteById(id);
+            growthAnalyticsService.measurementRemoved(weightLog.getReptileId(), weightLog.getMeasurementDate(),
+                    weightLog.getWeightGrams());
+            careSummaryService.refreshReptiles(weightLog.getReptileId());
             log.info("Deleted weight log with ID: {}", id);
             return true;
         }
@@ -187,19 +283,32 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
     public WeightStatistics getWeightStatistics(Long reptileId) {
         log.debug("Retrieving weight statistics for reptile: {}", reptileId);
 
-        List<BigDecimal> weights = getWeightHistory(reptileId);
-        if (weights.isEmpty()) {
-            return new WeightStatistics(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+        WeightStatisticsView view = weightLogRepository.getStatisticsByReptileId(reptileId);
+        if (view.getMeasurementCount() == 0) {
+            return new WeightStatistics(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0, null, null);
         }
 
-        BigDecimal currentWeight = weights.get(weights.size() - 1);
-        BigDecimal initialWeight = weights.get(0);
-        BigDecimal weightGain = currentWeight.subtract(initialWeight);
-        int measurementCount = weights.size();
-
-        return new WeightStatistics(currentWeight, initialWeight, weightGain, measurementCount);
+        BigDecimal weightGain = view.getCurrentWeight().subtract(view.getInitialWeight());
+        return new WeightStatistics(view.getCurrentWeight(), view.getInitialWeight(), weightGain,
+                view.getMeasurementCount().intValue(), view.getMinWeight(), view.getMaxWeight());
     }
 
+    /**
+     * Weight curve of a reptile.
+     *
+     * @param points       the points in chronological order
+     * @param sourcePoints the number of measurements in the range before downsampling
+     */
+    public record WeightSeries(List<WeightPoint> points, int sourcePoints) {}
+
+    /**
+     * One point of a weight curve.
+     *
+     * @param timestamp the measurement date
+     * @param grams     the weight in grams
+     */
+    public record WeightPoint(LocalDateTime timestamp, double grams) {}
+
     /**
      * Inner class for weight statistics.
      */
@@ -208,17 +317,24 @@ public class WeightLogService extends BaseCrudService<Long, WeightLog, WeightLog
         private final BigDecimal initialWeight;
         private final BigDecimal weightGain;
         private final int measurementCount;
+        private final BigDecimal minWeight;
+        private final BigDecimal maxWeight;
 
-        public WeightStatistics(BigDecimal currentWeight, BigDecimal initialWeight, BigDecimal weightGain, int measurementCount) {
+        public WeightStatistics(BigDecimal currentWeight, BigDecimal initialWeight, BigDecimal weightGain, int measurementCount,
+                                BigDecimal minWeight, BigDecimal maxWeight) {
             this.currentWeight = currentWeight;
             this.initialWeight = initialWeight;
             this.weightGain = weightGain;
             this.measurementCount = measurementCount;
+            this.minWeight = minWeight;
+            this.maxWeight = maxWeight;
         }
 
         public BigDecimal getCurrentWeight() { return currentWeight; }
         public BigDecimal getInitialWeight() { return initialWeight; }
         public BigDecimal getWeightGain() { return weightGain; }
         public int getMeasurementCount() { return measurementCount; }
+        public BigDecimal getMinWeight() { return minWeight; }
+        public BigDecimal getMaxWeight() { return maxWeight; }
     }
 }
\ No newline at end of file
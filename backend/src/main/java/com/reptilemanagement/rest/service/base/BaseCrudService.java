@@ -1,5 +1,7 @@
 package com.reptilemanagement.rest.service.base;
 
+import com.reptilemanagement.exception.InvalidRequestException;
+import com.reptilemanagement.exception.ResourceNotFoundException;
 import com.reptilemanagement.persistence.domain.base.BaseEntity;
 import com.reptilemanagement.persistence.domain.base.EntityUpdatable;
 import com.reptilemanagement.persistence.dto.base.BaseDto;
@@ -10,12 +12,21 @@ import com.reptilemanagement.shared.audit.AuditResourceCollector;
 import com.reptilemanagement.shared.audit.AuditService;
 import com.reptilemanagement.shared.auth.AuthenticationInformationProvider;
 import com.reptilemanagement.shared.constants.MarkerConstants;
+import com.reptilemanagement.shared.event.EntityChangedEvent;
 import com.reptilemanagement.utils.ReflectionUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static com.reptilemanagement.utils.ReflectionUtil.getRuntimeArgumentClass;
 
 /**
  * Provides crud functionality for entities that are updatable
@@ -28,10 +39,22 @@ import java.util.Map;
 @Slf4j
 public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & EntityUpdatable<Dto>, Dto extends BaseDto<Id>>
         extends BaseService<Id, Entity, Dto> {
+    /** Largest number of entities accepted by one bulk create */
+    public static final int MAX_BULK_SIZE = 10_000;
+
     protected final String actionCreate = baseAction + AuditAction.CREATE;
     protected final String actionUpdate = baseAction + AuditAction.UPDATE;
     protected final String actionDelete = baseAction + AuditAction.DELETE;
 
+    private final Class<?> entityType = getRuntimeArgumentClass(getClass(), 1);
+    private ApplicationEventPublisher eventPublisher;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") // it's an abstract class
+    @Autowired
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Transactional
     public List<Entity> createAsEntity(List<Dto> list, Map<String, Boolean> conditions) {
         this.checkCreateDtoValidity(list);
@@ -49,8 +72,13 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
         return retList.size() == 1 ? retList.getFirst() : null;
     }
 
+    /**
+     * Creates all entities in one transaction. With sequence generated ids and JDBC batching the
+     * rows are sent to the database in batches instead of one round trip per row.
+     */
     @Transactional
     public List<Dto> create(List<Dto> list, Map<String, Boolean> conditions) {
+        this.checkBulkSize(list);
         this.checkCreateDtoValidity(list);
 
         return this.saveDto(list, conditions);
@@ -78,7 +106,36 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
     public Dto update(Dto dto, Map<String, Boolean> conditions) {
         this.checkUpdateDtoValidity(dto);
 
-        return this.updateDto(dto, conditions);
+        var entity = getRepository().findById(dto.getId()).orElseThrow(() -> new IllegalArgumentException(
+                "Entity update '" + typeSimpleName + "' with id '" + dto.getId() + "' does not exist"));
+        return this.updateDto(entity, dto, conditions);
+    }
+
+    /**
+     * Updates an entity of the current user with a single read. The row is loaded through
+     * {@link #findOwnedById(Object)}, which checks existence and ownership in the same query, and is
+     * changed in place. Concurrent changes are caught by the version column instead of further reads.
+     *
+     * @param id          the id of the entity to update
+     * @param dto         the new values; its version, if set, must match the stored one
+     * @param conditions  the mapping conditions
+     * @param afterUpdate called with the entity as it was before and after the update, for side effects
+     * @return the updated entity, or empty if it does not exist or belongs to another user
+     * @throws ObjectOptimisticLockingFailureException if the entity was changed since it was read
+     */
+    @Transactional
+    public Optional<Dto> updateOwned(Id id, Dto dto, Map<String, Boolean> conditions, BiConsumer<Dto, Dto> afterUpdate) {
+        if (dto != null) {
+            dto.setId(id);
+        }
+        this.checkUpdateDtoValidity(dto);
+
+        return findOwnedById(id).map(entity -> {
+            var before = getMapper().toDto(entity, conditions);
+            var updated = this.updateDto(entity, dto, conditions);
+            afterUpdate.accept(before, updated);
+            return updated;
+        });
     }
 
     @Transactional
@@ -90,8 +147,7 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
 
     @Transactional
     public void deleteAll(List<Dto> dtos) {
-        var entities = getMapper().toEntityList(dtos, null);
-        getRepository().deleteAll(entities);
+        this.deleteOwned(dtos.stream().map(BaseDto::getId).toList());
 
         log.info(MarkerConstants.CRUD, "'{}' deleted '{}' '{}' ",
                 authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName,
@@ -100,6 +156,7 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
         for (var dto : dtos) {
             this.auditService.from(dto, AuditOperationType.REMOVE, actionDelete);
         }
+        publishChange();
     }
 
     @Transactional
@@ -110,11 +167,12 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
                 authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, id);
 
         this.auditService.from(id.toString(), AuditOperationType.REMOVE, auditResource, actionDelete);
+        publishChange();
     }
 
     @Transactional
     public void deleteAllById(List<Id> ids) {
-        getRepository().deleteAllById(ids);
+        this.deleteOwned(ids);
 
         log.info(MarkerConstants.CRUD, "'{}' deleted '{}' '{}' ",
                 authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, ids);
@@ -122,6 +180,7 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
         for (var id : ids) {
             this.auditService.from(id.toString(), AuditOperationType.REMOVE, auditResource, actionDelete);
         }
+        publishChange();
     }
 
     // main use is for internal entities like AuditLog
@@ -149,24 +208,52 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
     }
 
     /**
-     * Updates the fields specified in the entity's update method. Does not handle
-     * entity relationships.
+     * Loads an entity for {@link #updateOwned}. Services of entities that belong to a user override
+     * this with a query that also matches the owner, so a foreign id looks like a missing one.
+     *
+     * @param id the id of the entity
+     * @return the entity, or empty if it does not exist or belongs to another user
      */
-    protected Dto updateDto(Dto dto, Map<String, Boolean> conditions) {
-        this.checkUpdateDtoValidity(dto);
+    protected Optional<Entity> findOwnedById(Id id) {
+        return getRepository().findById(id);
+    }
 
-        var entity = getRepository().findById(dto.getId()).orElseThrow(() -> new IllegalArgumentException(
-                "Entity update '" + typeSimpleName + "' with id '" + dto.getId() + "' does not exist"));
+    /**
+     * Deletes the entities with the given ids in a single statement. Services of entities that
+     * belong to a user override this with a statement that also matches the owner, like
+     * {@link #findOwnedById(Object)}, so foreign ids are not deleted.
+     *
+     * @param ids the distinct ids of the entities
+     * @return the number of deleted entities
+     */
+    protected int deleteOwnedByIds(List<Id> ids) {
+        getRepository().deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    /**
+     * Updates the fields specified in the entity's update method on the loaded entity. Does not
+     * handle entity relationships. The change is flushed right away, so a version conflict is
+     * raised here and the returned DTO carries the new version.
+     */
+    protected Dto updateDto(Entity entity, Dto dto, Map<String, Boolean> conditions) {
+        if (dto.getVersion() != null && !Objects.equals(dto.getVersion(), entity.getVersion())) {
+            log.info(MarkerConstants.CRUD, "'{}' tried update '{}' '{}' with stale version '{}'",
+                    authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName,
+                    entity.getId(), dto.getVersion());
+            throw new ObjectOptimisticLockingFailureException(entityType, entity.getId());
+        }
         entity.update(dto);
         handleEntityRelationships(entity, dto, conditions);
-        var updatedEntity = getRepository().save(entity);
+        getRepository().flush();
 
         log.info(MarkerConstants.CRUD, "'{}' updated '{}' '{}' ",
                 authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName,
-                updatedEntity.getId());
-        this.auditService.from(updatedEntity, AuditOperationType.MODIFY, actionUpdate);
+                entity.getId());
+        this.auditService.from(entity, AuditOperationType.MODIFY, actionUpdate);
+        publishChange();
 
-        return getMapper().toDto(updatedEntity, conditions);
+        return getMapper().toDto(entity, conditions);
     }
 
     /**
@@ -177,8 +264,10 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
     }
 
     protected void deleteDto(List<Dto> dtos) {
+        // The mapped entities are only the audit entries' payload; the rows are deleted by id,
+        // scoped to the current user, since entities mapped from DTOs carry no version
         var entities = getMapper().toEntityList(dtos, null);
-        getRepository().deleteAll(entities);
+        this.deleteOwned(dtos.stream().map(Dto::getId).toList());
 
         log.info(MarkerConstants.CRUD, "'{}' deleted '{}' '{}' ",
                 authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName,
@@ -187,28 +276,48 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
         for (var entity : entities) {
             this.auditService.from(entity, AuditOperationType.REMOVE, actionDelete);
         }
+        publishChange();
+    }
+
+    /**
+     * Deletes the entities through {@link #deleteOwnedByIds(List)}. Fails, and so rolls the deletion
+     * back, unless every id matched an entity of the current user.
+     */
+    private void deleteOwned(List<Id> ids) {
+        var distinctIds = ids.stream().distinct().toList();
+        if (deleteOwnedByIds(distinctIds) != distinctIds.size()) {
+            log.info(MarkerConstants.CRUD, "'{}' tried delete '{}' with missing or foreign ids '{}'",
+                    authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, distinctIds);
+            throw new ResourceNotFoundException(
+                    "Entity deletion '" + typeSimpleName + "' contains ids that do not exist");
+        }
     }
 
     protected void checkUpdateDtoValidity(Dto dto) {
         if (dto == null) {
             log.info(MarkerConstants.CRUD, "'{}' tried update '{}' with 'null' object",
                     authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName);
-            throw new IllegalArgumentException(
+            throw new InvalidRequestException(
                     "Entity update '" + typeSimpleName + "' with 'null' object is not allowed");
         }
 
         if (dto.getId() == null) {
             log.info(MarkerConstants.CRUD, "'{}' tried update '{}' with id 'null'",
                     authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName);
-            throw new IllegalArgumentException(
+            throw new InvalidRequestException(
                     "Entity update '" + typeSimpleName + "' with 'null' id is not allowed");
         }
+    }
 
-        if (!getRepository().existsById(dto.getId())) {
-            log.info(MarkerConstants.CRUD, "'{}' tried update '{}' with id '{}' that does not exist",
-                    authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, dto.getId());
-            throw new IllegalArgumentException(
-                    "Entity update '" + typeSimpleName + "' with id '" + dto.getId() + "' does not exist");
+    protected void checkBulkSize(List<Dto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InvalidRequestException("Entity creation '" + typeSimpleName + "' without entities is not allowed");
+        }
+        if (dtos.size() > MAX_BULK_SIZE) {
+            log.info(MarkerConstants.CRUD, "'{}' tried create '{}' with {} entities",
+                    authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, dtos.size());
+            throw new InvalidRequestException(
+                    "Entity creation '" + typeSimpleName + "' is limited to " + MAX_BULK_SIZE + " entities per request");
         }
     }
 
@@ -217,18 +326,30 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
             if (dto == null) {
                 log.info(MarkerConstants.CRUD, "'{}' tried create '{}' with 'null' object",
                         authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName);
-                throw new IllegalArgumentException(
+                throw new InvalidRequestException(
                         "Entity creation '" + typeSimpleName + "' with 'null' object is not allowed");
             }
 
             if (dto.getId() != null) {
                 log.info(MarkerConstants.CRUD, "'{}' tried create '{}' with id '{}'",
                         authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, dto.getId());
-                throw new IllegalArgumentException("Entity creation '" + typeSimpleName + "' with id is not allowed");
+                throw new InvalidRequestException("Entity creation '" + typeSimpleName + "' with id is not allowed");
             }
         }
     }
 
+    /**
+     * Publishes an {@link EntityChangedEvent} for this service's entity type, so caches derived
+     * from it are invalidated once the transaction commits. Subclasses that write through their
+     * repository directly must call this themselves.
+     */
+    protected void publishChange() {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new EntityChangedEvent(entityType,
+                    authenticationInformationProvider.findAuthenticatedUserId().orElse(null)));
+        }
+    }
+
     protected void logFailedRelatedEntityLoad(String relatedName, String id) {
         log.info(MarkerConstants.CRUD, "'{}' tried update '{}' with nonexistent related entity '{}' '{}'",
             authenticationInformationProvider.getAuthenticatedIdentifier(), typeSimpleName, relatedName, id);
@@ -248,5 +369,6 @@ public abstract class BaseCrudService<Id, Entity extends BaseEntity<Id> & Entity
                 dbEntities.stream().map(BaseEntity::getId).toList());
 
         // create handled by audit listener
+        publishChange();
     }
 }
@@ -0,0 +1,44 @@
+package com.reptilemanagement.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Security principal that carries the database ID of the authenticated user.
+ * <p>
+ * Built from the login lookup and from the JWT claims on every subsequent request,
+ * so services can resolve the current user ID without touching the database.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    /** Database ID of the authenticated user */
+    private final Long id;
+
+    /** Token version of the user at the time the principal was built */
+    private final int tokenVersion;
+
+    public AuthenticatedUser(Long id, String username, String password, int tokenVersion,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * Creates a principal from verified token claims. The password is never part of a token.
+     *
+     * @param id           the user ID
+     * @param username     the username
+     * @param tokenVersion the token version
+     * @param authorities  the granted authorities
+     * @return the principal
+     */
+    public static AuthenticatedUser fromToken(Long id, String username, int tokenVersion,
+                                              Collection<? extends GrantedAuthority> authorities) {
+        return new AuthenticatedUser(id, username, "", tokenVersion, authorities);
+    }
+}
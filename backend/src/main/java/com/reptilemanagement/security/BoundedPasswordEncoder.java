@@ -0,0 +1,142 @@
+package com.reptilemanagement.security;
+
+import com.reptilemanagement.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Password encoder that runs the hashing of its delegate on a dedicated, bounded worker pool.
+ * <p>
+ * BCrypt is deliberately CPU-heavy. Capping the number of concurrent hashes keeps a login
+ * burst from starving the request threads serving regular API reads. When both the workers
+ * and the queue are full, calls fail fast with a {@link ServiceOverloadedException}
+ * instead of piling up.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Returns a snapshot of the pool's queue depth and hash latency.
+     *
+     * @return the current statistics
+     */
+    public HashingStatistics getStatistics() {
+        long completedCount = completed.get();
+        double averageMillis = completedCount == 0 ? 0.0
+                : totalHashNanos.get() / (double) completedCount / 1_000_000.0;
+        return new HashingStatistics(
+                executor.getActiveCount(),
+                executor.getMaximumPoolSize(),
+                executor.getQueue().size(),
+                executor.getQueue().size() + executor.getQueue().remainingCapacity(),
+                completedCount,
+                rejected.get(),
+                averageMillis,
+                maxHashNanos.get() / 1_000_000.0);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(hashing));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Password hashing pool saturated, rejecting request (queue depth: {})", executor.getQueue().size());
+            throw new ServiceOverloadedException("Too many concurrent authentication requests, please retry shortly");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new ServiceOverloadedException("Password hashing timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T timed(Supplier<T> hashing) {
+        long start = System.nanoTime();
+        try {
+            return hashing.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            completed.incrementAndGet();
+            totalHashNanos.addAndGet(elapsed);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * Snapshot of the password hashing pool.
+     *
+     * @param activeWorkers  number of workers currently hashing
+     * @param maxWorkers     size of the worker pool
+     * @param queueDepth     number of hashes waiting for a worker
+     * @param queueCapacity  maximum number of waiting hashes before requests are rejected
+     * @param completed      number of hashes performed since startup
+     * @param rejected       number of requests rejected because the pool was saturated
+     * @param averageMillis  mean duration of a single hash
+     * @param maxMillis      longest duration of a single hash
+     */
+    public record HashingStatistics(int activeWorkers, int maxWorkers, int queueDepth, int queueCapacity,
+                                    long completed, long rejected, double averageMillis, double maxMillis) {}
+}
@@ -3,56 +3,158 @@ package com.reptilemanagement.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
-    
+
+    /** Claim holding the database ID of the user */
+    static final String CLAIM_USER_ID = "uid";
+
+    /** Claim holding the granted role names of the user */
+    static final String CLAIM_ROLES = "roles";
+
+    /** Claim holding the token version of the user at issue time */
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
+    /** Claim marking refresh tokens, which are not accepted as access tokens */
+    static final String CLAIM_TYPE = "typ";
+
+    static final String TYPE_REFRESH = "refresh";
+
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final long refreshExpiration;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpiration) {
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
     }
 
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+    /**
+     * Issues a short-lived access token for a user.
+     *
+     * @param userDetails the authenticated user
+     * @return the signed access token
+     */
+    public String generateToken(UserDetails userDetails) {
+        return buildToken(userDetails, jwtExpiration).compact();
+    }
+
+    /**
+     * Issues a long-lived refresh token for a user, only accepted by the refresh endpoint.
+     *
+     * @param userDetails the authenticated user
+     * @return the signed refresh token
+     */
+    public String generateRefreshToken(UserDetails userDetails) {
+        return buildToken(userDetails, refreshExpiration)
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .compact();
+    }
+
+    private JwtBuilder buildToken(UserDetails userDetails, long expiration) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getUsername())  // Changed from setSubject
                 .issuedAt(now)                        // Changed from setIssuedAt
                 .expiration(expiryDate)               // Changed from setExpiration
-                .signWith(secretKey)
-                .compact();
-    }
+                .claim(CLAIM_ROLES, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList());
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()                 // Changed from parserBuilder
-                .verifyWith(secretKey)                // Changed from setSigningKey
-                .build()
-                .parseSignedClaims(token)             // Changed from parseClaimsJws
-                .getPayload();                        // Changed from getBody
-        return claims.getSubject();
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            builder.claim(CLAIM_USER_ID, authenticatedUser.getId())
+                    .claim(CLAIM_TOKEN_VERSION, authenticatedUser.getTokenVersion());
+        }
+
+        return builder.signWith(secretKey);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiration of a token and returns its claims.
+     * Tokens that were already verified are answered from a bounded cache until they expire,
+     * so repeated requests with the same bearer token skip parsing and signature checks.
+     *
+     * @param token the signed token
+     * @return the claims, or empty if the token is malformed, tampered with or expired
+     */
+    public Optional<Claims> verify(String token) {
+        String key = VerifiedTokenCache.digest(token);
+        Claims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(key, claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the security principal from verified token claims.
+     * Tokens issued before the user ID and roles were embedded yield {@code null}
+     * and must be resolved through the user details service instead.
+     *
+     * @param claims the verified claims
+     * @return the principal, or null if the claims do not carry the user ID and roles
+     */
+    public AuthenticatedUser getAuthenticatedUser(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (userId == null || roles == null) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return AuthenticatedUser.fromToken(userId, claims.getSubject(), getTokenVersion(claims), authorities);
+    }
+
+    /**
+     * Returns the token version carried by verified claims.
+     * Tokens issued before versions were embedded count as version 0.
+     *
+     * @param claims the verified claims
+     * @return the token version
+     */
+    public int getTokenVersion(Claims claims) {
+        Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Checks whether verified claims belong to a refresh token.
+     *
+     * @param claims the verified claims
+     * @return true for refresh tokens
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reptilemanagement.security;
+
+import com.reptilemanagement.persistence.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory view of the current token version of every user that recently presented a token.
+ * <p>
+ * A token is only accepted while the version it carries equals the user's current version.
+ * Each user's version is read from the database once and afterwards kept up to date by the
+ * services that change passwords, roles or delete accounts, so checking a token costs a
+ * single map lookup instead of a query per request.
+ * <p>
+ * The database stays the source of truth, so an entry can be dropped at any time. Entries not
+ * read for an access token lifetime are swept, revocation markers of deleted users included:
+ * by then every access token issued before the change has expired, and a refresh token still
+ * presented later is checked against the version read again from the database.
+ */
+@Component
+@Slf4j
+public class TokenVersionRegistry {
+
+    /** Marker version for deleted users; never matches an issued token */
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final long idleNanos;
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            @Value("${jwt.expiration}") long jwtExpiration) {
+        this.userRepository = userRepository;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(jwtExpiration);
+    }
+
+    /**
+     * Checks whether a token version is still current for a user.
+     * @param userId the user ID
+     * @param tokenVersion the version carried by the token
+     * @return true if the token has not been revoked
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Entry current = versions.get(userId);
+        if (current == null) {
+            current = versions.computeIfAbsent(userId,
+                    id -> new Entry(userRepository.findTokenVersionById(id).orElse(REVOKED)));
+        }
+        current.lastReadNanos = System.nanoTime();
+        return current.version == tokenVersion;
+    }
+
+    /**
+     * Records a new token version for a user once the surrounding transaction commits,
+     * revoking every token issued with an older version.
+     * @param userId the user ID
+     * @param tokenVersion the new token version
+     */
+    public void update(Long userId, int tokenVersion) {
+        afterCommit(() -> {
+            versions.put(userId, new Entry(tokenVersion));
+            log.debug("Token version of user {} is now {}", userId, tokenVersion);
+        });
+    }
+
+    /**
+     * Revokes all tokens of a deleted user once the surrounding transaction commits.
+     * @param userId the user ID
+     */
+    public void revoke(Long userId) {
+        afterCommit(() -> {
+            versions.put(userId, new Entry(REVOKED));
+            log.debug("Revoked all tokens of user {}", userId);
+        });
+    }
+
+    /**
+     * Drops the entries not read for an access token lifetime.
+     */
+    @Scheduled(fixedDelayString = "${jwt.expiration}", initialDelayString = "${jwt.expiration}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = versions.size();
+        versions.values().removeIf(entry -> now - entry.lastReadNanos > idleNanos);
+        log.debug("Evicted {} idle token versions", before - versions.size());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Entry {
+        private final int version;
+        private volatile long lastReadNanos = System.nanoTime();
+
+        private Entry(int version) {
+            this.version = version;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.reptilemanagement.security;
 
+import com.reptilemanagement.persistence.domain.User;
 import com.reptilemanagement.persistence.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,12 +18,30 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return toPrincipal(userRepository.findByUsername(username)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
+    /**
+     * Loads the current username, roles and token version of a user by ID.
+     * Used when renewing tokens, so a renamed user or changed roles never carry over
+     * from the claims of an older token.
+     *
+     * @param id the user ID
+     * @return the principal built from the stored user
+     * @throws UsernameNotFoundException if the user no longer exists
+     */
+    public AuthenticatedUser loadUserById(Long id) throws UsernameNotFoundException {
+        return toPrincipal(userRepository.findById(id)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
 
-        return new org.springframework.security.core.userdetails.User(
+    private AuthenticatedUser toPrincipal(User user) {
+        return new AuthenticatedUser(
+            user.getId(),
             user.getUsername(),
             user.getPassword(),
+            user.getTokenVersion(),
             user.getRoles().stream()
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList())
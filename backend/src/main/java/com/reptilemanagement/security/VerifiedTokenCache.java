@@ -0,0 +1,101 @@
+package com.reptilemanagement.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so raw bearer tokens are never
+ * retained, and are dropped as soon as the token's {@code exp} has passed. Once the cache is
+ * full, the least recently used token is evicted, so the tokens of active sessions stay cached
+ * however many one-off tokens pass through. The access-ordered map is guarded by a lock that is
+ * only held for the map operation itself; a lock rather than a monitor, so request threads
+ * waiting on it do not pin their carrier.
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Least recently used first; guarded by {@link #lock} */
+    private final LinkedHashMap<String, Entry> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached claims of a token, evicting the entry if the token has expired.
+     *
+     * @param key the token digest
+     * @return the claims, or null if the token is not cached or has expired
+     */
+    Claims get(String key) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.claims();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the claims of a verified token. Tokens without an expiration are not cached.
+     *
+     * @param key    the token digest
+     * @param claims the verified claims
+     */
+    void put(String key, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+        Entry entry = new Entry(claims, expiration.getTime());
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Computes the cache key of a token.
+     *
+     * @param token the raw token
+     * @return the Base64 encoded SHA-256 digest of the token
+     */
+    static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {}
+}
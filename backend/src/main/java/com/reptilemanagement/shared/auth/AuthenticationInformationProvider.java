@@ -1,10 +1,15 @@
 package com.reptilemanagement.shared.auth;
 
 import com.reptilemanagement.persistence.repository.UserRepository;
+import com.reptilemanagement.security.AuthenticatedUser;
 import com.reptilemanagement.security.AuthenticationUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Provider for authentication information.
  * Wraps the static authentication utilities for dependency injection in services.
@@ -26,14 +31,35 @@ public class AuthenticationInformationProvider {
 
     /**
      * Gets the database ID of the currently authenticated user.
+     * The ID is read from the {@link AuthenticatedUser} principal; the database is only
+     * consulted for principals that do not carry it.
      * 
      * @return the user ID
      * @throws IllegalStateException if the authenticated user is not found in the database
      */
     public Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+
         String username = getAuthenticatedIdentifier();
         return userRepository.findByUsername(username)
                 .map(user -> user.getId())
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found: " + username));
     }
+
+    /**
+     * Gets the database ID of the currently authenticated user, if there is one.
+     *
+     * @return the user ID, or empty if no known user is authenticated
+     */
+    public Optional<Long> findAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user.getId());
+        }
+
+        return userRepository.findByUsername(getAuthenticatedIdentifier()).map(user -> user.getId());
+    }
 }
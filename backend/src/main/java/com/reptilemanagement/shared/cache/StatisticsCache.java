@@ -0,0 +1,255 @@
+package com.reptilemanagement.shared.cache;
+
+import com.reptilemanagement.shared.event.EntityChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache for aggregate statistics.
+ * <p>
+ * Entries are marked stale when an entity they depend on changes, after the writing transaction
+ * has committed, or when they reach their maximum age. A stale entry is refreshed in the
+ * background; readers wait a short while for the refresh and fall back to the stale value if
+ * the database is slow. Concurrent misses for the same entry share a single computation.
+ * <p>
+ * Entries are grouped by user, so a change only visits the entries of the user who made it.
+ */
+@Component
+@Slf4j
+public class StatisticsCache implements DisposableBean {
+
+    private final long maxAgeNanos;
+    private final long refreshWaitMillis;
+    /** Entries by user ID, then by name */
+    private final Map<Long, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+    private final ExecutorService refresher =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("statistics-refresh-", 0).factory());
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final AtomicLong totalRefreshNanos = new AtomicLong();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+    private final AtomicLong totalStalenessNanos = new AtomicLong();
+    private final AtomicLong maxStalenessNanos = new AtomicLong();
+
+    public StatisticsCache(
+            @Value("${statistics.cache.max-age-seconds:300}") long maxAgeSeconds,
+            @Value("${statistics.cache.refresh-wait-ms:250}") long refreshWaitMillis) {
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        this.refreshWaitMillis = refreshWaitMillis;
+    }
+
+    /**
+     * Returns the cached statistics, computing them if absent or stale.
+     * The loader runs on a background thread, so it must not depend on the caller's
+     * security context or transaction.
+     *
+     * @param userId       the user the statistics belong to
+     * @param name         the name of the statistics, unique per user
+     * @param dependencies the entity types whose changes invalidate the statistics
+     * @param loader       computes the statistics
+     * @return the statistics, possibly stale if a refresh did not finish in time
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String name, Set<Class<?>> dependencies, Supplier<T> loader) {
+        Entry entry = entries.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new Entry(dependencies));
+        CompletableFuture<Object> refresh;
+        Object stale;
+        long staleSince;
+        synchronized (entry) {
+            long now = System.nanoTime();
+            if (entry.value != null && entry.staleSince == 0 && now - entry.computedAt < maxAgeNanos) {
+                hits.incrementAndGet();
+                return (T) entry.value;
+            }
+            refresh = entry.refresh != null ? entry.refresh : startRefresh(entry, loader);
+            stale = entry.value;
+            staleSince = entry.staleSince != 0 ? entry.staleSince : entry.computedAt + maxAgeNanos;
+        }
+
+        if (stale == null) {
+            misses.incrementAndGet();
+            return (T) await(refresh);
+        }
+        try {
+            Object value = refresh.get(refreshWaitMillis, TimeUnit.MILLISECONDS);
+            misses.incrementAndGet();
+            return (T) value;
+        } catch (TimeoutException e) {
+            return (T) serveStale(stale, staleSince);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return (T) serveStale(stale, staleSince);
+        } catch (ExecutionException e) {
+            log.warn("Refreshing statistics '{}' of user {} failed, serving stale value", name, userId, e.getCause());
+            return (T) serveStale(stale, staleSince);
+        }
+    }
+
+    /**
+     * Marks the statistics depending on a changed entity as stale once the change is committed.
+     * Changes without a user invalidate the statistics of all users.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        long now = System.nanoTime();
+        if (event.userId() == null) {
+            entries.values().forEach(userEntries -> invalidate(userEntries, event.entityType(), now));
+            return;
+        }
+        Map<String, Entry> userEntries = entries.get(event.userId());
+        if (userEntries != null) {
+            invalidate(userEntries, event.entityType(), now);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache's hit ratio, refresh latency and staleness.
+     *
+     * @return the current statistics
+     */
+    public CacheStatistics getStatistics() {
+        long hitCount = hits.get();
+        long staleHitCount = staleHits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + staleHitCount + missCount;
+        long refreshCount = refreshes.get();
+        return new CacheStatistics(
+                entries.values().stream().mapToInt(Map::size).sum(),
+                hitCount,
+                staleHitCount,
+                missCount,
+                lookups == 0 ? 0.0 : (double) (hitCount + staleHitCount) / lookups,
+                refreshCount,
+                refreshFailures.get(),
+                refreshCount == 0 ? 0.0 : totalRefreshNanos.get() / (double) refreshCount / 1_000_000.0,
+                maxRefreshNanos.get() / 1_000_000.0,
+                staleHitCount == 0 ? 0.0 : totalStalenessNanos.get() / (double) staleHitCount / 1_000_000.0,
+                maxStalenessNanos.get() / 1_000_000.0);
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    private static void invalidate(Map<String, Entry> userEntries, Class<?> entityType, long now) {
+        for (Entry entry : userEntries.values()) {
+            if (entry.dependencies.contains(entityType)) {
+                synchronized (entry) {
+                    entry.version++;
+                    if (entry.staleSince == 0) {
+                        entry.staleSince = now;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a background computation of an entry. Must be called while holding the entry's lock.
+     */
+    private CompletableFuture<Object> startRefresh(Entry entry, Supplier<?> loader) {
+        long version = entry.version;
+        long start = System.nanoTime();
+        CompletableFuture<Object> refresh = CompletableFuture.supplyAsync(loader::get, refresher);
+        entry.refresh = refresh;
+        refresh.whenComplete((value, error) -> {
+            long elapsed = System.nanoTime() - start;
+            refreshes.incrementAndGet();
+            totalRefreshNanos.addAndGet(elapsed);
+            maxRefreshNanos.accumulateAndGet(elapsed, Math::max);
+            synchronized (entry) {
+                entry.refresh = null;
+                if (error != null) {
+                    refreshFailures.incrementAndGet();
+                    return;
+                }
+                entry.value = value;
+                entry.computedAt = start;
+                // A change committed while computing may not be part of the value, keep it stale
+                if (entry.version == version) {
+                    entry.staleSince = 0;
+                }
+            }
+        });
+        return refresh;
+    }
+
+    private Object serveStale(Object stale, long staleSince) {
+        long staleness = Math.max(0, System.nanoTime() - staleSince);
+        staleHits.incrementAndGet();
+        totalStalenessNanos.addAndGet(staleness);
+        maxStalenessNanos.accumulateAndGet(staleness, Math::max);
+        return stale;
+    }
+
+    private static Object await(CompletableFuture<Object> refresh) {
+        try {
+            return refresh.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for statistics", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Computing statistics failed", e.getCause());
+        }
+    }
+
+    private static final class Entry {
+        private final Set<Class<?>> dependencies;
+        private Object value;
+        private long computedAt;
+        /** Time the entry was invalidated, 0 while it is fresh */
+        private long staleSince;
+        /** Incremented on every invalidation, so a refresh can tell whether it raced with a change */
+        private long version;
+        private CompletableFuture<Object> refresh;
+
+        private Entry(Set<Class<?>> dependencies) {
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Snapshot of the statistics cache.
+     *
+     * @param entries               number of cached statistics
+     * @param hits                  lookups answered with fresh statistics
+     * @param staleHits             lookups answered with stale statistics because the refresh was slow or failed
+     * @param misses                lookups that waited for a computation, first or refresh
+     * @param hitRatio              share of lookups answered from the cache, fresh or stale
+     * @param refreshes             number of computations since startup
+     * @param refreshFailures       number of computations that failed
+     * @param averageRefreshMillis  mean duration of a computation
+     * @param maxRefreshMillis      longest duration of a computation
+     * @param averageStalenessMillis mean time stale statistics had been out of date when served
+     * @param maxStalenessMillis    longest time stale statistics had been out of date when served
+     */
+    public record CacheStatistics(int entries, long hits, long staleHits, long misses, double hitRatio,
+                                  long refreshes, long refreshFailures, double averageRefreshMillis,
+                                  double maxRefreshMillis, double averageStalenessMillis, double maxStalenessMillis) {}
+}
@@ -0,0 +1,10 @@
+package com.reptilemanagement.shared.event;
+
+/**
+ * Published whenever an entity is created, updated or deleted through a crud service.
+ * Listeners that derive data from the entity should react after the transaction commits.
+ *
+ * @param entityType the class of the changed entity
+ * @param userId     the user who made the change, or null if it was not made by an authenticated user
+ */
+public record EntityChangedEvent(Class<?> entityType, Long userId) {}
@@ -0,0 +1,160 @@
+package com.reptilemanagement.shared.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so a file of any length is parsed in constant memory.
+ * <p>
+ * Fields may be quoted; quoted fields can contain separators, line breaks and doubled quotes.
+ * Records end with LF or CRLF. A leading byte order mark is skipped, as spreadsheet exports
+ * often start with one. Records longer than the configured limit are rejected, so a missing
+ * closing quote cannot swallow the rest of the input.
+ */
+public final class CsvRecordReader {
+
+    private static final int EOF = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char separator;
+    private final int maxRecordChars;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = EOF;
+    private boolean started;
+
+    /**
+     * @param reader         the input; wrap it in a buffered reader, it is read char by char
+     * @param separator      the field separator, usually a comma
+     * @param maxRecordChars the longest accepted record
+     */
+    public CsvRecordReader(Reader reader, char separator, int maxRecordChars) {
+        this.reader = reader;
+        this.separator = separator;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * Reads the next record. Empty lines are skipped.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws CsvFormatException if a quoted field is not closed or the record is too long
+     * @throws IOException        if reading fails
+     */
+    public List<String> next() throws IOException {
+        if (!started) {
+            started = true;
+            int first = reader.read();
+            if (first != BYTE_ORDER_MARK) {
+                pushedBack = first;
+            }
+        }
+
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = skipLineBreak(c);
+        }
+        if (c == EOF) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        int recordChars = 0;
+        field.setLength(0);
+        boolean quoted = false;
+        boolean afterQuoted = false;
+        while (true) {
+            if (++recordChars > maxRecordChars) {
+                throw new CsvFormatException(recordLine, "Record is longer than " + maxRecordChars + " characters");
+            }
+            if (quoted) {
+                if (c == EOF) {
+                    throw new CsvFormatException(recordLine, "Quoted field is not closed");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuoted = true;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                fields.add(field.toString());
+                if (c != EOF) {
+                    pushedBack = skipLineBreak(c);
+                }
+                return fields;
+            } else if (c == '"' && field.isEmpty() && !afterQuoted) {
+                quoted = true;
+            } else {
+                // Text after a closing quote is kept as is, like spreadsheets do
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line the last record started on.
+     *
+     * @return the 1-based line number
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Consumes a line break and returns the character after it.
+     */
+    private int skipLineBreak(int c) throws IOException {
+        line++;
+        int following = read();
+        if (c == '\r' && following == '\n') {
+            following = read();
+        }
+        return following;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != EOF) {
+            int c = pushedBack;
+            pushedBack = EOF;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Thrown when the input is not valid CSV. Reading cannot continue after it.
+     */
+    public static final class CsvFormatException extends IOException {
+        private final long line;
+
+        public CsvFormatException(long line, String message) {
+            super("Line " + line + ": " + message);
+            this.line = line;
+        }
+
+        public long getLine() {
+            return line;
+        }
+    }
+}
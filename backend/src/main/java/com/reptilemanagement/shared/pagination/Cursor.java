@@ -0,0 +1,51 @@
+package com.reptilemanagement.shared.pagination;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a log ordered by (date DESC, id DESC): the next page starts
+ * strictly after this date and ID. Clients only ever see the opaque encoded form.
+ *
+ * @param date the date of the last row of the previous page
+ * @param id   the ID of the last row of the previous page
+ */
+public record Cursor(LocalDateTime date, Long id) {
+
+    /** Position before the newest possible row, used for the first page */
+    public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously returned by {@link #encode()}.
+     * @param token the encoded cursor, or null/blank for the first page
+     * @return the decoded cursor
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reptilemanagement.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * @param items      the rows of this page, newest first
+ * @param nextCursor opaque cursor to request the next page, null on the last page
+ * @param hasMore    whether another page exists
+ * @param <T>        the row type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+
+    /**
+     * Converts the rows of this page, keeping the cursor.
+     * @param mapper the conversion, e.g. entity to DTO
+     * @param <R>    the converted row type
+     * @return the converted page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reptilemanagement.shared.pagination;
+
+import com.reptilemanagement.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Runs keyset-paginated queries over logs ordered by (date DESC, id DESC).
+ * <p>
+ * Each page is a seek from the previous page's last row instead of an OFFSET, so every
+ * page costs the same index range scan no matter how deep the client pages. Requested
+ * page sizes are capped so a single request can never load a whole history.
+ */
+@Component
+public class CursorPagination {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public CursorPagination(
+            @Value("${pagination.default-size:50}") int defaultSize,
+            @Value("${pagination.max-size:200}") int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.defaultSize = Math.clamp(defaultSize, 1, this.maxSize);
+    }
+
+    /**
+     * Fetches one page.
+     * @param cursor the opaque cursor from the previous page, or null for the first page
+     * @param size   the requested page size, or null for the default; capped at the maximum
+     * @param query  seeks rows strictly after the given cursor, ordered by (date DESC, id DESC), up to the given limit
+     * @param dateOf extracts the ordering date of a row
+     * @param idOf   extracts the ID of a row
+     * @param <E>    the row type
+     * @return the page with a cursor to the next one
+     * @throws InvalidRequestException if the cursor is malformed
+     */
+    public <E> CursorPage<E> fetch(String cursor, Integer size,
+                                   BiFunction<Cursor, Limit, List<E>> query,
+                                   Function<E, LocalDateTime> dateOf,
+                                   Function<E, Long> idOf) {
+        int limit = size != null ? Math.clamp(size, 1, maxSize) : defaultSize;
+        // One extra row tells whether another page exists without a count query
+        List<E> rows = query.apply(Cursor.decode(cursor), Limit.of(limit + 1));
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<E> items = rows.subList(0, limit);
+        E last = items.getLast();
+        return new CursorPage<>(List.copyOf(items), new Cursor(dateOf.apply(last), idOf.apply(last)).encode(), true);
+    }
+}
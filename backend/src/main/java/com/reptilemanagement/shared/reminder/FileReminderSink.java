@@ -0,0 +1,49 @@
+package com.reptilemanagement.shared.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link ReminderSink} appending fired reminders to a local file, one line each.
+ * Stands in for an external channel such as e-mail during development and testing.
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.file-sink.enabled", havingValue = "true")
+@Slf4j
+public class FileReminderSink implements ReminderSink {
+
+    private final Path file;
+
+    public FileReminderSink(@Value("${reminders.file-sink.path:./data/reminders.log}") String path) throws IOException {
+        this.file = Path.of(path).toAbsolutePath().normalize();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        log.info("Writing fired reminders to {}", file);
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void deliver(ReminderFiring firing) throws IOException {
+        String line = String.join("\t",
+                String.valueOf(firing.firedAt()),
+                "user=" + firing.userId(),
+                "reminder=" + firing.reminderId(),
+                "due=" + firing.scheduledFor(),
+                firing.title(),
+                firing.message() != null ? firing.message().replaceAll("\\s+", " ") : "") + System.lineSeparator();
+        Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,37 @@
+package com.reptilemanagement.shared.reminder;
+
+import com.reptilemanagement.persistence.domain.ReminderNotification;
+import com.reptilemanagement.persistence.repository.ReminderNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link ReminderSink} storing fired reminders in the owner's in-app inbox.
+ */
+@Component
+@RequiredArgsConstructor
+public class InboxReminderSink implements ReminderSink {
+
+    private final ReminderNotificationRepository reminderNotificationRepository;
+
+    @Override
+    public String getName() {
+        return "inbox";
+    }
+
+    @Override
+    public void deliver(ReminderFiring firing) {
+        ReminderNotification notification = new ReminderNotification();
+        notification.setUserId(firing.userId());
+        notification.setReminderId(firing.reminderId());
+        notification.setReptileId(firing.reptileId());
+        notification.setEnclosureId(firing.enclosureId());
+        notification.setTitle(firing.title());
+        notification.setMessage(firing.message());
+        notification.setScheduledFor(firing.scheduledFor());
+        notification.setCreatedAt(LocalDateTime.now());
+        reminderNotificationRepository.save(notification);
+    }
+}
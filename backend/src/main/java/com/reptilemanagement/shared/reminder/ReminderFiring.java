@@ -0,0 +1,18 @@
+package com.reptilemanagement.shared.reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reminder that fired, as handed to the {@link ReminderSink}s.
+ *
+ * @param reminderId   the reminder that fired
+ * @param userId       the owner of the reminder
+ * @param reptileId    the reptile the reminder is about, if any
+ * @param enclosureId  the enclosure the reminder is about, if any
+ * @param title        the title of the reminder
+ * @param message      the message of the reminder, if any
+ * @param scheduledFor when the reminder was due
+ * @param firedAt      when it actually fired; later than scheduledFor after downtime
+ */
+public record ReminderFiring(Long reminderId, Long userId, Long reptileId, Long enclosureId, String title,
+                             String message, LocalDateTime scheduledFor, LocalDateTime firedAt) {}
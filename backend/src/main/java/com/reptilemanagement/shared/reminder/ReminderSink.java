@@ -0,0 +1,26 @@
+package com.reptilemanagement.shared.reminder;
+
+/**
+ * Delivers fired reminders to their owner.
+ * <p>
+ * Every sink bean receives every firing, each on its own virtual thread, so a slow or failing
+ * sink does not hold up the others. A firing is delivered at most once: it is claimed in the
+ * database before delivery and not retried if a sink fails.
+ */
+public interface ReminderSink {
+
+    /**
+     * Returns a short name of the sink for logs.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Delivers a fired reminder.
+     *
+     * @param firing the reminder that fired
+     * @throws Exception if delivery failed; it is logged and not retried
+     */
+    void deliver(ReminderFiring firing) throws Exception;
+}
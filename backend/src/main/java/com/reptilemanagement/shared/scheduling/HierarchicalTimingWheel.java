@@ -0,0 +1,243 @@
+package com.reptilemanagement.shared.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: holds large numbers of timers with constant-time schedule and cancel.
+ * <p>
+ * Level 0 has one slot per tick; every higher level has 64 slots, each as wide as the whole level
+ * below. A timer is put into the lowest level whose range covers its deadline. When the wheel
+ * reaches the slot of a higher level, its timers are moved down ("cascaded"), so each timer is
+ * touched at most once per level however far away its deadline is.
+ * <p>
+ * The wheel does not run a thread; its owner calls {@link #advance(long)} with the current time
+ * and handles the expired timers. All operations lock the wheel.
+ *
+ * @param <T> the task carried by a timer
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final Bucket<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tickMillis  the resolution; timers expire on the first tick at or after their deadline
+     * @param levels      the number of levels; the range is 63 * 64^(levels - 1) ticks
+     * @param startMillis the current time in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels < 1 || SLOT_BITS * levels > 48) {
+            throw new IllegalArgumentException("Invalid timing wheel: tick " + tickMillis + " ms, " + levels + " levels");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.wheels = new Bucket[levels][SLOTS];
+        for (Bucket<T>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Returns how far ahead of the current time a deadline may be.
+     *
+     * @return the range in milliseconds
+     */
+    public long getRangeMillis() {
+        return (SLOTS - 1L) * (1L << (SLOT_BITS * (levels - 1))) * tickMillis;
+    }
+
+    /**
+     * Schedules a timer. Deadlines in the past expire on the next tick.
+     *
+     * @param task           the task to return from {@link #advance(long)} when the timer expires
+     * @param deadlineMillis the deadline in epoch milliseconds
+     * @return a handle to cancel the timer
+     * @throws IllegalArgumentException if the deadline is beyond the range of the wheel
+     */
+    public synchronized Timeout<T> schedule(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, task, deadlineTick * tickMillis);
+        place(timeout, deadlineTick);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel forward to the given time and removes the timers that expired on the way.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the tasks of the expired timers, earliest deadline first
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(wheels[level][(int) ((currentTick >> shift) & SLOT_MASK)]);
+                }
+            }
+            Bucket<T> bucket = wheels[0][(int) (currentTick & SLOT_MASK)];
+            for (Timeout<T> timeout = bucket.clear(); timeout != null; timeout = timeout.next) {
+                expired.add(timeout.task);
+                size--;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the number of scheduled timers that have neither expired nor been cancelled
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.clear();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            place(timeout, timeout.deadlineMillis / tickMillis);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Puts a timer into the lowest level whose slots have not been passed yet for its deadline.
+     */
+    private void place(Timeout<T> timeout, long deadlineTick) {
+        for (int level = 0; level < levels; level++) {
+            int shift = SLOT_BITS * level;
+            if ((deadlineTick >> shift) - (currentTick >> shift) < SLOTS) {
+                wheels[level][(int) ((deadlineTick >> shift) & SLOT_MASK)].add(timeout);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Deadline beyond the range of the timing wheel");
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    /**
+     * Handle to a scheduled timer.
+     *
+     * @param <T> the task carried by the timer
+     */
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T task;
+        private final long deadlineMillis;
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T task, long deadlineMillis) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        /**
+         * Returns the tick the timer expires on.
+         *
+         * @return the deadline in epoch milliseconds, rounded up to the tick
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * Cancels the timer in constant time.
+         *
+         * @return true if the timer was pending, false if it had already expired or been cancelled
+         */
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (bucket == null) {
+                    return false;
+                }
+                bucket.remove(this);
+                wheel.size--;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timers in one slot.
+     */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        /**
+         * Empties the slot and returns its timers as a chain linked through {@code next}.
+         */
+        private Timeout<T> clear() {
+            Timeout<T> first = head;
+            for (Timeout<T> timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.previous = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reptilemanagement.shared.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed storage for binary data such as uploaded images.
+ * <p>
+ * Blobs are identified by the SHA-256 hash of their content, so storing identical
+ * content twice keeps a single copy. Callers are responsible for only deleting blobs
+ * that are no longer referenced; unreferenced blobs are removed by a periodic sweep.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores content produced by a writer, e.g. an encoder, without buffering it in memory.
+     *
+     * @param writer writes the content to the given stream
+     * @return the hash and size of the stored blob
+     * @throws IOException if writing fails
+     */
+    StoredBlob store(BlobWriter writer) throws IOException;
+
+    /**
+     * Stores the content of a stream without buffering it in memory.
+     *
+     * @param content the content to store; read to the end but not closed
+     * @return the hash and size of the stored blob
+     * @throws IOException if reading or writing fails
+     */
+    default StoredBlob store(InputStream content) throws IOException {
+        return store(content::transferTo);
+    }
+
+    /**
+     * Loads a blob for streaming.
+     *
+     * @param hash the SHA-256 hash of the blob
+     * @return the blob as a readable resource, or empty if not found
+     */
+    Optional<Resource> load(String hash);
+
+    /**
+     * Lists the blobs that were last written before a point in time.
+     *
+     * @param cutoff only blobs written before this instant are listed
+     * @return the hashes of the blobs; the stream must be closed
+     * @throws IOException if listing fails
+     */
+    Stream<String> listOlderThan(Instant cutoff) throws IOException;
+
+    /**
+     * Deletes a blob if it exists.
+     *
+     * @param hash the SHA-256 hash of the blob
+     * @throws IOException if deletion fails
+     */
+    void delete(String hash) throws IOException;
+
+    /**
+     * Producer of blob content.
+     */
+    @FunctionalInterface
+    interface BlobWriter {
+        /**
+         * Writes the content.
+         *
+         * @param out the stream to write to; closed by the blob store
+         * @throws IOException if writing fails
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Identity of a stored blob.
+     *
+     * @param hash lowercase hex SHA-256 hash of the content
+     * @param size size of the content in bytes
+     */
+    record StoredBlob(String hash, long size) {}
+}
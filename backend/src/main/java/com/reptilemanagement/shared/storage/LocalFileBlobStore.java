@@ -0,0 +1,110 @@
+package com.reptilemanagement.shared.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStore} keeping each blob as a file named after its SHA-256 hash.
+ * <p>
+ * Files are fanned out into two levels of subdirectories ({@code ab/cd/abcd...}) to keep
+ * directories small. Uploads are streamed into a temporary file while hashing and then
+ * moved into place atomically, so readers never see partially written blobs.
+ */
+@Component
+@Slf4j
+public class LocalFileBlobStore implements BlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public LocalFileBlobStore(@Value("${storage.blobs.path:./data/blobs}") String rootPath) throws IOException {
+        this.root = Path.of(rootPath).toAbsolutePath().normalize();
+        this.tempDirectory = root.resolve("tmp");
+        Files.createDirectories(tempDirectory);
+        log.info("Storing blobs in {}", root);
+    }
+
+    @Override
+    public StoredBlob store(BlobWriter writer) throws IOException {
+        Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)), digest)) {
+                writer.writeTo(out);
+            }
+            long size = Files.size(tempFile);
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(hash);
+            if (Files.exists(target)) {
+                log.debug("Blob {} already stored, skipping duplicate", hash);
+                return new StoredBlob(hash, size);
+            }
+
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Stored concurrently by another upload of the same content
+            }
+            return new StoredBlob(hash, size);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public Optional<Resource> load(String hash) {
+        Path path = pathOf(hash);
+        return Files.isReadable(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    @Override
+    public Stream<String> listOlderThan(Instant cutoff) throws IOException {
+        return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                        && HASH_PATTERN.matcher(path.getFileName().toString()).matches()
+                        && attributes.lastModifiedTime().toInstant().isBefore(cutoff))
+                .map(path -> path.getFileName().toString());
+    }
+
+    @Override
+    public void delete(String hash) throws IOException {
+        if (Files.deleteIfExists(pathOf(hash))) {
+            log.debug("Deleted blob {}", hash);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
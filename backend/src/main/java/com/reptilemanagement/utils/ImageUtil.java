@@ -0,0 +1,154 @@
+package com.reptilemanagement.utils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Utility class for decoding, scaling and encoding raster images with the JDK's ImageIO.
+ */
+public class ImageUtil {
+
+    private ImageUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Decodes the first frame of an image, subsampling while reading so that images far larger
+     * than needed are never decoded at full resolution.
+     *
+     * @param in          the encoded image
+     * @param minimumEdge the longest edge the decoded image should at least keep
+     * @return the decoded image, or null if no decoder supports the format
+     * @throws IOException if reading fails
+     */
+    public static BufferedImage decode(InputStream in, int minimumEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longestEdge / (minimumEdge * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales an image down to fit a maximum edge, halving repeatedly for quality.
+     * Images already within the edge keep their size.
+     *
+     * @param source  the image to scale
+     * @param maxEdge the maximum width or height in pixels
+     * @param alpha   whether to keep transparency; otherwise the image is flattened onto white
+     * @return the scaled image
+     */
+    public static BufferedImage scaleToFit(BufferedImage source, int maxEdge, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, new AffineTransform(), alpha);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * Applies an EXIF orientation so the pixels are stored upright.
+     *
+     * @param source      the image as stored in the file
+     * @param orientation the EXIF orientation value (1-8)
+     * @param alpha       whether to keep transparency
+     * @return the upright image, or the source itself for orientation 1 or unknown values
+     */
+    public static BufferedImage applyOrientation(BufferedImage source, int orientation, boolean alpha) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        return switch (orientation) {
+            case 2 -> draw(source, w, h, new AffineTransform(-1, 0, 0, 1, w, 0), alpha);
+            case 3 -> draw(source, w, h, new AffineTransform(-1, 0, 0, -1, w, h), alpha);
+            case 4 -> draw(source, w, h, new AffineTransform(1, 0, 0, -1, 0, h), alpha);
+            case 5 -> draw(source, h, w, new AffineTransform(0, 1, 1, 0, 0, 0), alpha);
+            case 6 -> draw(source, h, w, new AffineTransform(0, 1, -1, 0, h, 0), alpha);
+            case 7 -> draw(source, h, w, new AffineTransform(0, -1, -1, 0, h, w), alpha);
+            case 8 -> draw(source, h, w, new AffineTransform(0, -1, 1, 0, 0, w), alpha);
+            default -> source;
+        };
+    }
+
+    /**
+     * Encodes an image without any metadata.
+     *
+     * @param image       the image to encode
+     * @param format      the ImageIO format name, e.g. "jpeg" or "png"
+     * @param jpegQuality compression quality between 0 and 1, only used for JPEG
+     * @param out         the stream to write to; not closed
+     * @throws IOException if writing fails
+     */
+    public static void encode(BufferedImage image, String format, float jpegQuality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, AffineTransform transform, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (!alpha) {
+                // JPEG has no transparency, flatten onto white
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.transform(transform);
+            if (transform.isIdentity()) {
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } else {
+                graphics.drawImage(source, 0, 0, null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
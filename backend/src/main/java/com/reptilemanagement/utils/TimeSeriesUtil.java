@@ -0,0 +1,81 @@
+package com.reptilemanagement.utils;
+
+/**
+ * Utility class for reducing time series to a displayable number of points.
+ */
+public class TimeSeriesUtil {
+
+    private TimeSeriesUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Selects the points that best preserve the visual shape of a series with the
+     * Largest-Triangle-Three-Buckets algorithm. The first and last point are always kept;
+     * every bucket in between contributes the point spanning the largest triangle with the
+     * previously selected point and the average of the next bucket.
+     *
+     * @param x         the x values in ascending order
+     * @param y         the y values
+     * @param length    the number of valid entries in the arrays
+     * @param threshold the number of points to keep, at least 3
+     * @return the indices of the selected points in ascending order; all indices if the
+     *         series is not longer than the threshold
+     */
+    public static int[] largestTriangleThreeBuckets(long[] x, double[] y, int length, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("Downsampling needs at least 3 points, got " + threshold);
+        }
+        if (length <= threshold) {
+            int[] all = new int[length];
+            for (int i = 0; i < length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        // Buckets cover all points except the first and last
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int previous = 0;
+        selected[0] = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket, or the last point for the final bucket
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, length);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            double previousX = x[previous];
+            double previousY = y[previous];
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area, relative to the previous point so epoch values keep their precision
+                double area = Math.abs((previousX - averageX) * (y[i] - previousY)
+                        - (previousX - x[i]) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+
+            selected[bucket + 1] = chosen;
+            previous = chosen;
+        }
+
+        selected[threshold - 1] = length - 1;
+        return selected;
+    }
+}
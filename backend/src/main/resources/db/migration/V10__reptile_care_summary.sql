@@ -0,0 +1,60 @@
+-- ============================================================
+-- V10: Per-reptile care summary
+--     Read model with the latest care facts of every reptile,
+--     refreshed in the same transaction as every log write and
+--     reconciled nightly. Lets the collection be sorted and
+--     filtered by care state without scanning the log tables.
+-- ============================================================
+
+CREATE TABLE reptile_care_summary (
+    reptile_id              BIGINT        PRIMARY KEY REFERENCES reptiles (id) ON DELETE CASCADE,
+    user_id                 BIGINT,
+    name                    VARCHAR(255)  NOT NULL,
+    species                 VARCHAR(255)  NOT NULL,
+    status                  VARCHAR(20)   NOT NULL,
+    enclosure_id            BIGINT,
+    highlight_image_id      BIGINT,
+    last_feeding_date       TIMESTAMP,
+    -- Refused feedings since the last accepted one
+    refusal_streak          INTEGER       NOT NULL DEFAULT 0,
+    last_shedding_date      TIMESTAMP,
+    last_poop_date          TIMESTAMP,
+    last_weight_date        TIMESTAMP,
+    current_weight_grams    NUMERIC(8, 2),
+    -- Latest weight minus the latest weight at least 30 days older
+    weight_change_30d_grams NUMERIC(8, 2),
+    last_cleaning_date      TIMESTAMP,
+    refreshed_at            TIMESTAMP     NOT NULL
+);
+
+-- One index per sortable care column, scoped to the owner
+CREATE INDEX idx_care_summary_user_fed ON reptile_care_summary (user_id, last_feeding_date);
+CREATE INDEX idx_care_summary_user_shed ON reptile_care_summary (user_id, last_shedding_date);
+CREATE INDEX idx_care_summary_user_weight_change ON reptile_care_summary (user_id, weight_change_30d_grams);
+CREATE INDEX idx_care_summary_user_refusals ON reptile_care_summary (user_id, refusal_streak);
+CREATE INDEX idx_care_summary_user_status ON reptile_care_summary (user_id, status);
+
+-- Initial population, same query as ReptileCareSummaryRepository
+INSERT INTO reptile_care_summary (reptile_id, user_id, name, species, status, enclosure_id, highlight_image_id,
+                                  last_feeding_date, refusal_streak, last_shedding_date, last_poop_date,
+                                  last_weight_date, current_weight_grams, weight_change_30d_grams,
+                                  last_cleaning_date, refreshed_at)
+SELECT r.id, r.user_id, r.name, r.species, r.status, r.enclosure_id, r.highlight_image_id,
+       f.last_date, fr.streak, s.last_date, p.last_date,
+       w.measurement_date, w.weight_grams, w.weight_grams - w30.weight_grams,
+       c.last_date, CURRENT_TIMESTAMP
+FROM reptiles r
+LEFT JOIN LATERAL (SELECT MAX(feeding_date) AS last_date, MAX(feeding_date) FILTER (WHERE ate) AS last_accepted
+                   FROM feeding_logs WHERE reptile_id = r.id) f ON TRUE
+LEFT JOIN LATERAL (SELECT COUNT(*) AS streak FROM feeding_logs
+                   WHERE reptile_id = r.id AND NOT ate
+                     AND feeding_date > COALESCE(f.last_accepted, CAST('-infinity' AS TIMESTAMP))) fr ON TRUE
+LEFT JOIN LATERAL (SELECT MAX(shedding_date) AS last_date FROM shedding_logs WHERE reptile_id = r.id) s ON TRUE
+LEFT JOIN LATERAL (SELECT MAX(poop_date) AS last_date FROM poop_logs WHERE reptile_id = r.id) p ON TRUE
+LEFT JOIN LATERAL (SELECT measurement_date, weight_grams FROM weight_logs WHERE reptile_id = r.id
+                   ORDER BY measurement_date DESC, id DESC LIMIT 1) w ON TRUE
+LEFT JOIN LATERAL (SELECT weight_grams FROM weight_logs
+                   WHERE reptile_id = r.id AND measurement_date <= w.measurement_date - INTERVAL '30 days'
+                   ORDER BY measurement_date DESC, id DESC LIMIT 1) w30 ON TRUE
+LEFT JOIN LATERAL (SELECT MAX(cleaning_date) AS last_date FROM enclosure_cleanings
+                   WHERE enclosure_id = r.enclosure_id) c ON TRUE;
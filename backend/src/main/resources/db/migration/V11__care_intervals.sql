@@ -0,0 +1,12 @@
+-- ============================================================
+-- V11: Care intervals
+--     Optional per-reptile feeding and per-enclosure cleaning
+--     intervals. When unset, the due-care list learns the
+--     interval from the recent feeding and cleaning history.
+-- ============================================================
+
+ALTER TABLE reptiles
+    ADD COLUMN feeding_interval_days INTEGER CHECK (feeding_interval_days > 0);
+
+ALTER TABLE enclosures
+    ADD COLUMN cleaning_interval_days INTEGER CHECK (cleaning_interval_days > 0);
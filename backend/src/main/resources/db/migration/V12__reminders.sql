@@ -0,0 +1,50 @@
+-- ============================================================
+-- V12: Care reminders
+--     Reminder definitions per reptile or enclosure and the
+--     in-app inbox they are delivered to. next_fire_at is the
+--     next pending firing; a firing is claimed by advancing it,
+--     so a restart only reads the partial index for reminders
+--     that are overdue or due soon.
+-- ============================================================
+
+CREATE TABLE reminders (
+    id                   BIGSERIAL     PRIMARY KEY,
+    user_id              BIGINT        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    reptile_id           BIGINT        REFERENCES reptiles (id) ON DELETE CASCADE,
+    enclosure_id         BIGINT        REFERENCES enclosures (id) ON DELETE CASCADE,
+    title                VARCHAR(255)  NOT NULL,
+    message              VARCHAR(1000),
+    -- Null once a one-off reminder has fired
+    next_fire_at         TIMESTAMP,
+    -- Null for one-off reminders
+    repeat_interval_days INTEGER       CHECK (repeat_interval_days > 0),
+    active               BOOLEAN       NOT NULL DEFAULT TRUE,
+    created_by           VARCHAR(255)  NOT NULL,
+    updated_by           VARCHAR(255),
+    created_at           TIMESTAMP     NOT NULL,
+    updated_at           TIMESTAMP,
+    CHECK (reptile_id IS NULL OR enclosure_id IS NULL)
+);
+
+CREATE INDEX idx_reminders_user_id ON reminders (user_id);
+CREATE INDEX idx_reminders_pending ON reminders (next_fire_at) WHERE active AND next_fire_at IS NOT NULL;
+CREATE INDEX idx_reminders_reptile_id ON reminders (reptile_id) WHERE reptile_id IS NOT NULL;
+CREATE INDEX idx_reminders_enclosure_id ON reminders (enclosure_id) WHERE enclosure_id IS NOT NULL;
+
+CREATE TABLE reminder_notifications (
+    id            BIGSERIAL     PRIMARY KEY,
+    user_id       BIGINT        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    reminder_id   BIGINT        REFERENCES reminders (id) ON DELETE SET NULL,
+    reptile_id    BIGINT        REFERENCES reptiles (id) ON DELETE SET NULL,
+    enclosure_id  BIGINT        REFERENCES enclosures (id) ON DELETE SET NULL,
+    title         VARCHAR(255)  NOT NULL,
+    message       VARCHAR(1000),
+    -- When the reminder was due; delivery may be later after downtime
+    scheduled_for TIMESTAMP     NOT NULL,
+    created_at    TIMESTAMP     NOT NULL,
+    read_at       TIMESTAMP
+);
+
+CREATE INDEX idx_reminder_notifications_user ON reminder_notifications (user_id, created_at DESC);
+CREATE INDEX idx_reminder_notifications_unread ON reminder_notifications (user_id) WHERE read_at IS NULL;
+CREATE INDEX idx_reminder_notifications_reminder_id ON reminder_notifications (reminder_id) WHERE reminder_id IS NOT NULL;
@@ -0,0 +1,21 @@
+-- ============================================================
+-- V13: Pooled ID sequences
+--     Entities now draw IDs from their BIGSERIAL sequences with
+--     Hibernate's pooled optimizer instead of IDENTITY, which
+--     lets inserts be batched. Each nextval reserves a block of
+--     50 IDs, so the increment must match the allocationSize of
+--     the entity mappings. Column defaults stay in place for
+--     inserts from SQL; they simply skip to the next block.
+-- ============================================================
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE enclosures_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reptiles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reptile_images_id_seq INCREMENT BY 50;
+ALTER SEQUENCE feeding_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE weight_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE shedding_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE poop_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE enclosure_cleanings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reminders_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reminder_notifications_id_seq INCREMENT BY 50;
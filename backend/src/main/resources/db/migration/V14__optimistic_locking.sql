@@ -0,0 +1,17 @@
+-- ============================================================
+-- V14: Optimistic locking
+--     Editable tables get a version column that Hibernate
+--     increments on every update and checks in the WHERE
+--     clause, so an update based on stale data fails instead
+--     of silently overwriting a concurrent change.
+-- ============================================================
+
+ALTER TABLE enclosures ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reptiles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reptile_images ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE feeding_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE weight_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE shedding_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE poop_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE enclosure_cleanings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reminders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
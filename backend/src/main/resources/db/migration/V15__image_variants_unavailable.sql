@@ -0,0 +1,8 @@
+-- ============================================================
+-- V15: Mark images whose derivatives cannot be generated
+-- ============================================================
+
+-- Set when the original cannot be decoded, so the image is neither retried on every
+-- startup nor served with revalidation forever while waiting for derivatives
+ALTER TABLE reptile_images
+    ADD COLUMN variants_unavailable BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,36 @@
+-- ============================================================
+-- V16: Care summary sort indexes in both directions
+--     The care summary is sorted by one column with NULLS LAST
+--     in either direction, then by reptile_id ascending. A
+--     backward scan of the V10 indexes yields NULLS FIRST and a
+--     descending reptile_id, so descending pages sorted the
+--     owner's whole collection. One index per direction lets
+--     both read just the requested page in index order.
+-- ============================================================
+
+DROP INDEX idx_care_summary_user_fed;
+DROP INDEX idx_care_summary_user_shed;
+DROP INDEX idx_care_summary_user_weight_change;
+DROP INDEX idx_care_summary_user_refusals;
+
+CREATE INDEX idx_care_summary_user_fed_asc
+    ON reptile_care_summary (user_id, last_feeding_date ASC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_fed_desc
+    ON reptile_care_summary (user_id, last_feeding_date DESC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_shed_asc
+    ON reptile_care_summary (user_id, last_shedding_date ASC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_shed_desc
+    ON reptile_care_summary (user_id, last_shedding_date DESC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_weight_change_asc
+    ON reptile_care_summary (user_id, weight_change_30d_grams ASC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_weight_change_desc
+    ON reptile_care_summary (user_id, weight_change_30d_grams DESC NULLS LAST, reptile_id);
+CREATE INDEX idx_care_summary_user_refusals_asc
+    ON reptile_care_summary (user_id, refusal_streak ASC, reptile_id);
+CREATE INDEX idx_care_summary_user_refusals_desc
+    ON reptile_care_summary (user_id, refusal_streak DESC, reptile_id);
+-- Sorting by name had no index at all
+CREATE INDEX idx_care_summary_user_name_asc
+    ON reptile_care_summary (user_id, name ASC, reptile_id);
+CREATE INDEX idx_care_summary_user_name_desc
+    ON reptile_care_summary (user_id, name DESC, reptile_id);
@@ -0,0 +1,19 @@
+-- ============================================================
+-- V17: Keyset pagination indexes for the log tables
+--     Log pages are ordered by (date DESC, id DESC). With the id
+--     in the V8 indexes the tiebreak is read in index order
+--     instead of sorting every row of the same date, and the
+--     dashboard's newest-entry lookups stop after one row.
+-- ============================================================
+
+DROP INDEX idx_feeding_logs_reptile_date;
+DROP INDEX idx_weight_logs_reptile_date;
+DROP INDEX idx_shedding_logs_reptile_date;
+DROP INDEX idx_poop_logs_reptile_date;
+DROP INDEX idx_enclosure_cleanings_enclosure_date;
+
+CREATE INDEX idx_feeding_logs_reptile_date ON feeding_logs (reptile_id, feeding_date DESC, id DESC);
+CREATE INDEX idx_weight_logs_reptile_date ON weight_logs (reptile_id, measurement_date DESC, id DESC);
+CREATE INDEX idx_shedding_logs_reptile_date ON shedding_logs (reptile_id, shedding_date DESC, id DESC);
+CREATE INDEX idx_poop_logs_reptile_date ON poop_logs (reptile_id, poop_date DESC, id DESC);
+CREATE INDEX idx_enclosure_cleanings_enclosure_date ON enclosure_cleanings (enclosure_id, cleaning_date DESC, id DESC);
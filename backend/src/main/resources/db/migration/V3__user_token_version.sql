@@ -0,0 +1,5 @@
+-- ============================================================
+-- V3: Per-user token version used to revoke issued JWTs
+-- ============================================================
+
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- ============================================================
+-- V4: Move image bytes out of reptile_images so metadata
+--     queries never read BLOBs
+-- ============================================================
+
+CREATE TABLE reptile_image_data (
+    image_id BIGINT PRIMARY KEY REFERENCES reptile_images (id) ON DELETE CASCADE,
+    data     BYTEA  NOT NULL
+);
+
+INSERT INTO reptile_image_data (image_id, data)
+SELECT id, image_data FROM reptile_images;
+
+ALTER TABLE reptile_images DROP COLUMN image_data;
+
+CREATE INDEX idx_reptile_images_reptile_id ON reptile_images (reptile_id);
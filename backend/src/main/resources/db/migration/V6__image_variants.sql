@@ -0,0 +1,10 @@
+-- ============================================================
+-- V6: Resized derivatives and low-quality placeholder per image
+-- ============================================================
+
+ALTER TABLE reptile_images
+    ADD COLUMN thumb_hash           VARCHAR(64),
+    ADD COLUMN card_hash            VARCHAR(64),
+    ADD COLUMN full_hash            VARCHAR(64),
+    ADD COLUMN variant_content_type VARCHAR(255),
+    ADD COLUMN placeholder          TEXT;
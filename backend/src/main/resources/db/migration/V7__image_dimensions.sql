@@ -0,0 +1,7 @@
+-- ============================================================
+-- V7: Pixel dimensions of the normalized image, read at upload
+-- ============================================================
+
+ALTER TABLE reptile_images
+    ADD COLUMN width  INTEGER,
+    ADD COLUMN height INTEGER;
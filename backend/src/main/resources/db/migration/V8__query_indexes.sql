@@ -0,0 +1,30 @@
+-- ============================================================
+-- V8: Indexes for foreign keys and per-reptile / per-user
+--     queries. PostgreSQL does not index FK columns itself,
+--     so lookups, counts and ON DELETE CASCADE from reptiles
+--     and enclosures scanned the whole log tables.
+-- ============================================================
+
+-- Log tables: filter by owner, ordered newest first.
+-- Also serve countByReptileId / countByEnclosureId and the cascades.
+CREATE INDEX idx_feeding_logs_reptile_date ON feeding_logs (reptile_id, feeding_date DESC);
+CREATE INDEX idx_weight_logs_reptile_date ON weight_logs (reptile_id, measurement_date DESC);
+CREATE INDEX idx_shedding_logs_reptile_date ON shedding_logs (reptile_id, shedding_date DESC);
+CREATE INDEX idx_poop_logs_reptile_date ON poop_logs (reptile_id, poop_date DESC);
+CREATE INDEX idx_enclosure_cleanings_enclosure_date ON enclosure_cleanings (enclosure_id, cleaning_date DESC);
+
+-- Reptiles: every list is scoped to the current user
+CREATE INDEX idx_reptiles_user_status ON reptiles (user_id, status);
+CREATE INDEX idx_reptiles_user_enclosure ON reptiles (user_id, enclosure_id);
+-- FK checks when deleting an enclosure or an image, and findByEnclosureId
+CREATE INDEX idx_reptiles_enclosure_id ON reptiles (enclosure_id) WHERE enclosure_id IS NOT NULL;
+CREATE INDEX idx_reptiles_highlight_image_id ON reptiles (highlight_image_id) WHERE highlight_image_id IS NOT NULL;
+
+-- Enclosures: scoped to the current user, optionally by type
+CREATE INDEX idx_enclosures_user_type ON enclosures (user_id, type);
+
+-- Reptile images: blob reference checks on delete and the derivative backfill
+CREATE INDEX idx_reptile_images_thumb_hash ON reptile_images (thumb_hash) WHERE thumb_hash IS NOT NULL;
+CREATE INDEX idx_reptile_images_card_hash ON reptile_images (card_hash) WHERE card_hash IS NOT NULL;
+CREATE INDEX idx_reptile_images_full_hash ON reptile_images (full_hash) WHERE full_hash IS NOT NULL;
+CREATE INDEX idx_reptile_images_without_variants ON reptile_images (id) WHERE placeholder IS NULL;
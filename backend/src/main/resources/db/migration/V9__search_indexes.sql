@@ -0,0 +1,60 @@
+-- ============================================================
+-- V9: Full-text and fuzzy search
+--     Every searchable table gets a generated tsvector column,
+--     kept up to date by PostgreSQL on every insert and update,
+--     with a GIN index. Names get trigram indexes for typo-
+--     tolerant matching.
+-- ============================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE reptiles ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(species, '') || ' ' || coalesce(subspecies, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE enclosures ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(type, '') || ' ' || coalesce(substrate, '') || ' '
+        || coalesce(heating, '') || ' ' || coalesce(lighting, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE feeding_logs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(food_type, '') || ' ' || coalesce(quantity, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE weight_logs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE shedding_logs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(shed_quality, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE poop_logs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(consistency, '') || ' ' || coalesce(color, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+ALTER TABLE enclosure_cleanings ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(cleaning_type, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_reptiles_search ON reptiles USING GIN (search_vector);
+CREATE INDEX idx_enclosures_search ON enclosures USING GIN (search_vector);
+CREATE INDEX idx_feeding_logs_search ON feeding_logs USING GIN (search_vector);
+CREATE INDEX idx_weight_logs_search ON weight_logs USING GIN (search_vector);
+CREATE INDEX idx_shedding_logs_search ON shedding_logs USING GIN (search_vector);
+CREATE INDEX idx_poop_logs_search ON poop_logs USING GIN (search_vector);
+CREATE INDEX idx_enclosure_cleanings_search ON enclosure_cleanings USING GIN (search_vector);
+
+-- Trigram indexes for typo-tolerant name matching
+CREATE INDEX idx_reptiles_name_trgm ON reptiles USING GIN (name gin_trgm_ops);
+CREATE INDEX idx_reptiles_species_trgm ON reptiles USING GIN (species gin_trgm_ops);
+CREATE INDEX idx_reptiles_subspecies_trgm ON reptiles USING GIN (subspecies gin_trgm_ops);
+CREATE INDEX idx_enclosures_name_trgm ON enclosures USING GIN (name gin_trgm_ops);
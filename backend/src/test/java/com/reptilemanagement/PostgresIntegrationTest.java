@@ -0,0 +1,27 @@
+package com.reptilemanagement;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Base class for tests that run the application against a real PostgreSQL.
+ * <p>
+ * One container is shared by all test classes of a run and migrated by Flyway like production.
+ * Tests are skipped when no Docker daemon is available.
+ */
+@SpringBootTest(properties = "storage.blobs.path=target/test-blobs")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            POSTGRES.start();
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.reptilemanagement.persistence.repository;
+
+import com.reptilemanagement.PostgresIntegrationTest;
+import com.reptilemanagement.persistence.domain.Enclosure;
+import com.reptilemanagement.persistence.domain.Reptile;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes behind the log, reptile and enclosure queries.
+ * <p>
+ * Every repository query that reads one of these tables is run against a seeded database, the
+ * SQL Hibernate sends is captured and its generic plan, the one used for any parameter values,
+ * is checked with {@code EXPLAIN (GENERIC_PLAN)}. A sequential scan of a checked table means a
+ * query or migration change lost its index and the query now grows with all users' data. The
+ * keyset, range and owner lookups must also reach their index with an {@code Index Cond} on the
+ * expected columns, so an index that is only walked in full and filtered fails as well.
+ */
+@Sql(scripts = "/db/query-plan-seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.reptilemanagement.persistence.repository.QueryPlanRegressionTest$CapturingStatementInspector")
+class QueryPlanRegressionTest extends PostgresIntegrationTest {
+
+    private static final Set<String> CHECKED_TABLES = Set.of(
+            "feeding_logs", "weight_logs", "shedding_logs", "poop_logs", "enclosure_cleanings",
+            "reptiles", "enclosures");
+    private static final Set<String> REPTILE_USER_INDEXES = Set.of("idx_reptiles_user_status", "idx_reptiles_user_enclosure");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern INDEX_SCAN = Pattern.compile(
+            "(?:Index (?:Only )?Scan(?: Backward)? using|Bitmap Index Scan on) (\\w+)");
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    @Autowired
+    private FeedingLogRepository feedingLogRepository;
+    @Autowired
+    private WeightLogRepository weightLogRepository;
+    @Autowired
+    private SheddingLogRepository sheddingLogRepository;
+    @Autowired
+    private PoopLogRepository poopLogRepository;
+    @Autowired
+    private EnclosureCleaningRepository enclosureCleaningRepository;
+    @Autowired
+    private ReptileRepository reptileRepository;
+    @Autowired
+    private EnclosureRepository enclosureRepository;
+    @Autowired
+    private CareDueRepository careDueRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> queriesUseTheirIndexes() {
+        Long userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'plan-keeper-100'", Long.class);
+        Long reptileId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM reptiles WHERE user_id = ?", Long.class, userId);
+        Long enclosureId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM enclosures WHERE user_id = ?", Long.class, userId);
+        Long feedingLogId = firstLogId("feeding_logs", "reptile_id", reptileId);
+        Long weightLogId = firstLogId("weight_logs", "reptile_id", reptileId);
+        Long sheddingLogId = firstLogId("shedding_logs", "reptile_id", reptileId);
+        Long poopLogId = firstLogId("poop_logs", "reptile_id", reptileId);
+        Long cleaningId = firstLogId("enclosure_cleanings", "enclosure_id", enclosureId);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        Map<String, IndexCondition> conditions = new HashMap<>();
+
+        queries.put("FeedingLog.findByIdAndUserId", () -> feedingLogRepository.findByIdAndUserId(feedingLogId, userId));
+        queries.put("FeedingLog.findByReptileId", () -> feedingLogRepository.findByReptileIdOrderByFeedingDateDesc(reptileId));
+        queries.put("FeedingLog.findPageByReptileId",
+                () -> feedingLogRepository.findPageByReptileId(reptileId, TO, Long.MAX_VALUE, Limit.of(50)));
+        queries.put("FeedingLog.findByReptileIdAndFeedingDateBetween",
+                () -> feedingLogRepository.findByReptileIdAndFeedingDateBetweenOrderByFeedingDateDesc(reptileId, FROM, TO));
+        queries.put("FeedingLog.findTopByReptileId", () -> feedingLogRepository.findTopByReptileIdOrderByFeedingDateDesc(reptileId));
+        queries.put("FeedingLog.countByReptileId", () -> feedingLogRepository.countByReptileId(reptileId));
+        queries.put("FeedingLog.findMissedFeedingsByReptileId", () -> feedingLogRepository.findMissedFeedingsByReptileId(reptileId));
+        queries.put("FeedingLog.countFoodTypesByUserId", () -> feedingLogRepository.countFoodTypesByUserId(userId));
+        queries.put("FeedingLog.getStatisticsByReptileId", () -> feedingLogRepository.getStatisticsByReptileId(reptileId));
+        queries.put("FeedingLog.streamByReptileId", () -> {
+            try (Stream<?> logs = feedingLogRepository.streamByReptileIdOrderByFeedingDateAscIdAsc(reptileId)) {
+                logs.count();
+            }
+        });
+        conditions.put("FeedingLog.findByIdAndUserId", IndexCondition.on("feeding_logs_pkey", "id"));
+        conditions.put("FeedingLog.findPageByReptileId",
+                IndexCondition.on("idx_feeding_logs_reptile_date", "reptile_id", "feeding_date"));
+        conditions.put("FeedingLog.findByReptileIdAndFeedingDateBetween",
+                IndexCondition.on("idx_feeding_logs_reptile_date", "reptile_id", "feeding_date"));
+
+        queries.put("WeightLog.findByIdAndUserId", () -> weightLogRepository.findByIdAndUserId(weightLogId, userId));
+        queries.put("WeightLog.findByReptileId", () -> weightLogRepository.findByReptileIdOrderByMeasurementDateDesc(reptileId));
+        queries.put("WeightLog.findPageByReptileId",
+                () -> weightLogRepository.findPageByReptileId(reptileId, TO, Long.MAX_VALUE, Limit.of(50)));
+        queries.put("WeightLog.findByReptileIdAndMeasurementDateBetween",
+                () -> weightLogRepository.findByReptileIdAndMeasurementDateBetweenOrderByMeasurementDateDesc(reptileId, FROM, TO));
+        queries.put("WeightLog.findTopByReptileId", () -> weightLogRepository.findTopByReptileIdOrderByMeasurementDateDesc(reptileId));
+        queries.put("WeightLog.countByReptileId", () -> weightLogRepository.countByReptileId(reptileId));
+        queries.put("WeightLog.findWeightHistoryByReptileId", () -> weightLogRepository.findWeightHistoryByReptileId(reptileId));
+        queries.put("WeightLog.findWeightsAboveThreshold",
+                () -> weightLogRepository.findWeightsAboveThreshold(reptileId, BigDecimal.valueOf(300)));
+        queries.put("WeightLog.getStatisticsByReptileId", () -> weightLogRepository.getStatisticsByReptileId(reptileId));
+        queries.put("WeightLog.streamByReptileId", () -> {
+            try (Stream<?> logs = weightLogRepository.streamByReptileIdOrderByMeasurementDateAscIdAsc(reptileId)) {
+                logs.count();
+            }
+        });
+        conditions.put("WeightLog.findByIdAndUserId", IndexCondition.on("weight_logs_pkey", "id"));
+        conditions.put("WeightLog.findPageByReptileId",
+                IndexCondition.on("idx_weight_logs_reptile_date", "reptile_id", "measurement_date"));
+        conditions.put("WeightLog.findByReptileIdAndMeasurementDateBetween",
+                IndexCondition.on("idx_weight_logs_reptile_date", "reptile_id", "measurement_date"));
+
+        queries.put("SheddingLog.findByIdAndUserId", () -> sheddingLogRepository.findByIdAndUserId(sheddingLogId, userId));
+        queries.put("SheddingLog.findByReptileId", () -> sheddingLogRepository.findByReptileIdOrderBySheddingDateDesc(reptileId));
+        queries.put("SheddingLog.findPageByReptileId",
+                () -> sheddingLogRepository.findPageByReptileId(reptileId, TO, Long.MAX_VALUE, Limit.of(50)));
+        queries.put("SheddingLog.findByReptileIdAndSheddingDateBetween",
+                () -> sheddingLogRepository.findByReptileIdAndSheddingDateBetweenOrderBySheddingDateDesc(reptileId, FROM, TO));
+        queries.put("SheddingLog.findTopByReptileId", () -> sheddingLogRepository.findTopByReptileIdOrderBySheddingDateDesc(reptileId));
+        queries.put("SheddingLog.countByReptileId", () -> sheddingLogRepository.countByReptileId(reptileId));
+        queries.put("SheddingLog.findAteShedByReptileId", () -> sheddingLogRepository.findAteShedByReptileId(reptileId));
+        queries.put("SheddingLog.getStatisticsByReptileId", () -> sheddingLogRepository.getStatisticsByReptileId(reptileId));
+        queries.put("SheddingLog.streamByReptileId", () -> {
+            try (Stream<?> logs = sheddingLogRepository.streamByReptileIdOrderBySheddingDateAscIdAsc(reptileId)) {
+                logs.count();
+            }
+        });
+        conditions.put("SheddingLog.findByIdAndUserId", IndexCondition.on("shedding_logs_pkey", "id"));
+        conditions.put("SheddingLog.findPageByReptileId",
+                IndexCondition.on("idx_shedding_logs_reptile_date", "reptile_id", "shedding_date"));
+        conditions.put("SheddingLog.findByReptileIdAndSheddingDateBetween",
+                IndexCondition.on("idx_shedding_logs_reptile_date", "reptile_id", "shedding_date"));
+
+        queries.put("PoopLog.findByIdAndUserId", () -> poopLogRepository.findByIdAndUserId(poopLogId, userId));
+        queries.put("PoopLog.findByReptileId", () -> poopLogRepository.findByReptileIdOrderByPoopDateDesc(reptileId));
+        queries.put("PoopLog.findPageByReptileId",
+                () -> poopLogRepository.findPageByReptileId(reptileId, TO, Long.MAX_VALUE, Limit.of(50)));
+        queries.put("PoopLog.findByReptileIdAndPoopDateBetween",
+                () -> poopLogRepository.findByReptileIdAndPoopDateBetweenOrderByPoopDateDesc(reptileId, FROM, TO));
+        queries.put("PoopLog.findTopByReptileId", () -> poopLogRepository.findTopByReptileIdOrderByPoopDateDesc(reptileId));
+        queries.put("PoopLog.countByReptileId", () -> poopLogRepository.countByReptileId(reptileId));
+        queries.put("PoopLog.findWithParasitesByReptileId", () -> poopLogRepository.findWithParasitesByReptileId(reptileId));
+        queries.put("PoopLog.getStatisticsByReptileId", () -> poopLogRepository.getStatisticsByReptileId(reptileId));
+        queries.put("PoopLog.streamByReptileId", () -> {
+            try (Stream<?> logs = poopLogRepository.streamByReptileIdOrderByPoopDateAscIdAsc(reptileId)) {
+                logs.count();
+            }
+        });
+        conditions.put("PoopLog.findByIdAndUserId", IndexCondition.on("poop_logs_pkey", "id"));
+        conditions.put("PoopLog.findPageByReptileId",
+                IndexCondition.on("idx_poop_logs_reptile_date", "reptile_id", "poop_date"));
+        conditions.put("PoopLog.findByReptileIdAndPoopDateBetween",
+                IndexCondition.on("idx_poop_logs_reptile_date", "reptile_id", "poop_date"));
+
+        queries.put("EnclosureCleaning.findByIdAndUserId", () -> enclosureCleaningRepository.findByIdAndUserId(cleaningId, userId));
+        queries.put("EnclosureCleaning.findByEnclosureId",
+                () -> enclosureCleaningRepository.findByEnclosureIdOrderByCleaningDateDesc(enclosureId));
+        queries.put("EnclosureCleaning.findPageByEnclosureId",
+                () -> enclosureCleaningRepository.findPageByEnclosureId(enclosureId, TO, Long.MAX_VALUE, Limit.of(50)));
+        queries.put("EnclosureCleaning.findByEnclosureIdAndCleaningDateBetween",
+                () -> enclosureCleaningRepository.findByEnclosureIdAndCleaningDateBetweenOrderByCleaningDateDesc(enclosureId, FROM, TO));
+        queries.put("EnclosureCleaning.findTopByEnclosureId",
+                () -> enclosureCleaningRepository.findTopByEnclosureIdOrderByCleaningDateDesc(enclosureId));
+        queries.put("EnclosureCleaning.countByEnclosureId", () -> enclosureCleaningRepository.countByEnclosureId(enclosureId));
+        queries.put("EnclosureCleaning.findDisinfectionsByEnclosureId",
+                () -> enclosureCleaningRepository.findDisinfectionsByEnclosureId(enclosureId));
+        queries.put("EnclosureCleaning.findSubstrateChangesByEnclosureId",
+                () -> enclosureCleaningRepository.findSubstrateChangesByEnclosureId(enclosureId));
+        queries.put("EnclosureCleaning.getStatisticsByEnclosureId",
+                () -> enclosureCleaningRepository.getStatisticsByEnclosureId(enclosureId));
+        queries.put("EnclosureCleaning.streamByEnclosureId", () -> {
+            try (Stream<?> logs = enclosureCleaningRepository.streamByEnclosureIdOrderByCleaningDateAscIdAsc(enclosureId)) {
+                logs.count();
+            }
+        });
+        conditions.put("EnclosureCleaning.findByIdAndUserId", IndexCondition.on("enclosure_cleanings_pkey", "id"));
+        conditions.put("EnclosureCleaning.findPageByEnclosureId",
+                IndexCondition.on("idx_enclosure_cleanings_enclosure_date", "enclosure_id", "cleaning_date"));
+        conditions.put("EnclosureCleaning.findByEnclosureIdAndCleaningDateBetween",
+                IndexCondition.on("idx_enclosure_cleanings_enclosure_date", "enclosure_id", "cleaning_date"));
+
+        queries.put("Reptile.findByUserId", () -> reptileRepository.findByUserId(userId));
+        queries.put("Reptile.findByIdAndUserId", () -> reptileRepository.findByIdAndUserId(reptileId, userId));
+        queries.put("Reptile.existsByIdAndUserId", () -> reptileRepository.existsByIdAndUserId(reptileId, userId));
+        queries.put("Reptile.findByUserIdAndStatus",
+                () -> reptileRepository.findByUserIdAndStatus(userId, Reptile.ReptileStatus.ACTIVE));
+        queries.put("Reptile.countByUserId", () -> reptileRepository.countByUserId(userId));
+        queries.put("Reptile.countByUserIdAndStatus",
+                () -> reptileRepository.countByUserIdAndStatus(userId, Reptile.ReptileStatus.ACTIVE));
+        queries.put("Reptile.findByUserIdAndSpeciesContainingIgnoreCase",
+                () -> reptileRepository.findByUserIdAndSpeciesContainingIgnoreCase(userId, "regius"));
+        queries.put("Reptile.findByUserIdAndNameContainingIgnoreCase",
+                () -> reptileRepository.findByUserIdAndNameContainingIgnoreCase(userId, "plan"));
+        queries.put("Reptile.findByUserIdAndEnclosureId", () -> reptileRepository.findByUserIdAndEnclosureId(userId, enclosureId));
+        queries.put("Reptile.findByEnclosureId", () -> reptileRepository.findByEnclosureId(enclosureId));
+        queries.put("Reptile.findIdsByUserId", () -> reptileRepository.findIdsByUserId(userId));
+        queries.put("Reptile.findNamesByUserId", () -> reptileRepository.findNamesByUserId(userId));
+        queries.put("Reptile.findDashboardByUserId", () -> reptileRepository.findDashboardByUserId(userId));
+        queries.put("Reptile.getStatisticsByUserId", () -> reptileRepository.getStatisticsByUserId(userId));
+        queries.put("Reptile.streamByUserId", () -> {
+            try (Stream<?> reptiles = reptileRepository.streamByUserIdOrderByIdAsc(userId)) {
+                reptiles.count();
+            }
+        });
+        conditions.put("Reptile.findByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Reptile.findByIdAndUserId", IndexCondition.on("reptiles_pkey", "id"));
+        conditions.put("Reptile.existsByIdAndUserId", IndexCondition.on("reptiles_pkey", "id"));
+        conditions.put("Reptile.findByUserIdAndStatus", IndexCondition.on("idx_reptiles_user_status", "user_id", "status"));
+        conditions.put("Reptile.countByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Reptile.countByUserIdAndStatus", IndexCondition.on("idx_reptiles_user_status", "user_id", "status"));
+        conditions.put("Reptile.findByUserIdAndEnclosureId",
+                IndexCondition.on("idx_reptiles_user_enclosure", "user_id", "enclosure_id"));
+        conditions.put("Reptile.findByEnclosureId", IndexCondition.on("idx_reptiles_enclosure_id", "enclosure_id"));
+        conditions.put("Reptile.findIdsByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Reptile.findNamesByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Reptile.getStatisticsByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Reptile.streamByUserId", new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+
+        queries.put("Enclosure.findByUserId", () -> enclosureRepository.findByUserId(userId));
+        queries.put("Enclosure.findByIdAndUserId", () -> enclosureRepository.findByIdAndUserId(enclosureId, userId));
+        queries.put("Enclosure.existsByIdAndUserId", () -> enclosureRepository.existsByIdAndUserId(enclosureId, userId));
+        queries.put("Enclosure.findByUserIdAndType",
+                () -> enclosureRepository.findByUserIdAndType(userId, Enclosure.EnclosureType.TERRARIUM));
+        queries.put("Enclosure.countByUserId", () -> enclosureRepository.countByUserId(userId));
+        queries.put("Enclosure.countByUserIdAndType",
+                () -> enclosureRepository.countByUserIdAndType(userId, Enclosure.EnclosureType.TERRARIUM));
+        queries.put("Enclosure.findByUserIdAndNameContainingIgnoreCase",
+                () -> enclosureRepository.findByUserIdAndNameContainingIgnoreCase(userId, "plan"));
+        queries.put("Enclosure.findOccupiedEnclosureIdsByUserId", () -> enclosureRepository.findOccupiedEnclosureIdsByUserId(userId));
+        queries.put("Enclosure.findEmptyEnclosuresByUserId", () -> enclosureRepository.findEmptyEnclosuresByUserId(userId));
+        queries.put("Enclosure.getStatisticsByUserId", () -> enclosureRepository.getStatisticsByUserId(userId));
+        queries.put("Enclosure.findIdsByUserId", () -> enclosureRepository.findIdsByUserId(userId));
+        queries.put("Enclosure.streamByUserId", () -> {
+            try (Stream<?> enclosures = enclosureRepository.streamByUserIdOrderByIdAsc(userId)) {
+                enclosures.count();
+            }
+        });
+        conditions.put("Enclosure.findByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+        conditions.put("Enclosure.findByIdAndUserId", IndexCondition.on("enclosures_pkey", "id"));
+        conditions.put("Enclosure.existsByIdAndUserId", IndexCondition.on("enclosures_pkey", "id"));
+        conditions.put("Enclosure.findByUserIdAndType", IndexCondition.on("idx_enclosures_user_type", "user_id", "type"));
+        conditions.put("Enclosure.countByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+        conditions.put("Enclosure.countByUserIdAndType", IndexCondition.on("idx_enclosures_user_type", "user_id", "type"));
+        conditions.put("Enclosure.findOccupiedEnclosureIdsByUserId",
+                new IndexCondition(REPTILE_USER_INDEXES, List.of("user_id")));
+        conditions.put("Enclosure.findEmptyEnclosuresByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+        conditions.put("Enclosure.getStatisticsByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+        conditions.put("Enclosure.findIdsByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+        conditions.put("Enclosure.streamByUserId", IndexCondition.on("idx_enclosures_user_type", "user_id"));
+
+        queries.put("CareDue.findDueByUserId",
+                () -> careDueRepository.findDueByUserId(userId, TO, TO.plusDays(7), 10, 7, 14, 50));
+
+        return queries.entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(),
+                        () -> assertPlans(query.getValue(), conditions.get(query.getKey()))));
+    }
+
+    private Long firstLogId(String table, String ownerColumn, Long ownerId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM " + table + " WHERE " + ownerColumn + " = ?", Long.class, ownerId);
+    }
+
+    /**
+     * Fails on a sequential scan of a checked table in any statement of the query and, if a
+     * condition is given, unless one of the statements reaches the expected index through it.
+     */
+    private void assertPlans(Runnable query, IndexCondition condition) {
+        List<String> statements = capture(query);
+        assertThat(statements).as("captured statements").isNotEmpty();
+
+        boolean conditionMet = condition == null;
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statements) {
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class);
+            String planText = String.join("\n", plan);
+            plans.append(sql).append("\n\n").append(planText).append("\n\n");
+            Matcher scan = SEQ_SCAN.matcher(planText);
+            while (scan.find()) {
+                assertThat(CHECKED_TABLES).as("plan of%n%s%n%n%s", sql, planText).doesNotContain(scan.group(1));
+            }
+            conditionMet |= condition != null && condition.isMetBy(plan);
+        }
+        assertThat(conditionMet).as("%s in the plans of%n%s", condition, plans).isTrue();
+    }
+
+    /**
+     * Runs the query in a read-only transaction, which streaming queries need, and returns the
+     * statements Hibernate sent for it.
+     */
+    private List<String> capture(Runnable query) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        List<String> statements = new ArrayList<>();
+        CapturingStatementInspector.CAPTURED.set(statements);
+        try {
+            transactionTemplate.executeWithoutResult(status -> query.run());
+        } finally {
+            CapturingStatementInspector.CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * Rewrites JDBC {@code ?} placeholders into the {@code $n} parameters EXPLAIN expects.
+     * The captured statements contain no string literals with question marks.
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * An index scan of one of the given indexes, whose {@code Index Cond} constrains all the given columns.
+     */
+    private record IndexCondition(Set<String> indexes, List<String> columns) {
+
+        static IndexCondition on(String index, String... columns) {
+            return new IndexCondition(Set.of(index), List.of(columns));
+        }
+
+        boolean isMetBy(List<String> plan) {
+            for (int i = 0; i < plan.size(); i++) {
+                Matcher scan = INDEX_SCAN.matcher(plan.get(i));
+                if (scan.find() && indexes.contains(scan.group(1)) && constrainsColumns(indexCondition(plan, i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the {@code Index Cond} among the detail lines of the plan node at the given line,
+         * which end where the next node starts.
+         */
+        private static String indexCondition(List<String> plan, int node) {
+            for (int i = node + 1; i < plan.size() && !plan.get(i).contains("->"); i++) {
+                String line = plan.get(i).trim();
+                if (line.startsWith("Index Cond:")) {
+                    return line;
+                }
+            }
+            return "";
+        }
+
+        private boolean constrainsColumns(String condition) {
+            return columns.stream().allMatch(column -> Pattern.compile("\\b" + column + "\\b").matcher(condition).find());
+        }
+    }
+
+    /**
+     * Records the SQL of the calling thread while a capture is active, so statements of the
+     * schedulers running in the same context are not mixed in.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.PostgresIntegrationTest;
+import com.reptilemanagement.persistence.domain.FeedingLog;
+import com.reptilemanagement.persistence.domain.base.BaseEntity;
+import com.reptilemanagement.persistence.repository.FeedingLogRepository;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows per second of {@code saveAll} for 10k feeding logs, in one transaction each.
+ * <ul>
+ *   <li>{@code pooled}: the {@link FeedingLog} mapping, with ids allocated 50 at a time from the
+ *       sequence and the INSERTs sent in JDBC batches</li>
+ *   <li>{@code identity}: the same columns mapped with {@link GenerationType#IDENTITY}, the mapping
+ *       before V13, where Hibernate must send every INSERT on its own to read back the id</li>
+ * </ul>
+ * Both run the same repository code against the same table. Timings are logged rather than
+ * asserted; only the row counts are checked.
+ */
+@Slf4j
+@WithMockUser(username = BulkInsertBenchmarkTest.USERNAME, roles = "USER")
+class BulkInsertBenchmarkTest extends PostgresIntegrationTest {
+
+    static final String USERNAME = "bulk-insert-keeper";
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROWS = 1_000;
+    private static final LocalDateTime FIRST_FEEDING = LocalDateTime.of(2020, 1, 1, 18, 0);
+
+    @Autowired
+    private FeedingLogRepository feedingLogRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long reptileId;
+
+    @BeforeEach
+    void createReptile() {
+        jdbcTemplate.update("INSERT INTO users (username, password, email, created_at) "
+                + "VALUES (?, 'not-a-hash', ?, now()) ON CONFLICT DO NOTHING", USERNAME, USERNAME + "@example.com");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, USERNAME);
+        reptileId = jdbcTemplate.queryForObject("INSERT INTO reptiles (name, species, gender, acquisition_date, status, "
+                + "user_id, created_by, created_at) VALUES ('Bulk insert reptile', 'Python regius', 'UNKNOWN', "
+                + "CURRENT_DATE, 'ACTIVE', ?, 'seed', now()) RETURNING id", Long.class, userId);
+    }
+
+    @Test
+    void saveAllTenThousandFeedingLogs() {
+        SimpleJpaRepository<IdentityFeedingLog, Long> identityRepository =
+                new SimpleJpaRepository<>(IdentityFeedingLog.class, entityManager);
+
+        saveAll(() -> feedingLogRepository.saveAll(feedingLogs(WARMUP_ROWS)));
+        saveAll(() -> identityRepository.saveAll(identityFeedingLogs(WARMUP_ROWS)));
+        deleteFeedingLogs();
+
+        long start = System.nanoTime();
+        List<FeedingLog> pooled = saveAll(() -> feedingLogRepository.saveAll(feedingLogs(ROWS)));
+        Duration pooledTime = Duration.ofNanos(System.nanoTime() - start);
+        deleteFeedingLogs();
+
+        start = System.nanoTime();
+        List<IdentityFeedingLog> identity =
+                saveAll(() -> identityRepository.saveAll(identityFeedingLogs(ROWS)));
+        Duration identityTime = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("saveAll of {} feeding logs: identity {} rows/s, pooled and batched {} rows/s ({}x)", ROWS,
+                rowsPerSecond(identityTime), rowsPerSecond(pooledTime),
+                String.format("%.1f", (double) identityTime.toNanos() / pooledTime.toNanos()));
+
+        assertThat(pooled).hasSize(ROWS).allSatisfy(feedingLog -> assertThat(feedingLog.getId()).isNotNull());
+        assertThat(identity).hasSize(ROWS).allSatisfy(feedingLog -> assertThat(feedingLog.getId()).isNotNull());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feeding_logs WHERE reptile_id = ?",
+                Long.class, reptileId)).isEqualTo(ROWS);
+    }
+
+    /**
+     * Runs a save in its own transaction, so the timing includes the flush at commit.
+     */
+    private <T> T saveAll(Supplier<T> save) {
+        return new TransactionTemplate(transactionManager).execute(status -> save.get());
+    }
+
+    private void deleteFeedingLogs() {
+        jdbcTemplate.update("DELETE FROM feeding_logs WHERE reptile_id = ?", reptileId);
+    }
+
+    private List<FeedingLog> feedingLogs(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> {
+                    FeedingLog feedingLog = new FeedingLog();
+                    feedingLog.setReptileId(reptileId);
+                    feedingLog.setFeedingDate(FIRST_FEEDING.plusDays(i));
+                    feedingLog.setFoodType("Rat");
+                    feedingLog.setQuantity("1");
+                    feedingLog.setAte(true);
+                    return feedingLog;
+                })
+                .toList();
+    }
+
+    private List<IdentityFeedingLog> identityFeedingLogs(int rows) {
+        return feedingLogs(rows).stream().map(IdentityFeedingLog::of).toList();
+    }
+
+    private static long rowsPerSecond(Duration duration) {
+        return ROWS * 1_000_000_000L / Math.max(duration.toNanos(), 1);
+    }
+
+    /**
+     * The feeding_logs columns mapped as before V13: the id comes from the column default and is
+     * read back after each INSERT. Only used by this benchmark.
+     */
+    @Entity(name = "IdentityFeedingLog")
+    @Table(name = "feeding_logs")
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @NoArgsConstructor
+    static class IdentityFeedingLog extends BaseEntity<Long> {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private Long reptileId;
+
+        @Column(nullable = false)
+        private LocalDateTime feedingDate;
+
+        @Column(nullable = false)
+        private String foodType;
+
+        @Column(nullable = false)
+        private String quantity;
+
+        @Column(nullable = false)
+        private Boolean ate = true;
+
+        @Column(length = 500)
+        private String notes;
+
+        static IdentityFeedingLog of(FeedingLog feedingLog) {
+            IdentityFeedingLog identity = new IdentityFeedingLog();
+            identity.setReptileId(feedingLog.getReptileId());
+            identity.setFeedingDate(feedingLog.getFeedingDate());
+            identity.setFoodType(feedingLog.getFoodType());
+            identity.setQuantity(feedingLog.getQuantity());
+            identity.setAte(feedingLog.getAte());
+            identity.setNotes(feedingLog.getNotes());
+            return identity;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.PostgresIntegrationTest;
+import com.reptilemanagement.persistence.dto.SheddingLogDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDs of imported logs when the log table and its sequence are new: the first nextval of a never
+ * used sequence returns its start value, which must not be taken as the end of a full block.
+ */
+@WithMockUser(username = LogImportServiceTest.USERNAME, roles = "USER")
+class LogImportServiceTest extends PostgresIntegrationTest {
+
+    static final String USERNAME = "import-keeper";
+
+    /** More than one ID block, so both the replaced start block and a regular one are used */
+    private static final int ROWS = 60;
+    private static final LocalDateTime FIRST_SHED = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    @Autowired
+    private LogImportService logImportService;
+    @Autowired
+    private SheddingLogService sheddingLogService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reptileId;
+
+    @BeforeEach
+    void createReptileWithoutLogs() {
+        jdbcTemplate.update("INSERT INTO users (username, password, email, created_at) "
+                + "VALUES (?, 'not-a-hash', ?, now()) ON CONFLICT DO NOTHING", USERNAME, USERNAME + "@example.com");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, USERNAME);
+        reptileId = jdbcTemplate.queryForObject("INSERT INTO reptiles (name, species, gender, acquisition_date, status, "
+                + "user_id, created_by, created_at) VALUES ('Import reptile', 'Python regius', 'UNKNOWN', "
+                + "CURRENT_DATE, 'ACTIVE', ?, 'seed', now()) RETURNING id", Long.class, userId);
+        jdbcTemplate.execute("TRUNCATE shedding_logs RESTART IDENTITY");
+    }
+
+    @Test
+    void importIntoEmptyTableSkipsTheStartValue() {
+        StringBuilder csv = new StringBuilder("reptileId,sheddingDate,shedQuality\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(reptileId).append(',').append(FIRST_SHED.plusDays(30L * i)).append(",COMPLETE\n");
+        }
+
+        LogImportService.ImportResult result = logImportService.importLogs(LogImportService.ImportType.SHEDDING_LOGS,
+                LogImportService.ImportFormat.CSV, new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rowsImported()).isEqualTo(ROWS);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM shedding_logs ORDER BY id", Long.class);
+        assertThat(ids).hasSize(ROWS).doesNotHaveDuplicates().allSatisfy(id -> assertThat(id).isPositive());
+
+        SheddingLogDto saved = new SheddingLogDto();
+        saved.setReptileId(reptileId);
+        saved.setSheddingDate(FIRST_SHED.minusDays(30));
+        saved.setShedQuality("COMPLETE");
+        assertThat(sheddingLogService.createSheddingLog(saved).getId()).isNotIn(ids);
+    }
+}
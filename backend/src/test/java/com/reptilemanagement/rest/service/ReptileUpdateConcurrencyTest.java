@@ -0,0 +1,184 @@
+package com.reptilemanagement.rest.service;
+
+import com.reptilemanagement.PostgresIntegrationTest;
+import com.reptilemanagement.persistence.dto.ReptileDto;
+import com.reptilemanagement.security.AuthenticatedUser;
+import com.reptilemanagement.security.RoleConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent edits of the same reptile through {@link ReptileService#updateReptile}: whichever
+ * update commits first wins, every other update read at the same version fails with an optimistic
+ * locking failure (409), and clients that reload and retry lose none of their changes.
+ */
+class ReptileUpdateConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private ReptileService reptileService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthenticatedUser keeper;
+    private Long reptileId;
+
+    @BeforeEach
+    void createReptile() {
+        String username = "concurrency-keeper";
+        jdbcTemplate.update("INSERT INTO users (username, password, email, created_at) "
+                + "VALUES (?, 'not-a-hash', ?, now()) ON CONFLICT DO NOTHING", username, username + "@example.com");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+        keeper = new AuthenticatedUser(userId, username, "", 0, List.of(new SimpleGrantedAuthority(RoleConstants.USER)));
+        reptileId = jdbcTemplate.queryForObject("INSERT INTO reptiles (name, species, gender, acquisition_date, "
+                + "status, user_id, created_by, created_at) VALUES ('Concurrency reptile', 'Python regius', 'UNKNOWN', "
+                + "CURRENT_DATE, 'ACTIVE', ?, 'seed', now()) RETURNING id", Long.class, userId);
+        authenticate();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        ReptileDto first = reptileService.getReptileById(reptileId).orElseThrow();
+        ReptileDto second = reptileService.getReptileById(reptileId).orElseThrow();
+
+        first.setNotes("first");
+        assertThat(reptileService.updateReptile(reptileId, first)).isPresent();
+
+        second.setNotes("second");
+        assertThatThrownBy(() -> reptileService.updateReptile(reptileId, second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(reptileService.getReptileById(reptileId).orElseThrow().getNotes()).isEqualTo("first");
+    }
+
+    @Test
+    void parallelUpdatesOfTheSameVersionHaveExactlyOneWinner() throws Exception {
+        ReptileDto read = reptileService.getReptileById(reptileId).orElseThrow();
+
+        List<Future<?>> results = runConcurrently(writer -> () -> {
+            ReptileDto update = copyOf(read);
+            update.setNotes("writer " + writer);
+            return reptileService.updateReptile(reptileId, update).orElseThrow();
+        });
+
+        int succeeded = 0;
+        int conflicted = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+                conflicted++;
+            }
+        }
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(conflicted).isEqualTo(WRITERS - 1);
+        assertThat(reptileService.getReptileById(reptileId).orElseThrow().getVersion())
+                .isEqualTo(read.getVersion() + 1);
+    }
+
+    @Test
+    void retryingWritersLoseNoUpdates() throws Exception {
+        List<Future<?>> results = runConcurrently(writer -> () -> {
+            while (true) {
+                ReptileDto current = reptileService.getReptileById(reptileId).orElseThrow();
+                String notes = current.getNotes() == null ? "" : current.getNotes();
+                current.setNotes(notes + "[" + writer + "]");
+                try {
+                    return reptileService.updateReptile(reptileId, current).orElseThrow();
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    // Reload and apply the change again, as a client does after a 409
+                }
+            }
+        });
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        ReptileDto reptile = reptileService.getReptileById(reptileId).orElseThrow();
+        IntStream.range(0, WRITERS).forEach(writer -> assertThat(reptile.getNotes()).contains("[" + writer + "]"));
+        assertThat(reptile.getVersion()).isEqualTo((long) WRITERS);
+    }
+
+    private interface Writer {
+        Callable<?> task(int writer);
+    }
+
+    /**
+     * Starts every writer's task at the same moment, each on its own thread as the current user.
+     */
+    private List<Future<?>> runConcurrently(Writer writers) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < WRITERS; writer++) {
+                Callable<?> task = writers.task(writer);
+                results.add(executor.submit(() -> {
+                    authenticate();
+                    try {
+                        start.await();
+                        return task.call();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+        return results;
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(keeper, null, keeper.getAuthorities()));
+    }
+
+    private static ReptileDto copyOf(ReptileDto reptile) {
+        ReptileDto copy = new ReptileDto();
+        copy.setId(reptile.getId());
+        copy.setVersion(reptile.getVersion());
+        copy.setName(reptile.getName());
+        copy.setSpecies(reptile.getSpecies());
+        copy.setSubspecies(reptile.getSubspecies());
+        copy.setGender(reptile.getGender());
+        copy.setBirthDate(reptile.getBirthDate());
+        copy.setAcquisitionDate(reptile.getAcquisitionDate());
+        copy.setEnclosureId(reptile.getEnclosureId());
+        copy.setStatus(reptile.getStatus());
+        copy.setNotes(reptile.getNotes());
+        copy.setHighlightImageId(reptile.getHighlightImageId());
+        copy.setFeedingIntervalDays(reptile.getFeedingIntervalDays());
+        return copy;
+    }
+}
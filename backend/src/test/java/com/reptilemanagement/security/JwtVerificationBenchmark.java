@@ -0,0 +1,97 @@
+package com.reptilemanagement.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * <ul>
+ *   <li>{@code parseTwice}: the old filter, which built a new parser and checked the signature once
+ *       to validate the token and again to read the username</li>
+ *   <li>{@code verifyUncached}: a single parse with the shared parser and the cache disabled</li>
+ *   <li>{@code verifyCached}: repeat requests answered from the verified token cache</li>
+ * </ul>
+ * All benchmarks run on several threads, so contention in the cache shows up as well.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.reptilemanagement.security.JwtVerificationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final long ACCESS_EXPIRATION = TimeUnit.MINUTES.toMillis(15);
+    private static final long REFRESH_EXPIRATION = TimeUnit.DAYS.toMillis(7);
+
+    /** Number of distinct bearer tokens in rotation, i.e. concurrently active sessions */
+    @Param({"1000"})
+    public int sessions;
+
+    private SecretKey secretKey;
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        cachingProvider = new JwtTokenProvider(SECRET, ACCESS_EXPIRATION, REFRESH_EXPIRATION, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, ACCESS_EXPIRATION, REFRESH_EXPIRATION, 0);
+        tokens = IntStream.range(0, sessions)
+                .mapToObj(i -> cachingProvider.generateToken(new AuthenticatedUser((long) i, "keeper" + i, "", 0,
+                        List.of(new SimpleGrantedAuthority(RoleConstants.USER)))))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Position of a thread in the token rotation.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Benchmark
+    public String parseTwice(Cursor cursor) {
+        String token = next(cursor);
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims verifyUncached(Cursor cursor) {
+        return uncachedProvider.verify(next(cursor)).orElseThrow();
+    }
+
+    @Benchmark
+    public Claims verifyCached(Cursor cursor) {
+        return cachingProvider.verify(next(cursor)).orElseThrow();
+    }
+
+    private String next(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % tokens.length;
+        return tokens[cursor.next];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.reptilemanagement.shared.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Timers of a wheel with one second ticks started at the epoch, so a deadline of n seconds is
+ * tick n: level 0 covers ticks up to 63, level 1 up to 64 * 64 and level 2 up to 64^3.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, 0);
+
+    @Test
+    void timerExpiresOnItsTick() {
+        wheel.schedule("feed", 5 * TICK);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(5 * TICK - 1)).isEmpty();
+        assertThat(wheel.advance(5 * TICK)).containsExactly("feed");
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(10 * TICK)).isEmpty();
+    }
+
+    @Test
+    void cancelledTimerDoesNotExpire() {
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("feed", 5 * TICK);
+        wheel.schedule("mist", 5 * TICK);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(5 * TICK)).containsExactly("mist");
+    }
+
+    @Test
+    void expiredTimerCannotBeCancelled() {
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("feed", 5 * TICK);
+        wheel.advance(5 * TICK);
+
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advanceWithinATickExpiresNothing() {
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("feed", 5 * TICK + 500);
+
+        assertThat(timeout.getDeadlineMillis()).isEqualTo(6 * TICK);
+        assertThat(wheel.advance(5 * TICK + 200)).isEmpty();
+        assertThat(wheel.advance(5 * TICK + 700)).isEmpty();
+        assertThat(wheel.advance(6 * TICK - 1)).isEmpty();
+        assertThat(wheel.advance(6 * TICK)).containsExactly("feed");
+    }
+
+    @Test
+    void timersCascadeFromOuterLevels() {
+        long levelOne = (2 * 64 + 5) * TICK;
+        long levelTwo = (3 * 64 * 64 + 7) * TICK;
+        wheel.schedule("weigh", levelTwo);
+        wheel.schedule("clean", levelOne);
+        wheel.schedule("feed", 5 * TICK);
+
+        assertThat(wheel.advance(levelOne - TICK)).containsExactly("feed");
+        assertThat(wheel.advance(levelOne)).containsExactly("clean");
+        assertThat(wheel.advance(levelTwo - TICK)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(levelTwo)).containsExactly("weigh");
+    }
+
+    @Test
+    void expiredTimersAreReturnedEarliestFirst() {
+        wheel.schedule("clean", 70 * TICK);
+        wheel.schedule("weigh", 65 * TICK);
+        wheel.schedule("feed", 3 * TICK);
+
+        assertThat(wheel.advance(100 * TICK)).containsExactly("feed", "weigh", "clean");
+    }
+
+    @Test
+    void deadlineInThePastExpiresOnTheNextTick() {
+        HierarchicalTimingWheel<String> started = new HierarchicalTimingWheel<>(TICK, 4, 10 * TICK);
+
+        HierarchicalTimingWheel.Timeout<String> timeout = started.schedule("feed", 3 * TICK);
+
+        assertThat(timeout.getDeadlineMillis()).isEqualTo(11 * TICK);
+        assertThat(started.advance(10 * TICK + 999)).isEmpty();
+        assertThat(started.advance(11 * TICK)).containsExactly("feed");
+    }
+
+    @Test
+    void deadlineBeyondTheRangeIsRejected() {
+        assertThat(wheel.getRangeMillis()).isEqualTo(63L * 64 * 64 * 64 * TICK);
+
+        assertThatThrownBy(() -> wheel.schedule("feed", 64L * 64 * 64 * 64 * TICK))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+-- Realistic volumes for the query plan regression suite: 200 keepers with
+-- 3 enclosures and 10 reptiles each, and several years of logs per reptile,
+-- next to 2000 keepers without logs, so that the reptile and enclosure tables
+-- are large enough for a scan of the whole table to cost more than the index.
+
+INSERT INTO users (username, password, email, created_at)
+SELECT 'plan-keeper-' || u, 'not-a-hash', 'plan-keeper-' || u || '@example.com', now()
+FROM generate_series(1, 200) u;
+
+INSERT INTO enclosures (name, type, user_id, created_by, created_at)
+SELECT 'Plan enclosure ' || e, 'TERRARIUM', users.id, 'seed', now()
+FROM users, generate_series(1, 3) e
+WHERE users.username LIKE 'plan-keeper-%';
+
+INSERT INTO reptiles (name, species, gender, acquisition_date, enclosure_id, status, user_id, created_by, created_at)
+SELECT 'Plan reptile ' || r, 'Python regius', 'UNKNOWN', DATE '2020-01-01',
+       (SELECT MIN(e.id) FROM enclosures e WHERE e.user_id = users.id),
+       CASE WHEN r % 10 = 0 THEN 'DECEASED' ELSE 'ACTIVE' END, users.id, 'seed', now()
+FROM users, generate_series(1, 10) r
+WHERE users.username LIKE 'plan-keeper-%';
+
+INSERT INTO users (username, password, email, created_at)
+SELECT 'plan-neighbour-' || u, 'not-a-hash', 'plan-neighbour-' || u || '@example.com', now()
+FROM generate_series(1, 2000) u;
+
+INSERT INTO enclosures (name, type, user_id, created_by, created_at)
+SELECT 'Neighbour enclosure ' || e, 'VIVARIUM', users.id, 'seed', now()
+FROM users, generate_series(1, 3) e
+WHERE users.username LIKE 'plan-neighbour-%';
+
+INSERT INTO reptiles (name, species, gender, acquisition_date, enclosure_id, status, user_id, created_by, created_at)
+SELECT 'Neighbour reptile ' || r, 'Pogona vitticeps', 'UNKNOWN', DATE '2020-01-01',
+       (SELECT MIN(e.id) FROM enclosures e WHERE e.user_id = users.id),
+       CASE WHEN r % 10 = 0 THEN 'DECEASED' ELSE 'ACTIVE' END, users.id, 'seed', now()
+FROM users, generate_series(1, 10) r
+WHERE users.username LIKE 'plan-neighbour-%';
+
+INSERT INTO feeding_logs (reptile_id, feeding_date, food_type, quantity, ate, created_by, created_at)
+SELECT reptiles.id, TIMESTAMP '2020-01-01' + f * INTERVAL '7 days', 'Rat', '1', f % 9 <> 0, 'seed', now()
+FROM reptiles, generate_series(1, 150) f
+WHERE reptiles.name LIKE 'Plan reptile %';
+
+INSERT INTO weight_logs (reptile_id, measurement_date, weight_grams, created_by, created_at)
+SELECT reptiles.id, TIMESTAMP '2020-01-01' + w * INTERVAL '14 days', 100 + w * 5, 'seed', now()
+FROM reptiles, generate_series(1, 75) w
+WHERE reptiles.name LIKE 'Plan reptile %';
+
+INSERT INTO shedding_logs (reptile_id, shedding_date, shed_quality, ate_shed, created_by, created_at)
+SELECT reptiles.id, TIMESTAMP '2020-01-01' + s * INTERVAL '45 days', 'COMPLETE', s % 4 = 0, 'seed', now()
+FROM reptiles, generate_series(1, 25) s
+WHERE reptiles.name LIKE 'Plan reptile %';
+
+INSERT INTO poop_logs (reptile_id, poop_date, consistency, parasites_present, created_by, created_at)
+SELECT reptiles.id, TIMESTAMP '2020-01-01' + p * INTERVAL '10 days', 'NORMAL', p % 50 = 0, 'seed', now()
+FROM reptiles, generate_series(1, 100) p
+WHERE reptiles.name LIKE 'Plan reptile %';
+
+INSERT INTO enclosure_cleanings (enclosure_id, cleaning_date, cleaning_type, substrate_changed, disinfected,
+                                 created_by, created_at)
+SELECT enclosures.id, TIMESTAMP '2020-01-01' + c * INTERVAL '7 days', 'SPOT_CLEAN', c % 8 = 0, c % 4 = 0,
+       'seed', now()
+FROM enclosures, generate_series(1, 150) c
+WHERE enclosures.name LIKE 'Plan enclosure %';
+
+ANALYZE;
@@ -1,13 +1,13 @@
-import { HttpInterceptorFn, HttpErrorResponse } from '@angular/common/http';
+import { HttpInterceptorFn, HttpErrorResponse, HttpRequest } from '@angular/common/http';
 import { inject } from '@angular/core';
-import { Router } from '@angular/router';
-import { catchError, throwError } from 'rxjs';
+import { catchError, switchMap, throwError } from 'rxjs';
 import { AuthService } from '../services/auth.service';
 
 /**
  * An HTTP interceptor function that attaches a JWT bearer token to outgoing HTTP requests,
  * except for requests targeting authentication endpoints (URLs containing '/auth/').
- * Also handles authentication errors by redirecting to login on 401/403 responses.
+ * Access tokens are short-lived: on a 401/403 response the token is refreshed once and the
+ * request retried. If the refresh fails, the user is logged out and redirected to login.
  * The token is retrieved from the injected AuthService.
  *
  * @param req - The outgoing HTTP request.
@@ -16,29 +16,43 @@ import { AuthService } from '../services/auth.service';
  */
 export const authInterceptor: HttpInterceptorFn = (req, next) => {
   const authService = inject(AuthService);
-  const router = inject(Router);
-  const token = authService.getToken();
 
-  // Clone request and add authorization header if token exists and not auth endpoint
-  if (token && !req.url.includes('/auth/')) {
-    req = req.clone({
-      setHeaders: {
-        Authorization: `Bearer ${token}`
-      }
-    });
+  // Auth endpoints are never authorized with a bearer token
+  if (req.url.includes('/auth/')) {
+    return next(req);
   }
 
-  return next(req).pipe(
+  return next(withToken(req, authService.getToken())).pipe(
     catchError((error: HttpErrorResponse) => {
       // Handle authentication errors
-      if (error.status === 401 || error.status === 403) {
-        // Clear authentication state and redirect to login
+      if (error.status !== 401 && error.status !== 403) {
+        // Re-throw other errors
+        return throwError(() => error);
+      }
+
+      if (!authService.canRefresh()) {
         authService.logout();
         return throwError(() => error);
       }
 
-      // Re-throw other errors
-      return throwError(() => error);
+      // Renew the access token and retry the request once
+      return authService.refresh().pipe(
+        catchError(refreshError => {
+          // Refresh token expired or revoked: clear authentication state and redirect to login
+          authService.logout();
+          return throwError(() => refreshError);
+        }),
+        switchMap(response => next(withToken(req, response.token)))
+      );
     })
   );
 };
+
+/**
+ * Clones the request with an authorization header if a token is available.
+ */
+function withToken(req: HttpRequest<unknown>, token: string | null): HttpRequest<unknown> {
+  return token
+    ? req.clone({ setHeaders: { Authorization: `Bearer ${token}` } })
+    : req;
+}
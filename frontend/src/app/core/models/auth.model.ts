@@ -14,6 +14,8 @@ export interface AuthRequest {
 export interface AuthResponse {
   /** JWT token for authenticated requests */
   token: string;
+  /** Long-lived token used to obtain a new access token */
+  refreshToken: string;
   /** Authenticated user's username */
   username: string;
   /** Array of user roles/authorities */
@@ -1,7 +1,7 @@
 import { Injectable, signal, computed } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Router } from '@angular/router';
-import { Observable, tap } from 'rxjs';
+import { Observable, finalize, shareReplay, tap } from 'rxjs';
 import { AuthRequest, AuthResponse } from '../models/auth.model';
 
 /**
@@ -22,9 +22,13 @@ export interface AuthUser {
 export class AuthService {
   private readonly API_URL = '/api/auth';
   private readonly TOKEN_KEY = 'auth_token';
+  private readonly REFRESH_TOKEN_KEY = 'refresh_token';
   private readonly USER_KEY = 'current_user';
   private readonly ROLE_ADMIN = 'ROLE_ADMIN';
 
+  // Refresh in flight, shared by all requests that failed with an expired token
+  private refreshInFlight: Observable<AuthResponse> | null = null;
+
   // Signals for reactive state management
   isAuthenticated = signal<boolean>(this.hasToken());
   currentUser = signal<AuthUser | null>(this.getStoredUser());
@@ -46,20 +50,35 @@ export class AuthService {
   login(credentials: AuthRequest): Observable<AuthResponse> {
     return this.http.post<AuthResponse>(`${this.API_URL}/login`, credentials)
       .pipe(
-        tap(response => {
-          const user: AuthUser = {
-            username: response.username,
-            roles: response.roles
-          };
-
-          localStorage.setItem(this.TOKEN_KEY, response.token);
-          localStorage.setItem(this.USER_KEY, JSON.stringify(user));
-          this.isAuthenticated.set(true);
-          this.currentUser.set(user);
-        })
+        tap(response => this.storeSession(response))
       );
   }
 
+  /**
+   * Exchanges the stored refresh token for a new access and refresh token pair.
+   * Concurrent callers share a single refresh request.
+   * @returns Observable of AuthResponse containing the new tokens
+   */
+  refresh(): Observable<AuthResponse> {
+    if (!this.refreshInFlight) {
+      const refreshToken = localStorage.getItem(this.REFRESH_TOKEN_KEY);
+      this.refreshInFlight = this.http.post<AuthResponse>(`${this.API_URL}/refresh`, { refreshToken })
+        .pipe(
+          tap(response => this.storeSession(response)),
+          finalize(() => this.refreshInFlight = null),
+          shareReplay(1)
+        );
+    }
+    return this.refreshInFlight;
+  }
+
+  /**
+   * Checks if a refresh token is available to renew an expired access token.
+   */
+  canRefresh(): boolean {
+    return !!localStorage.getItem(this.REFRESH_TOKEN_KEY);
+  }
+
   /**
    * Logs out the current user.
    * Clears authentication data from localStorage and resets reactive state.
@@ -67,6 +86,7 @@ export class AuthService {
    */
   logout(): void {
     localStorage.removeItem(this.TOKEN_KEY);
+    localStorage.removeItem(this.REFRESH_TOKEN_KEY);
     localStorage.removeItem(this.USER_KEY);
     this.isAuthenticated.set(false);
     this.currentUser.set(null);
@@ -114,6 +134,24 @@ export class AuthService {
     }
   }
 
+  /**
+   * Stores the tokens and user information of an authentication response and updates reactive state.
+   * @private
+   * @param response - The authentication response
+   */
+  private storeSession(response: AuthResponse): void {
+    const user: AuthUser = {
+      username: response.username,
+      roles: response.roles
+    };
+
+    localStorage.setItem(this.TOKEN_KEY, response.token);
+    localStorage.setItem(this.REFRESH_TOKEN_KEY, response.refreshToken);
+    localStorage.setItem(this.USER_KEY, JSON.stringify(user));
+    this.isAuthenticated.set(true);
+    this.currentUser.set(user);
+  }
+
   /**
    * Checks if a valid token exists in localStorage.
    * @private
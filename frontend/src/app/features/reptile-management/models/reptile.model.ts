@@ -10,8 +10,12 @@ export interface Reptile {
   status: 'ACTIVE' | 'QUARANTINE' | 'DECEASED' | 'SOLD';
   notes?: string;
   highlightImageId?: number;
+  /** Days between feedings; learned from the feeding history when absent */
+  feedingIntervalDays?: number;
   createdAt: string;
   updatedAt: string;
+  /** Sent back unchanged on update; the server rejects the update if the reptile changed meanwhile */
+  version?: number;
 }
 
 export interface ReptileDetail extends Reptile {
@@ -26,6 +30,79 @@ export interface ReptileDetail extends Reptile {
   lastCleanedDate?: string;
 }
 
+/** A reptile with its latest care facts, as returned by the dashboard endpoint */
+export interface ReptileDashboardEntry {
+  reptileId: number;
+  name: string;
+  species: string;
+  status: Reptile['status'];
+  highlightImageId?: number;
+  lastFeedingDate?: string;
+  lastFoodType?: string;
+  lastFeedingAte?: boolean;
+  daysSinceFeeding?: number;
+  currentWeightGrams?: number;
+  weightDeltaGrams?: number;
+  lastWeightDate?: string;
+  lastSheddingDate?: string;
+  lastShedQuality?: string;
+  lastPoopDate?: string;
+  lastPoopConsistency?: string;
+}
+
+/** A reptile with its maintained care summary, as returned by the care summary list */
+export interface ReptileCareSummary {
+  reptileId: number;
+  name: string;
+  species: string;
+  status: Reptile['status'];
+  enclosureId?: number;
+  highlightImageId?: number;
+  lastFeedingDate?: string;
+  daysSinceFeeding?: number;
+  /** Feedings refused in a row, counted back from the latest */
+  refusalStreak: number;
+  lastSheddingDate?: string;
+  lastPoopDate?: string;
+  lastWeightDate?: string;
+  currentWeightGrams?: number;
+  /** Change against the latest weight at least 30 days older */
+  weightChange30dGrams?: number;
+  lastCleaningDate?: string;
+}
+
+export type CareSummarySort = 'last-fed' | 'last-shed' | 'weight-change' | 'refusal-streak' | 'name';
+
+/** One page of a cursor-paginated log, newest first */
+export interface CursorPage<T> {
+  items: T[];
+  /** Pass back as `cursor` to load the next page; null on the last page */
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export type SearchHitType = 'REPTILE' | 'ENCLOSURE' | 'FEEDING_LOG' | 'WEIGHT_LOG' | 'SHEDDING_LOG' | 'POOP_LOG' | 'ENCLOSURE_CLEANING';
+
+/** One ranked result of the global search */
+export interface SearchHit {
+  type: SearchHitType;
+  id: number;
+  reptileId?: number;
+  enclosureId?: number;
+  title: string;
+  snippet?: string;
+  occurredAt?: string;
+  score: number;
+}
+
+export type SuggestField = 'name' | 'species' | 'morph' | 'food-type';
+
+/** A typeahead completion with how often the value occurs */
+export interface Suggestion {
+  text: string;
+  count: number;
+}
+
 export interface FeedingLog {
   id: number;
   reptileId: number;
@@ -34,6 +111,7 @@ export interface FeedingLog {
   quantity: string;
   ate: boolean;
   notes?: string;
+  version?: number;
 }
 
 export interface WeightLog {
@@ -42,6 +120,31 @@ export interface WeightLog {
   measurementDate: string;
   weightGrams: number;
   notes?: string;
+  version?: number;
+}
+
+/** Weight curve of a reptile in chronological order */
+export interface WeightSeries {
+  points: { timestamp: string; grams: number }[];
+  /** Number of measurements in the range before downsampling */
+  sourcePoints: number;
+}
+
+/** Growth figures of a reptile; everything but the count is absent without measurements */
+export interface GrowthAnalytics {
+  reptileId: number;
+  measurementCount: number;
+  firstMeasurement?: string;
+  lastMeasurement?: string;
+  currentWeight?: number;
+  minWeight?: number;
+  maxWeight?: number;
+  /** Exponential moving average with a 30 day time constant */
+  movingAverage?: number;
+  /** Least-squares growth rate over all measurements */
+  slopeGramsPerDay?: number;
+  /** Weight on the fitted trend line at the latest measurement */
+  trendWeight?: number;
 }
 
 export type ShedQuality = 'COMPLETE' | 'PARTIAL' | 'INCOMPLETE';
@@ -53,6 +156,7 @@ export interface SheddingLog {
   shedQuality: ShedQuality;
   ateShed: boolean;
   notes?: string;
+  version?: number;
 }
 
 export type PoopConsistency = 'NORMAL' | 'RUNNY' | 'HARD' | 'WATERY';
@@ -65,6 +169,7 @@ export interface PoopLog {
   color?: string;
   parasitesPresent: boolean;
   notes?: string;
+  version?: number;
 }
 
 export type CleaningType = 'SPOT_CLEAN' | 'FULL_CLEAN' | 'WATER_CHANGE' | 'DEEP_CLEAN';
@@ -77,6 +182,7 @@ export interface EnclosureCleaning {
   substrateChanged: boolean;
   disinfected: boolean;
   notes?: string;
+  version?: number;
 }
 
 export interface Enclosure {
@@ -89,6 +195,69 @@ export interface Enclosure {
   humidity?: number;
   lighting?: string;
   notes?: string;
+  /** Days between cleanings; learned from the cleaning history when absent */
+  cleaningIntervalDays?: number;
+  version?: number;
+}
+
+/** A feeding or enclosure cleaning that is overdue or due soon */
+export interface CareTask {
+  type: 'FEEDING' | 'CLEANING';
+  /** Set for feedings */
+  reptileId?: number;
+  enclosureId?: number;
+  name: string;
+  lastDoneAt?: string;
+  intervalDays: number;
+  intervalSource: 'CONFIGURED' | 'LEARNED' | 'DEFAULT';
+  dueAt: string;
+  overdue: boolean;
+  /** Time past due in units of the interval, negative if upcoming */
+  urgency: number;
+}
+
+/** A one-off or repeating care reminder, about a reptile, an enclosure or neither */
+export interface Reminder {
+  id: number;
+  reptileId?: number;
+  enclosureId?: number;
+  title: string;
+  message?: string;
+  /** Next firing; absent once a one-off reminder has fired */
+  nextFireAt?: string;
+  /** Absent for one-off reminders */
+  repeatIntervalDays?: number;
+  active: boolean;
+  version?: number;
+}
+
+/** A fired reminder in the in-app inbox */
+export interface ReminderNotification {
+  id: number;
+  reminderId?: number;
+  reptileId?: number;
+  enclosureId?: number;
+  title: string;
+  message?: string;
+  /** When the reminder was due */
+  scheduledFor: string;
+  createdAt: string;
+  readAt?: string;
+}
+
+export type ImportType = 'feeding-logs' | 'weight-logs' | 'shedding-logs';
+
+export type ExportType = 'reptiles' | 'enclosures' | 'feeding-logs' | 'weight-logs' | 'shedding-logs' | 'poop-logs' | 'enclosure-cleanings';
+
+/** Outcome of a history import; invalid rows are skipped and listed with their line */
+export interface ImportResult {
+  rowsRead: number;
+  rowsImported: number;
+  /** Rows matching an existing log, or an earlier row, for the same reptile and date */
+  duplicatesSkipped: number;
+  rowsRejected: number;
+  /** The first 1000 rejected rows */
+  errors: { line: number; message: string }[];
 }
 
 export interface ReptileImage {
@@ -98,5 +267,14 @@ export interface ReptileImage {
   contentType: string;
   description?: string;
   size: number;
+  width?: number;
+  height?: number;
   uploadedAt: string;
-}
\ No newline at end of file
+  /** Tiny blurred preview as a data URI, shown while the image loads */
+  placeholder?: string;
+}
+
+/**
+ * Resized image variants served by the image download endpoint.
+ */
+export type ImageSize = 'thumb' | 'card' | 'full';
\ No newline at end of file
@@ -2,7 +2,7 @@ import { Component, OnInit, signal, inject, computed } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ReactiveFormsModule, FormsModule, FormBuilder, FormGroup, Validators } from '@angular/forms';
 import { ActivatedRoute, Router, RouterModule } from '@angular/router';
-import { ReptileDetail, ReptileImage, FeedingLog, SheddingLog, EnclosureCleaning, WeightLog } from '../models/reptile.model';
+import { ReptileDetail, ReptileImage, ImageSize, FeedingLog, SheddingLog, EnclosureCleaning, WeightLog } from '../models/reptile.model';
 import { ReptileService } from '../services/reptile.service';
 
 @Component({
@@ -205,8 +205,8 @@ export class ReptileDetailComponent implements OnInit {
   loadFeedingLogs(reptileId: number): void {
     this.feedingLogsLoading.set(true);
     this.reptileService.getFeedingLogs(reptileId).subscribe({
-      next: (logs) => {
-        const sorted = logs.sort((a, b) =>
+      next: (page) => {
+        const sorted = page.items.sort((a, b) =>
           new Date(b.feedingDate).getTime() - new Date(a.feedingDate).getTime()
         );
         this.feedingLogs.set(sorted);
@@ -256,7 +256,7 @@ export class ReptileDetailComponent implements OnInit {
   getHighlightImageUrl(): string | null {
     const reptile = this.reptile();
     if (!reptile?.highlightImageId) return null;
-    return this.reptileService.getImageUrl(reptile.id, reptile.highlightImageId);
+    return this.reptileService.getImageUrl(reptile.id, reptile.highlightImageId, 'thumb');
   }
 
   loadReptile(id: number): void {
@@ -374,6 +374,7 @@ export class ReptileDetailComponent implements OnInit {
       // Convert date strings to proper format
       const reptileData: Partial<ReptileDetail> = {
         ...formValue,
+        version: reptile.version,
         acquisitionDate: formValue.acquisitionDate ? new Date(formValue.acquisitionDate).toISOString().split('T')[0] : undefined,
         birthDate: formValue.birthDate ? new Date(formValue.birthDate).toISOString().split('T')[0] : undefined
       };
@@ -389,7 +390,9 @@ export class ReptileDetailComponent implements OnInit {
         },
         error: (err) => {
           this.editLoading.set(false);
-          this.error.set('Failed to update reptile. Please try again.');
+          this.error.set(err.status === 409
+            ? 'This reptile was changed elsewhere. Reload the page and apply your changes again.'
+            : 'Failed to update reptile. Please try again.');
           console.error('Error updating reptile:', err);
         }
       });
@@ -496,8 +499,8 @@ export class ReptileDetailComponent implements OnInit {
   loadSheddingLogs(reptileId: number): void {
     this.sheddingLogsLoading.set(true);
     this.reptileService.getSheddingLogs(reptileId).subscribe({
-      next: (logs) => {
-        const sorted = logs.sort((a, b) =>
+      next: (page) => {
+        const sorted = page.items.sort((a, b) =>
           new Date(b.sheddingDate).getTime() - new Date(a.sheddingDate).getTime()
         );
         this.sheddingLogs.set(sorted);
@@ -580,8 +583,8 @@ export class ReptileDetailComponent implements OnInit {
 
     this.cleaningLogsLoading.set(true);
     this.reptileService.getEnclosureCleaningLogs(enclosureId).subscribe({
-      next: (logs) => {
-        const sorted = logs.sort((a, b) =>
+      next: (page) => {
+        const sorted = page.items.sort((a, b) =>
           new Date(b.cleaningDate).getTime() - new Date(a.cleaningDate).getTime()
         );
         this.cleaningLogs.set(sorted);
@@ -654,8 +657,8 @@ export class ReptileDetailComponent implements OnInit {
   loadWeightLogs(reptileId: number): void {
     this.weightLogsLoading.set(true);
     this.reptileService.getWeightLogs(reptileId).subscribe({
-      next: (logs) => {
-        const sorted = logs.sort((a, b) =>
+      next: (page) => {
+        const sorted = page.items.sort((a, b) =>
           new Date(b.measurementDate).getTime() - new Date(a.measurementDate).getTime()
         );
         this.weightLogs.set(sorted);
@@ -797,10 +800,10 @@ export class ReptileDetailComponent implements OnInit {
     }
   }
 
-  getImageUrl(imageId: number): string {
+  getImageUrl(imageId: number, size?: ImageSize): string {
     const reptile = this.reptile();
     if (!reptile) return '';
-    return this.reptileService.getImageUrl(reptile.id, imageId);
+    return this.reptileService.getImageUrl(reptile.id, imageId, size);
   }
 
   formatFileSize(bytes: number): string {
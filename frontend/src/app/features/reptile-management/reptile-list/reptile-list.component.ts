@@ -157,7 +157,7 @@ export class ReptileListComponent implements OnInit {
     if (!reptile.highlightImageId) {
       return null;
     }
-    return this.reptileService.getImageUrl(reptile.id, reptile.highlightImageId);
+    return this.reptileService.getImageUrl(reptile.id, reptile.highlightImageId, 'card');
   }
 
   navigateToDetail(reptileId: number): void {
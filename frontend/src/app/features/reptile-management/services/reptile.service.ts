@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Reptile, ReptileDetail, FeedingLog, WeightLog, SheddingLog, PoopLog, EnclosureCleaning, Enclosure, ReptileImage } from '../models/reptile.model';
+import { Reptile, ReptileDetail, ReptileDashboardEntry, ReptileCareSummary, CareSummarySort, FeedingLog, WeightLog, SheddingLog, PoopLog, EnclosureCleaning, Enclosure, CareTask, Reminder, ReminderNotification, ReptileImage, ImageSize, ImportType, ImportResult, ExportType, CursorPage, SearchHit, Suggestion, SuggestField, WeightSeries, GrowthAnalytics } from '../models/reptile.model';
 
 @Injectable({
   providedIn: 'root'
@@ -16,6 +16,30 @@ export class ReptileService {
     return this.http.get<Reptile[]>(this.apiUrl);
   }
 
+  getDashboard(): Observable<ReptileDashboardEntry[]> {
+    return this.http.get<ReptileDashboardEntry[]>(`${this.apiUrl}/dashboard`);
+  }
+
+  getCareSummaries(sort: CareSummarySort = 'last-fed', direction: 'asc' | 'desc' = 'asc',
+                   filter: { status?: Reptile['status']; minRefusalStreak?: number; notFedForDays?: number } = {},
+                   page = 0, size = 50): Observable<ReptileCareSummary[]> {
+    let params = new HttpParams().set('sort', sort).set('direction', direction).set('page', page).set('size', size);
+    if (filter.status) params = params.set('status', filter.status);
+    if (filter.minRefusalStreak != null) params = params.set('minRefusalStreak', filter.minRefusalStreak);
+    if (filter.notFedForDays != null) params = params.set('notFedForDays', filter.notFedForDays);
+    return this.http.get<ReptileCareSummary[]>(`${this.apiUrl}/care-summary`, { params });
+  }
+
+  search(query: string, limit = 20): Observable<SearchHit[]> {
+    const params = new HttpParams().set('q', query).set('limit', limit);
+    return this.http.get<SearchHit[]>('/api/search', { params });
+  }
+
+  suggest(field: SuggestField, prefix: string, limit = 10): Observable<Suggestion[]> {
+    const params = new HttpParams().set('field', field).set('prefix', prefix).set('limit', limit);
+    return this.http.get<Suggestion[]>('/api/suggest', { params });
+  }
+
   getReptileById(id: number): Observable<ReptileDetail> {
     return this.http.get<ReptileDetail>(`${this.apiUrl}/${id}`);
   }
@@ -35,8 +59,9 @@ export class ReptileService {
   // Feeding logs
   private feedingLogUrl = '/api/feeding-logs';
 
-  getFeedingLogs(reptileId: number): Observable<FeedingLog[]> {
-    return this.http.get<FeedingLog[]>(`${this.feedingLogUrl}/reptile/${reptileId}`);
+  getFeedingLogs(reptileId: number, cursor?: string): Observable<CursorPage<FeedingLog>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+    return this.http.get<CursorPage<FeedingLog>>(`${this.feedingLogUrl}/reptile/${reptileId}`, { params });
   }
 
   addFeedingLog(log: Omit<FeedingLog, 'id'>): Observable<FeedingLog> {
@@ -54,8 +79,9 @@ export class ReptileService {
   // Weight logs
   private weightLogUrl = '/api/weight-logs';
 
-  getWeightLogs(reptileId: number): Observable<WeightLog[]> {
-    return this.http.get<WeightLog[]>(`${this.weightLogUrl}/reptile/${reptileId}`);
+  getWeightLogs(reptileId: number, cursor?: string): Observable<CursorPage<WeightLog>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+    return this.http.get<CursorPage<WeightLog>>(`${this.weightLogUrl}/reptile/${reptileId}`, { params });
   }
 
   addWeightLog(log: Omit<WeightLog, 'id'>): Observable<WeightLog> {
@@ -66,11 +92,29 @@ export class ReptileService {
     return this.http.delete<void>(`${this.weightLogUrl}/${id}`);
   }
 
+  /** Weight curve for charts, downsampled server-side to at most `points` points */
+  getWeightSeries(reptileId: number, points?: number, from?: string, to?: string): Observable<WeightSeries> {
+    let params = new HttpParams();
+    if (points) params = params.set('points', points);
+    if (from) params = params.set('from', from);
+    if (to) params = params.set('to', to);
+    return this.http.get<WeightSeries>(`${this.weightLogUrl}/reptile/${reptileId}/series`, { params });
+  }
+
+  getGrowth(reptileId: number): Observable<GrowthAnalytics> {
+    return this.http.get<GrowthAnalytics>(`${this.weightLogUrl}/reptile/${reptileId}/growth`);
+  }
+
+  getCollectionGrowth(): Observable<GrowthAnalytics[]> {
+    return this.http.get<GrowthAnalytics[]>(`${this.weightLogUrl}/growth`);
+  }
+
   // Shedding logs
   private sheddingLogUrl = '/api/shedding-logs';
 
-  getSheddingLogs(reptileId: number): Observable<SheddingLog[]> {
-    return this.http.get<SheddingLog[]>(`${this.sheddingLogUrl}/reptile/${reptileId}`);
+  getSheddingLogs(reptileId: number, cursor?: string): Observable<CursorPage<SheddingLog>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+    return this.http.get<CursorPage<SheddingLog>>(`${this.sheddingLogUrl}/reptile/${reptileId}`, { params });
   }
 
   addSheddingLog(log: Omit<SheddingLog, 'id'>): Observable<SheddingLog> {
@@ -88,8 +132,9 @@ export class ReptileService {
   // Poop logs
   private poopLogUrl = '/api/poop-logs';
 
-  getPoopLogs(reptileId: number): Observable<PoopLog[]> {
-    return this.http.get<PoopLog[]>(`${this.poopLogUrl}/reptile/${reptileId}`);
+  getPoopLogs(reptileId: number, cursor?: string): Observable<CursorPage<PoopLog>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+    return this.http.get<CursorPage<PoopLog>>(`${this.poopLogUrl}/reptile/${reptileId}`, { params });
   }
 
   addPoopLog(log: Omit<PoopLog, 'id'>): Observable<PoopLog> {
@@ -113,11 +158,64 @@ export class ReptileService {
     return this.http.get<Enclosure>(`/api/enclosures/${id}`);
   }
 
+  // Due care
+  getDueCare(horizonDays = 2, limit = 200): Observable<CareTask[]> {
+    const params = new HttpParams().set('horizonDays', horizonDays).set('limit', limit);
+    return this.http.get<CareTask[]>('/api/care/due', { params });
+  }
+
+  // Reminders
+  private reminderUrl = '/api/reminders';
+
+  getReminders(): Observable<Reminder[]> {
+    return this.http.get<Reminder[]>(this.reminderUrl);
+  }
+
+  createReminder(reminder: Omit<Reminder, 'id'>): Observable<Reminder> {
+    return this.http.post<Reminder>(this.reminderUrl, reminder);
+  }
+
+  updateReminder(id: number, reminder: Partial<Reminder>): Observable<Reminder> {
+    return this.http.put<Reminder>(`${this.reminderUrl}/${id}`, reminder);
+  }
+
+  deleteReminder(id: number): Observable<void> {
+    return this.http.delete<void>(`${this.reminderUrl}/${id}`);
+  }
+
+  getReminderInbox(unreadOnly = false, limit = 50): Observable<ReminderNotification[]> {
+    const params = new HttpParams().set('unreadOnly', unreadOnly).set('limit', limit);
+    return this.http.get<ReminderNotification[]>(`${this.reminderUrl}/inbox`, { params });
+  }
+
+  getUnreadReminderCount(): Observable<number> {
+    return this.http.get<number>(`${this.reminderUrl}/inbox/unread-count`);
+  }
+
+  markReminderNotificationRead(notificationId: number): Observable<void> {
+    return this.http.patch<void>(`${this.reminderUrl}/inbox/${notificationId}/read`, {});
+  }
+
+  // History import
+  /** Sends a CSV or NDJSON file as is; the server picks the format from the file's type */
+  importLogs(type: ImportType, file: File): Observable<ImportResult> {
+    const contentType = file.name.toLowerCase().endsWith('.csv') ? 'text/csv' : 'application/x-ndjson';
+    return this.http.post<ImportResult>(`/api/import/${type}`, file, { headers: { 'Content-Type': contentType } });
+  }
+
+  // Export
+  /** Downloads the user's data; CSV exports hold a single type */
+  exportData(format: 'ndjson' | 'csv' = 'ndjson', type: ExportType | 'all' = 'all', gzip = true): Observable<Blob> {
+    const params = new HttpParams().set('format', format).set('type', type).set('gzip', gzip);
+    return this.http.get('/api/export', { params, responseType: 'blob' });
+  }
+
   // Enclosure cleaning logs
   private cleaningLogUrl = '/api/enclosure-cleanings';
 
-  getEnclosureCleaningLogs(enclosureId: number): Observable<EnclosureCleaning[]> {
-    return this.http.get<EnclosureCleaning[]>(`${this.cleaningLogUrl}/enclosure/${enclosureId}`);
+  getEnclosureCleaningLogs(enclosureId: number, cursor?: string): Observable<CursorPage<EnclosureCleaning>> {
+    const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+    return this.http.get<CursorPage<EnclosureCleaning>>(`${this.cleaningLogUrl}/enclosure/${enclosureId}`, { params });
   }
 
   addEnclosureCleaningLog(log: Omit<EnclosureCleaning, 'id'>): Observable<EnclosureCleaning> {
@@ -170,10 +268,12 @@ export class ReptileService {
    * Gets the URL for downloading/displaying an image.
    * @param reptileId the reptile ID
    * @param imageId the image ID
+   * @param size optional resized variant; the original is returned if omitted
    * @returns the image URL
    */
-  getImageUrl(reptileId: number, imageId: number): string {
-    return `${this.apiUrl}/${reptileId}/images/${imageId}`;
+  getImageUrl(reptileId: number, imageId: number, size?: ImageSize): string {
+    const url = `${this.apiUrl}/${reptileId}/images/${imageId}`;
+    return size ? `${url}?size=${size}` : url;
   }
 
   /**